@@ -0,0 +1,270 @@
+/*****************************************************************************
+ * 
+ * Copyright 2012-2013 See AUTHORS file.
+ * 
+ * This file is part of Escape-IR.
+ * 
+ * Escape-IR is free software: you can redistribute it and/or modify
+ * it under the terms of the zlib license. See the COPYING file.
+ * 
+ *****************************************************************************/
+
+package fr.escape.android;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+
+import android.content.Context;
+import android.content.pm.PackageManager;
+import android.graphics.Bitmap;
+import android.graphics.BitmapFactory;
+import android.graphics.Canvas;
+import android.os.Environment;
+import android.util.DisplayMetrics;
+import android.os.Handler;
+import android.os.Looper;
+import android.util.Log;
+import android.widget.Toast;
+
+import fr.escape.Objects;
+import fr.escape.app.DecodeProfile;
+import fr.escape.app.Logger;
+import fr.escape.app.Platform;
+import fr.escape.app.Storage;
+import fr.escape.app.Toolkit;
+import fr.escape.graphics.Image;
+import fr.escape.graphics.Typeface;
+
+/**
+ * <p>
+ * {@link Platform} implementation for Android.
+ * 
+ */
+public final class AndroidPlatform implements Platform, Logger, Storage, Toolkit {
+	
+	private static final String TAG = AndroidPlatform.class.getSimpleName();
+	
+	private final EscapeApplication application;
+	private final Handler handler;
+	
+	/**
+	 * Decoded drawables on disk, created on first use: null until then, or if unavailable.
+	 */
+	private PixelCache pixels;
+	private boolean pixelsChecked;
+	
+	/**
+	 * Default Constructor
+	 * 
+	 * @param application Escape Application
+	 */
+	public AndroidPlatform(EscapeApplication application) {
+		this.application = Objects.requireNonNull(application);
+		this.handler = new Handler(Looper.getMainLooper());
+	}
+	
+	@Override
+	public Logger getLogger() {
+		return this;
+	}
+	
+	@Override
+	public Storage getStorage() {
+		return this;
+	}
+	
+	@Override
+	public Toolkit getToolkit() {
+		return this;
+	}
+	
+	@Override
+	public void toast(final String message) {
+		
+		// Toast can only be shown from the UI Thread
+		handler.post(new Runnable() {
+			
+			@Override
+			public void run() {
+				Toast.makeText(getContext(), message, Toast.LENGTH_LONG).show();
+			}
+			
+		});
+	}
+	
+	@Override
+	public void launchBuilder() {
+		application.startBuilderActivity();
+	}
+	
+	@Override
+	public void log(String tag, String message, Throwable throwable) {
+		Log.i(tag, message, throwable);
+	}
+	
+	@Override
+	public void error(String tag, String message, Throwable throwable) {
+		Log.e(tag, message, throwable);
+	}
+	
+	@Override
+	public void debug(String tag, String message, Throwable throwable) {
+		Log.d(tag, message, throwable);
+	}
+	
+	@Override
+	public File getScenarioStorage() {
+		return Environment.getExternalStoragePublicDirectory("EscapeIR/Scenario");
+	}
+	
+	@Override
+	public File getImageStorage() {
+		return Environment.getExternalStoragePublicDirectory(Environment.DIRECTORY_PICTURES);
+	}
+	
+	@Override
+	public InputStream openAsset(String path) throws IOException {
+		return getContext().getAssets().open(path);
+	}
+	
+	@Override
+	public Image loadImage(int id) throws IOException {
+		return loadImage(id, DecodeProfile.DEFAULT);
+	}
+	
+	@Override
+	public Image loadImage(int id, DecodeProfile profile) throws IOException {
+		
+		android.content.res.Resources resources = getContext().getResources();
+		DisplayMetrics metrics = resources.getDisplayMetrics();
+		PixelCache cache = getPixelCache();
+		
+		if(cache != null) {
+			
+			Bitmap cached = cache.get(id, profile, metrics.widthPixels, metrics.heightPixels);
+			
+			if(cached != null) {
+				return new BitmapImage(cached);
+			}
+		}
+		
+		BitmapFactory.Options options = new BitmapFactory.Options();
+		
+		if(profile.isScreen()) {
+			
+			// Read the picture size only
+			options.inJustDecodeBounds = true;
+			BitmapFactory.decodeResource(resources, id, options);
+			
+			options.inSampleSize = profile.getSampleSize(options.outWidth, options.outHeight, metrics.widthPixels, metrics.heightPixels);
+			options.inJustDecodeBounds = false;
+		}
+		
+		// Half the memory without alpha channel
+		if(profile.isOpaque()) {
+			options.inPreferredConfig = Bitmap.Config.RGB_565;
+			options.inDither = true;
+		}
+		
+		BitmapImage image = BitmapImage.create(BitmapFactory.decodeResource(resources, id, options));
+		
+		if(cache != null) {
+			cache.put(id, profile, metrics.widthPixels, metrics.heightPixels, image.getBitmap());
+		}
+		
+		return image;
+	}
+	
+	@Override
+	public Image loadImage(File file) throws IOException {
+		return BitmapImage.create(BitmapFactory.decodeFile(file.getAbsolutePath()));
+	}
+	
+	@Override
+	public Image createAtlas(Image[] images, int[] x, int[] y, int width, int height) throws IOException {
+		
+		Bitmap atlas;
+		
+		try {
+			atlas = Bitmap.createBitmap(width, height, Bitmap.Config.ARGB_8888);
+		} catch(OutOfMemoryError e) {
+			throw new IOException("Not enough memory for a "+width+"x"+height+" atlas");
+		}
+		
+		Canvas canvas = new Canvas(atlas);
+		
+		for(int i = 0; i < images.length; i++) {
+			
+			Bitmap bitmap = ((BitmapImage) images[i]).getBitmap();
+			
+			canvas.drawBitmap(bitmap, x[i], y[i], null);
+			bitmap.recycle();
+		}
+		
+		return new BitmapImage(atlas);
+	}
+	
+	@Override
+	public Image createScaledImage(Image image, int width, int height) throws IOException {
+		
+		Bitmap bitmap = ((BitmapImage) image).getBitmap();
+		
+		try {
+			return new BitmapImage(Bitmap.createScaledBitmap(bitmap, width, height, true));
+		} catch(OutOfMemoryError e) {
+			throw new IOException("Not enough memory for a "+width+"x"+height+" scaled image");
+		}
+	}
+	
+	@Override
+	public Typeface loadTypeface(int id) throws IOException {
+		
+		String path = getContext().getString(id);
+		
+		return new AndroidTypeface(path, android.graphics.Typeface.createFromAsset(getContext().getAssets(), path));
+	}
+	
+	/**
+	 * <p>
+	 * Get the cache of decoded drawables.
+	 * 
+	 * <p>
+	 * It is created on first use: the Context cannot be used while the Application is constructed.
+	 * 
+	 * @return PixelCache, or null if the application version cannot be read
+	 */
+	private synchronized PixelCache getPixelCache() {
+		
+		if(!pixelsChecked) {
+			
+			pixelsChecked = true;
+			
+			try {
+				
+				Context context = getContext();
+				
+				// Reinstalled packages keep their versionCode during development
+				long version = context.getPackageManager().getPackageInfo(context.getPackageName(), 0).versionCode;
+				version = version * 31 + new File(context.getPackageCodePath()).lastModified();
+				
+				pixels = new PixelCache(new File(context.getCacheDir(), "pixels"), version);
+				
+			} catch(PackageManager.NameNotFoundException e) {
+				Log.e(TAG, "Cannot read the application version, drawables are not cached", e);
+			}
+		}
+		
+		return pixels;
+	}
+	
+	/**
+	 * Retrieve the Android Context.
+	 * 
+	 * @return Android Context
+	 */
+	public Context getContext() {
+		return application;
+	}
+
+}
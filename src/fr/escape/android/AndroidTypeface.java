@@ -0,0 +1,50 @@
+/*****************************************************************************
+ * 
+ * Copyright 2012-2013 See AUTHORS file.
+ * 
+ * This file is part of Escape-IR.
+ * 
+ * Escape-IR is free software: you can redistribute it and/or modify
+ * it under the terms of the zlib license. See the COPYING file.
+ * 
+ *****************************************************************************/
+
+package fr.escape.android;
+
+import fr.escape.Objects;
+import fr.escape.graphics.Typeface;
+
+/**
+ * <p>
+ * A {@link Typeface} backed by an Android {@link android.graphics.Typeface}.
+ * 
+ */
+public final class AndroidTypeface implements Typeface {
+	
+	private final String name;
+	private final android.graphics.Typeface typeface;
+	
+	/**
+	 * Default Constructor
+	 * 
+	 * @param name Typeface name
+	 * @param typeface Android Typeface
+	 */
+	public AndroidTypeface(String name, android.graphics.Typeface typeface) {
+		this.name = Objects.requireNonNull(name);
+		this.typeface = Objects.requireNonNull(typeface);
+	}
+	
+	@Override
+	public String getName() {
+		return name;
+	}
+	
+	/**
+	 * @return The Android Typeface
+	 */
+	public android.graphics.Typeface getTypeface() {
+		return typeface;
+	}
+
+}
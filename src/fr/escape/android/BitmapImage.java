@@ -0,0 +1,72 @@
+/*****************************************************************************
+ * 
+ * Copyright 2012-2013 See AUTHORS file.
+ * 
+ * This file is part of Escape-IR.
+ * 
+ * Escape-IR is free software: you can redistribute it and/or modify
+ * it under the terms of the zlib license. See the COPYING file.
+ * 
+ *****************************************************************************/
+
+package fr.escape.android;
+
+import java.io.IOException;
+
+import android.graphics.Bitmap;
+
+import fr.escape.Objects;
+import fr.escape.graphics.Image;
+
+/**
+ * <p>
+ * An {@link Image} backed by an Android {@link Bitmap}.
+ * 
+ */
+public final class BitmapImage implements Image {
+	
+	private final Bitmap bitmap;
+	
+	/**
+	 * Default Constructor
+	 * 
+	 * @param bitmap Decoded Bitmap
+	 */
+	public BitmapImage(Bitmap bitmap) {
+		this.bitmap = Objects.requireNonNull(bitmap);
+	}
+	
+	/**
+	 * Wrap the result of a Bitmap decoding.
+	 * 
+	 * @param bitmap Decoded Bitmap, null if the decoding has failed
+	 * @return Image
+	 * @throws IOException If the decoding has failed
+	 */
+	static BitmapImage create(Bitmap bitmap) throws IOException {
+		
+		if(bitmap == null) {
+			throw new IOException("Cannot decode Bitmap");
+		}
+		
+		return new BitmapImage(bitmap);
+	}
+	
+	@Override
+	public int getWidth() {
+		return bitmap.getWidth();
+	}
+	
+	@Override
+	public int getHeight() {
+		return bitmap.getHeight();
+	}
+	
+	/**
+	 * @return The Android Bitmap
+	 */
+	public Bitmap getBitmap() {
+		return bitmap;
+	}
+
+}
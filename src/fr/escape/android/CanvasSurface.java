@@ -0,0 +1,370 @@
+/*****************************************************************************
+ * 
+ * Copyright 2012-2013 See AUTHORS file.
+ * 
+ * This file is part of Escape-IR.
+ * 
+ * Escape-IR is free software: you can redistribute it and/or modify
+ * it under the terms of the zlib license. See the COPYING file.
+ * 
+ *****************************************************************************/
+
+package fr.escape.android;
+
+import android.graphics.Bitmap;
+import android.graphics.Canvas;
+import android.graphics.Paint;
+import android.graphics.Rect;
+
+import fr.escape.Objects;
+import fr.escape.graphics.Font;
+import fr.escape.graphics.Image;
+import fr.escape.graphics.Stroke;
+import fr.escape.graphics.Surface;
+import fr.escape.graphics.Typeface;
+
+/**
+ * <p>
+ * A {@link Surface} which draws on an Android {@link Canvas}.
+ * 
+ * <p>
+ * The same instance is reused for every frame with {@link CanvasSurface#setCanvas(Canvas)}.
+ * 
+ * <p>
+ * The {@link Paint} is only updated when the requested state differs from the last one,
+ * so drawings grouped by state do not change it at all.
+ * 
+ * <p>
+ * Drawing does not allocate: the source and destination {@link Rect} are reused for every Image.
+ * 
+ * <p>
+ * With a {@link RotationCache}, rotated Images are drawn from pre-rotated Bitmaps instead of
+ * rotating the {@link Canvas}. With a {@link TextCache}, Strings are drawn from rasterized Bitmaps
+ * and numbers digit by digit.
+ * 
+ * <p>
+ * Images are drawn with their own opaque {@link Paint}: the Color of the last shape, text or points
+ * never changes their opacity.
+ * 
+ */
+public final class CanvasSurface implements Surface {
+	
+	private static final Paint.Style[] STYLES = Paint.Style.values();
+	private static final Paint.Join[] JOINS = Paint.Join.values();
+	private static final Paint.Cap[] CAPS = Paint.Cap.values();
+	private static final android.graphics.Typeface DEFAULT_TYPEFACE = android.graphics.Typeface.create("Arial", android.graphics.Typeface.NORMAL);
+	private static final String[] DIGITS = {"0", "1", "2", "3", "4", "5", "6", "7", "8", "9"};
+	private static final String MINUS = "-";
+	
+	private final Paint paint;
+	private final Paint imagePaint;
+	private final Rect source;
+	private final Rect destination;
+	private final RotationCache rotations;
+	private final TextCache texts;
+	private final int[] digits;
+	private Canvas canvas;
+	
+	/**
+	 * Last Paint State
+	 */
+	private int color;
+	private Typeface typeface;
+	private float textSize;
+	private Stroke stroke;
+	
+	/**
+	 * Default Constructor: rotations are applied on the Canvas, and texts drawn with the Paint.
+	 */
+	public CanvasSurface() {
+		this(null, null);
+	}
+	
+	/**
+	 * Constructor with a cache of pre-rotated Images and a cache of rasterized Strings.
+	 * 
+	 * @param rotations Rotation Cache, or null to rotate the Canvas
+	 * @param texts Text Cache, or null to draw texts with the Paint
+	 */
+	CanvasSurface(RotationCache rotations, TextCache texts) {
+		this.paint = new Paint(Paint.ANTI_ALIAS_FLAG);
+		this.imagePaint = new Paint(Paint.ANTI_ALIAS_FLAG);
+		this.source = new Rect();
+		this.destination = new Rect();
+		this.rotations = rotations;
+		this.texts = texts;
+		this.digits = new int[10];
+		this.color = paint.getColor();
+		this.typeface = null;
+		this.textSize = paint.getTextSize();
+		this.stroke = null;
+		
+		paint.setTypeface(DEFAULT_TYPEFACE);
+	}
+	
+	/**
+	 * Set the Canvas used for the next drawing.
+	 * 
+	 * @param canvas Canvas to draw on
+	 * @return This Surface
+	 */
+	public CanvasSurface setCanvas(Canvas canvas) {
+		this.canvas = canvas;
+		return this;
+	}
+	
+	/**
+	 * Release the cached Bitmaps, while nothing is drawn.
+	 */
+	void release() {
+		if(rotations != null) {
+			rotations.clear();
+		}
+		
+		if(texts != null) {
+			texts.clear();
+		}
+	}
+	
+	@Override
+	public void clear(int color) {
+		canvas.drawColor(color);
+	}
+	
+	@Override
+	public void drawImage(Image image, int x, int y, int width, int height, int srcX, int srcY, int srcWidth, int srcHeight, float angle) {
+		
+		Bitmap bitmap = ((BitmapImage) image).getBitmap();
+		
+		source.set(srcX, srcY, srcWidth, srcHeight);
+		destination.set(x, y, width, height);
+		
+		// Draw a pre-rotated Bitmap if possible
+		if(angle != 0 && rotations != null && drawRotated(bitmap, angle)) {
+			return;
+		}
+		
+		boolean updateMatrix = false;
+		
+		// Create a Rotation Matrix if we need to apply a rotation on Texture
+		if(angle != 0) {
+			
+			// Save Matrix current state
+			canvas.save();
+			updateMatrix = true;
+			
+			// Apply Rotation Matrix
+			canvas.rotate(angle, (x + width) / 2, (y + height) / 2);
+		}
+		
+		// Draw Texture on Canvas
+		canvas.drawBitmap(bitmap, source, destination, imagePaint);
+		
+		// Restore Previous Matrix
+		if(updateMatrix) {
+			canvas.restore();
+		}
+	}
+	
+	/**
+	 * <p>
+	 * Draw the source region of the Bitmap into the destination, rotated around the destination center
+	 * with the {@link RotationCache}.
+	 * 
+	 * <p>
+	 * Only possible when the scale is the same on both axis, or the rotation a half turn.
+	 * 
+	 * @param bitmap Bitmap to draw
+	 * @param angle Rotation in Degree
+	 * @return True if the Bitmap has been drawn.
+	 */
+	private boolean drawRotated(Bitmap bitmap, float angle) {
+		
+		int rounded = rotations.round(angle);
+		
+		int srcWidth = source.right - source.left;
+		int srcHeight = source.bottom - source.top;
+		int width = destination.right - destination.left;
+		int height = destination.bottom - destination.top;
+		
+		if(srcWidth <= 0 || srcHeight <= 0) {
+			return false;
+		}
+		
+		if(rounded == 0) {
+			canvas.drawBitmap(bitmap, source, destination, imagePaint);
+			return true;
+		}
+		
+		if((rounded % 180) != 0 && (width * srcHeight) != (height * srcWidth)) {
+			return false;
+		}
+		
+		Bitmap rotated = rotations.get(bitmap, source, rounded);
+		
+		if(rotated == null) {
+			return false;
+		}
+		
+		int centerX = (destination.left + destination.right) / 2;
+		int centerY = (destination.top + destination.bottom) / 2;
+		int rotatedWidth = (rotated.getWidth() * width) / srcWidth;
+		int rotatedHeight = (rotated.getHeight() * height) / srcHeight;
+		
+		destination.left = centerX - (rotatedWidth / 2);
+		destination.top = centerY - (rotatedHeight / 2);
+		destination.right = destination.left + rotatedWidth;
+		destination.bottom = destination.top + rotatedHeight;
+		
+		canvas.drawBitmap(rotated, null, destination, imagePaint);
+		
+		return true;
+	}
+	
+	@Override
+	public void drawText(String message, int x, int y, Font font, int color) {
+		drawString(message, x, y, font, color);
+	}
+	
+	@Override
+	public void drawNumber(String prefix, int value, String suffix, int x, int y, Font font, int color) {
+		
+		x = drawString(prefix, x, y, font, color);
+		
+		if(value < 0) {
+			x = drawString(MINUS, x, y, font, color);
+		}
+		
+		// Digits from the lowest, kept negative for Integer.MIN_VALUE
+		int count = 0;
+		int rest = (value < 0) ? value : -value;
+		
+		do {
+			digits[count++] = -(rest % 10);
+			rest /= 10;
+		} while(rest != 0);
+		
+		while(count > 0) {
+			x = drawString(DIGITS[digits[--count]], x, y, font, color);
+		}
+		
+		drawString(suffix, x, y, font, color);
+	}
+	
+	/**
+	 * Draw a String from the {@link TextCache} if possible, otherwise with the Paint.
+	 * 
+	 * @param message String to display
+	 * @param x Left Position X
+	 * @param y Bottom Position Y
+	 * @param font Font to use
+	 * @param color Color to use
+	 * @return Position X after the String
+	 */
+	private int drawString(String message, int x, int y, Font font, int color) {
+		
+		if(texts != null) {
+			
+			int end = texts.draw(canvas, message, x, y, getTypeface(font.getTypeface()), font, color);
+			
+			if(end != Integer.MIN_VALUE) {
+				return end;
+			}
+		}
+		
+		setColor(color);
+		
+		if(font.getTypeface() != typeface) {
+			typeface = font.getTypeface();
+			paint.setTypeface(getTypeface(typeface));
+		}
+		
+		if(font.getSize() != textSize) {
+			textSize = font.getSize();
+			paint.setTextSize(textSize);
+		}
+		
+		canvas.drawText(message, x, y, paint);
+		
+		return x + Math.round(paint.measureText(message));
+	}
+	
+	@Override
+	public void drawPoints(float[] points, int offset, int count, int size, int color) {
+		
+		setColor(color);
+		
+		// Points have their own Stroke: the next Shape sets its Stroke again
+		stroke = null;
+		paint.setStrokeWidth(size);
+		paint.setStrokeCap(Paint.Cap.SQUARE);
+		
+		canvas.drawPoints(points, offset * 2, count * 2, paint);
+	}
+	
+	@Override
+	public void drawLine(int x1, int y1, int x2, int y2, int color, Stroke stroke) {
+		setStroke(color, stroke);
+		canvas.drawLine(x1, y1, x2, y2, paint);
+	}
+	
+	@Override
+	public void drawRectangle(int x, int y, int width, int height, int color, Stroke stroke) {
+		setStroke(color, stroke);
+		canvas.drawRect(x, y, width, height, paint);
+	}
+	
+	@Override
+	public void drawCircle(int centerX, int centerY, float radius, int color, Stroke stroke) {
+		setStroke(color, stroke);
+		canvas.drawCircle(centerX, centerY, radius, paint);
+	}
+	
+	/**
+	 * Configure the Paint for Shape drawing.
+	 * 
+	 * @param color Color to use
+	 * @param stroke Stroke to use
+	 */
+	private void setStroke(int color, Stroke stroke) {
+		
+		Objects.requireNonNull(stroke);
+		setColor(color);
+		
+		if(stroke != this.stroke) {
+			this.stroke = stroke;
+			paint.setStrokeWidth(stroke.getWidth());
+			paint.setStyle(STYLES[stroke.getStyle().ordinal()]);
+			paint.setStrokeJoin(JOINS[stroke.getJoin().ordinal()]);
+			paint.setStrokeCap(CAPS[stroke.getCap().ordinal()]);
+		}
+	}
+	
+	/**
+	 * Set the Paint Color if it changed.
+	 * 
+	 * @param color Color to use
+	 */
+	private void setColor(int color) {
+		if(color != this.color) {
+			this.color = color;
+			paint.setColor(color);
+		}
+	}
+	
+	/**
+	 * Get the Android Typeface of the given {@link Typeface}.
+	 * 
+	 * @param typeface Typeface or null for the default one.
+	 * @return Android Typeface
+	 */
+	private static android.graphics.Typeface getTypeface(Typeface typeface) {
+		
+		if(typeface == null) {
+			return DEFAULT_TYPEFACE;
+		}
+		
+		return ((AndroidTypeface) typeface).getTypeface();
+	}
+
+}
@@ -32,6 +32,11 @@ public final class EscapeActivity extends Activity {
 	 */
 	private Engine engine;
 	
+	/**
+	 * View which draws the Game
+	 */
+	private GraphicsView view;
+	
 	@Override
 	protected void onCreate(Bundle savedInstanceState) {
 		super.onCreate(savedInstanceState);
@@ -44,10 +49,36 @@ public final class EscapeActivity extends Activity {
 		configureWindow();
 		
 		// Configure Content View
-		setContentView(new GraphicsView(this));
+		view = new GraphicsView(this);
+		setContentView(view);
+		
+	}
+	
+	@Override
+	public void onLowMemory() {
+		super.onLowMemory();
+		Engine.debug(TAG, "onLowMemory");
 		
+		// Rotated and text Bitmaps are drawn again when needed
+		if(view != null) {
+			view.releaseCaches();
+		}
 	}
 
+	@Override
+	protected void onResume() {
+		super.onResume();
+		Engine.debug(TAG, "onResume");
+		engine.resume(Engine.SUSPEND_PAUSED);
+	}
+	
+	@Override
+	protected void onPause() {
+		super.onPause();
+		Engine.debug(TAG, "onPause");
+		engine.suspend(Engine.SUSPEND_PAUSED);
+	}
+	
 	@Override
 	public boolean onTouchEvent(MotionEvent event) {
         return ((EscapeApplication) getApplication()).onTouchEvent(event);
@@ -11,8 +11,16 @@
 
 package fr.escape.android;
 
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+
+import fr.escape.app.Configuration;
 import fr.escape.app.Engine;
 import fr.escape.app.Input;
+import fr.escape.app.SessionRecorder;
 import fr.escape.game.Escape;
 import android.app.Activity;
 import android.app.Application;
@@ -34,6 +42,17 @@ public final class EscapeApplication extends Application {
 	 */
 	private static final String TAG = EscapeApplication.class.getSimpleName();
 	
+	/**
+	 * Developer switch: record the sessions of a debug build for a later replay
+	 */
+	private static final boolean RECORD_SESSIONS = false;
+	
+	/**
+	 * Recorded sessions kept on the device, and maximum size of one session in bytes
+	 */
+	private static final int MAX_SESSIONS = 5;
+	private static final int MAX_SESSION_SIZE = 4 * 1024 * 1024;
+	
 	/**
 	 * Escape Engine
 	 */
@@ -48,20 +67,90 @@ public final class EscapeApplication extends Application {
 	 * Default Constructor.
 	 */
 	public EscapeApplication() {
-		this.engine = new Engine(this, new Escape());
+		this.engine = new Engine(new AndroidPlatform(this), new Escape(),
+				new Configuration.Builder().setRecording(BuildConfig.DEBUG && RECORD_SESSIONS).build());
 	}
 	
 	@Override
 	public void onCreate() {
 		super.onCreate();
 		Engine.debug(TAG, "Initialize Engine");
-		engine.create(this);
+		
+		if(engine.getConfiguration().isRecording()) {
+			startRecording();
+		}
+		
+		engine.create();
 	}
 	
 	@Override
 	public void onLowMemory() {
 		super.onLowMemory();
 		Engine.error(TAG, "onLowMemory detected");
+		
+		// The Engine Looper is usually parked at this time: release right now
+		engine.getResources().release();
+	}
+	
+	/**
+	 * <p>
+	 * Record the session for a later replay on a plain Java Virtual Machine.
+	 * 
+	 * <p>
+	 * Sessions are written in the application external files, the oldest are removed
+	 * to keep at most {@link EscapeApplication#MAX_SESSIONS} of them. The session starts on
+	 * the first Screen: each Level records its scenario name when it starts.
+	 */
+	private void startRecording() {
+		
+		File directory = getExternalFilesDir("Session");
+		
+		try {
+			
+			if(directory == null || (!directory.isDirectory() && !directory.mkdirs())) {
+				throw new IOException("Cannot create directory: " + directory);
+			}
+			
+			removeOldSessions(directory);
+			
+			File file = new File(directory, "session-" + System.currentTimeMillis() + ".log");
+			
+			engine.setRecorder(new SessionRecorder(new BufferedOutputStream(new FileOutputStream(file)), "", MAX_SESSION_SIZE));
+			Engine.debug(TAG, "Record Session in " + file);
+			
+		} catch(IOException e) {
+			Engine.error(TAG, "Cannot record Session", e);
+		}
+	}
+	
+	/**
+	 * Remove the oldest sessions, to leave room for a new one.
+	 * 
+	 * @param directory Directory of the recorded sessions
+	 */
+	private static void removeOldSessions(File directory) {
+		
+		String[] names = directory.list();
+		
+		if(names == null) {
+			return;
+		}
+		
+		// Same name length until 2286: the name order is the time order
+		Arrays.sort(names);
+		
+		int count = 0;
+		
+		for(int i = names.length - 1; i >= 0; i--) {
+			if(names[i].startsWith("session-") && names[i].endsWith(".log") && ++count >= MAX_SESSIONS) {
+				
+				File file = new File(directory, names[i]);
+				
+				if(!file.delete()) {
+					Engine.error(TAG, "Cannot remove Session " + file);
+				}
+			}
+		}
 	}
 	
 	public Engine getEngine() {
@@ -108,13 +197,36 @@ public final class EscapeApplication extends Application {
 	
 	private void onTouch(MotionEvent event) {
 		tracker.addMovement(event);
-    	engine.event(new Input(event));
+    	engine.event(new Input((int) event.getX(), (int) event.getY(), getAction(event)));
 	}
 	
 	private void onTouchVelocity(MotionEvent event) {
 		tracker.addMovement(event);
     	tracker.computeCurrentVelocity(1000);
-    	engine.event(new Input(event, tracker.getXVelocity(), tracker.getYVelocity()));
+    	engine.event(new Input((int) event.getX(), (int) event.getY(), getAction(event), tracker.getXVelocity(), tracker.getYVelocity()));
+	}
+	
+	/**
+	 * Convert an Android {@link MotionEvent} action into an {@link Input.Action}.
+	 * 
+	 * @param event Android Touch Event
+	 * @return Input Action
+	 */
+	private static Input.Action getAction(MotionEvent event) {
+		switch(event.getAction()) {
+			case MotionEvent.ACTION_DOWN: {
+				return Input.Action.ACTION_DOWN;
+			}
+			case MotionEvent.ACTION_UP: {
+				return Input.Action.ACTION_UP;
+			}
+			case MotionEvent.ACTION_MOVE: {
+				return Input.Action.ACTION_MOVE;
+			}
+			default: {
+				return Input.Action.ACTION_UNKNOWN;
+			}
+		}
 	}
 	
 	private void releaseVelocityTracker() {
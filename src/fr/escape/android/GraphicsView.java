@@ -1,50 +1,67 @@
 package fr.escape.android;
 
+import fr.escape.app.Display;
 import fr.escape.app.Engine;
 import fr.escape.app.Graphics;
+import fr.escape.graphics.Rectangle;
+import fr.escape.resources.LoadingListener;
 import android.graphics.Canvas;
+import android.graphics.Rect;
 import android.util.Log;
 import android.view.SurfaceHolder;
 import android.view.SurfaceView;
 import android.view.SurfaceHolder.Callback;
 
-public final class GraphicsView extends SurfaceView implements Callback {
+public final class GraphicsView extends SurfaceView implements Callback, Display, LoadingListener {
 	
 	static final String TAG = GraphicsView.class.getSimpleName();
 	
+	private final Engine engine;
 	private Graphics graphics;
 	private Object lock;
 	private Splash splash;
+	private final CanvasSurface surface;
+	private final Rect dirty;
 	
 	private volatile boolean isVisible;
+	private volatile float progress;
 		
 	public GraphicsView(EscapeActivity activity) {
         super(activity);
         
-        graphics = activity.getEngine().getGraphics();
+        engine = activity.getEngine();
+        graphics = engine.getGraphics();
         lock = new Object();
+        dirty = new Rect();
+        surface = new CanvasSurface(new RotationCache(RotationCache.DEFAULT_STEP, RotationCache.DEFAULT_CAPACITY),
+        		new TextCache(TextCache.DEFAULT_CAPACITY));
         
         try {
-        	splash = new Splash(activity);
+        	splash = new Splash(engine.getPlatform().getToolkit());
         } catch(Exception e) {
         	Engine.error(TAG, "An error has occurred while creating Splash", e);
         }
         
         getHolder().addCallback(this);
+        engine.getResources().setLoadingListener(this);
     }
 	
+	@Override
 	public void setGraphics(Graphics graphics) {
 		synchronized(lock) {
 			this.graphics = graphics;
 		}
 	}
 	
-	public void render() {
+	@Override
+	public void render(Rectangle region) {
 		synchronized(lock) {
 			if(graphics != null) {
 				
-				Canvas canvas = getHolder().lockCanvas();
-				graphics.flush(canvas);
+				dirty.set(region.left, region.top, region.right, region.bottom);
+				
+				Canvas canvas = getHolder().lockCanvas(dirty);
+				graphics.flush((canvas != null) ? surface.setCanvas(canvas) : null);
 				
 				if(isVisible) {
 					getHolder().unlockCanvasAndPost(canvas);
@@ -65,13 +82,40 @@ public final class GraphicsView extends SurfaceView implements Callback {
 		
 		graphics.createView(this, getWidth(), getHeight());
 		isVisible = true;
+		engine.resume(Engine.SUSPEND_NO_DISPLAY);
 		
-		if(splash != null) {
-			Canvas canvas = getHolder().lockCanvas();
-			splash.render(canvas, getWidth(), getHeight());
-			getHolder().unlockCanvasAndPost(canvas);
+		renderSplash();
+		
+	}
+	
+	@Override
+	public void onProgress(int loaded, int total) {
+		
+		progress = (float) loaded / total;
+		
+		if(loaded == total) {
+			engine.getResources().setLoadingListener(null);
 		}
 		
+		renderSplash();
+	}
+	
+	/**
+	 * Render the Splash with the loading progress, if the Surface is visible and
+	 * the Resources are still loading.
+	 */
+	private void renderSplash() {
+		synchronized(lock) {
+			if(splash != null && isVisible && progress < 1.0f) {
+				
+				Canvas canvas = getHolder().lockCanvas();
+				
+				if(canvas != null) {
+					splash.render(canvas, getWidth(), getHeight(), progress);
+					getHolder().unlockCanvasAndPost(canvas);
+				}
+			}
+		}
 	}
 
 	@Override
@@ -80,8 +124,20 @@ public final class GraphicsView extends SurfaceView implements Callback {
 		Engine.debug(TAG, "Surface Destroyed");
 		
 		isVisible = false;
+		engine.suspend(Engine.SUSPEND_NO_DISPLAY);
 		graphics.destroyView();
 		
+		releaseCaches();
+		
 	}
 	
+	/**
+	 * Release the Bitmaps cached by the Surface, once the current frame is drawn.
+	 */
+	void releaseCaches() {
+		synchronized(lock) {
+			surface.release();
+		}
+	}
+
 }
@@ -0,0 +1,252 @@
+/*****************************************************************************
+ * 
+ * Copyright 2012-2013 See AUTHORS file.
+ * 
+ * This file is part of Escape-IR.
+ * 
+ * Escape-IR is free software: you can redistribute it and/or modify
+ * it under the terms of the zlib license. See the COPYING file.
+ * 
+ *****************************************************************************/
+
+package fr.escape.android;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+
+import android.graphics.Bitmap;
+
+import fr.escape.Objects;
+import fr.escape.app.DecodeProfile;
+import fr.escape.app.Engine;
+
+/**
+ * <p>
+ * A cache of decoded drawables on disk, so a launch after the first one never inflates a PNG.
+ * 
+ * <p>
+ * Each drawable is stored in its own file: a small header followed by the raw pixels of the
+ * {@link Bitmap}, in its native format. The header holds the drawable ID, the {@link DecodeProfile},
+ * the Display Screen size for screen pictures and the version of the application: a file which
+ * does not match is decoded again and replaced. Files are memory-mapped, and the pixels are
+ * copied straight into a new Bitmap.
+ * 
+ * <p>
+ * <em>This class is Thread-Safe</em>
+ * 
+ */
+final class PixelCache {
+	
+	private static final String TAG = PixelCache.class.getSimpleName();
+	
+	/**
+	 * File Format: "EIRP", then version, drawable ID, profile, screen size, Bitmap size and format.
+	 */
+	private static final int MAGIC = 0x45495250;
+	private static final int HEADER = 4 + 8 + 4 + 4 + 4 + 4 + 4 + 4 + 4 + 4;
+	
+	/**
+	 * Cached Bitmap formats
+	 */
+	private static final int FORMAT_ARGB_8888 = 0;
+	private static final int FORMAT_RGB_565 = 1;
+	
+	private final File directory;
+	private final long version;
+	
+	/**
+	 * Create a PixelCache.
+	 * 
+	 * @param directory Directory of the cache files
+	 * @param version Version of the application: files of other versions are ignored
+	 */
+	PixelCache(File directory, long version) {
+		this.directory = Objects.requireNonNull(directory);
+		this.version = version;
+	}
+	
+	/**
+	 * Read the decoded drawable from the cache.
+	 * 
+	 * @param id Drawable ID
+	 * @param profile Decode Profile of the drawable
+	 * @param screenWidth Display Screen width
+	 * @param screenHeight Display Screen height
+	 * @return Decoded Bitmap, or null if it is not in the cache
+	 */
+	Bitmap get(int id, DecodeProfile profile, int screenWidth, int screenHeight) {
+		
+		File file = getFile(id, profile);
+		
+		if(!file.isFile()) {
+			return null;
+		}
+		
+		try {
+			
+			RandomAccessFile input = new RandomAccessFile(file, "r");
+			
+			try {
+				
+				FileChannel channel = input.getChannel();
+				MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+				
+				return read(buffer, id, profile, screenWidth, screenHeight);
+				
+			} finally {
+				input.close();
+			}
+			
+		} catch(IOException e) {
+			Engine.error(TAG, "Cannot read cached drawable: "+id, e);
+		} catch(OutOfMemoryError e) {
+			Engine.error(TAG, "Not enough memory for cached drawable: "+id);
+		}
+		
+		return null;
+	}
+	
+	/**
+	 * Write the decoded drawable in the cache. Nothing is written if its format is not supported.
+	 * 
+	 * @param id Drawable ID
+	 * @param profile Decode Profile of the drawable
+	 * @param screenWidth Display Screen width
+	 * @param screenHeight Display Screen height
+	 * @param bitmap Decoded Bitmap
+	 */
+	void put(int id, DecodeProfile profile, int screenWidth, int screenHeight, Bitmap bitmap) {
+		
+		int format = getFormat(bitmap.getConfig());
+		
+		if(format < 0 || (!directory.isDirectory() && !directory.mkdirs())) {
+			return;
+		}
+		
+		File file = getFile(id, profile);
+		File temporary = new File(directory, file.getName() + ".tmp");
+		
+		int length = bitmap.getRowBytes() * bitmap.getHeight();
+		
+		try {
+			
+			RandomAccessFile output = new RandomAccessFile(temporary, "rw");
+			
+			try {
+				
+				output.setLength(HEADER + length);
+				
+				MappedByteBuffer buffer = output.getChannel().map(FileChannel.MapMode.READ_WRITE, 0, HEADER + length);
+				
+				buffer.putInt(MAGIC);
+				buffer.putLong(version);
+				buffer.putInt(id);
+				buffer.putInt(getFlags(profile));
+				buffer.putInt(getScreenWidth(profile, screenWidth));
+				buffer.putInt(getScreenHeight(profile, screenHeight));
+				buffer.putInt(bitmap.getWidth());
+				buffer.putInt(bitmap.getHeight());
+				buffer.putInt(bitmap.getRowBytes());
+				buffer.putInt(format);
+				
+				bitmap.copyPixelsToBuffer(buffer.slice());
+				buffer.force();
+				
+			} finally {
+				output.close();
+			}
+			
+			// Readers only see complete files
+			if(!temporary.renameTo(file)) {
+				throw new IOException("Cannot rename "+temporary);
+			}
+			
+		} catch(IOException e) {
+			Engine.error(TAG, "Cannot cache drawable: "+id, e);
+			temporary.delete();
+		}
+	}
+	
+	/**
+	 * Check the header and copy the pixels in a new Bitmap.
+	 * 
+	 * @return Decoded Bitmap, or null if the header does not match
+	 */
+	private Bitmap read(ByteBuffer buffer, int id, DecodeProfile profile, int screenWidth, int screenHeight) {
+		
+		if(buffer.remaining() < HEADER || buffer.getInt() != MAGIC || buffer.getLong() != version ||
+				buffer.getInt() != id || buffer.getInt() != getFlags(profile) ||
+				buffer.getInt() != getScreenWidth(profile, screenWidth) ||
+				buffer.getInt() != getScreenHeight(profile, screenHeight)) {
+			return null;
+		}
+		
+		int width = buffer.getInt();
+		int height = buffer.getInt();
+		int rowBytes = buffer.getInt();
+		int format = buffer.getInt();
+		
+		if(width <= 0 || height <= 0 || buffer.remaining() != rowBytes * height ||
+				(format != FORMAT_ARGB_8888 && format != FORMAT_RGB_565)) {
+			return null;
+		}
+		
+		Bitmap bitmap = Bitmap.createBitmap(width, height, (format == FORMAT_RGB_565) ? Bitmap.Config.RGB_565 : Bitmap.Config.ARGB_8888);
+		
+		// Another row alignment on this device
+		if(bitmap.getRowBytes() != rowBytes) {
+			bitmap.recycle();
+			return null;
+		}
+		
+		bitmap.copyPixelsFromBuffer(buffer.slice());
+		
+		return bitmap;
+	}
+	
+	/**
+	 * Get the cache file of a drawable.
+	 */
+	private File getFile(int id, DecodeProfile profile) {
+		return new File(directory, Integer.toHexString(id) + "-" + getFlags(profile) + ".pixels");
+	}
+	
+	/**
+	 * Only screen pictures depend on the Display Screen size.
+	 */
+	private static int getScreenWidth(DecodeProfile profile, int screenWidth) {
+		return profile.isScreen() ? screenWidth : 0;
+	}
+	
+	/**
+	 * Only screen pictures depend on the Display Screen size.
+	 */
+	private static int getScreenHeight(DecodeProfile profile, int screenHeight) {
+		return profile.isScreen() ? screenHeight : 0;
+	}
+	
+	private static int getFlags(DecodeProfile profile) {
+		return (profile.isOpaque() ? 1 : 0) | (profile.isScreen() ? 2 : 0);
+	}
+	
+	/**
+	 * @return Cached format of the given Bitmap Config, or -1 if not supported
+	 */
+	private static int getFormat(Bitmap.Config config) {
+		
+		if(config == Bitmap.Config.ARGB_8888) {
+			return FORMAT_ARGB_8888;
+		}
+		
+		if(config == Bitmap.Config.RGB_565) {
+			return FORMAT_RGB_565;
+		}
+		
+		return -1;
+	}
+
+}
@@ -0,0 +1,244 @@
+/*****************************************************************************
+ * 
+ * Copyright 2012-2013 See AUTHORS file.
+ * 
+ * This file is part of Escape-IR.
+ * 
+ * Escape-IR is free software: you can redistribute it and/or modify
+ * it under the terms of the zlib license. See the COPYING file.
+ * 
+ *****************************************************************************/
+
+package fr.escape.android;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import android.graphics.Bitmap;
+import android.graphics.Canvas;
+import android.graphics.Paint;
+import android.graphics.Rect;
+import android.graphics.RectF;
+
+/**
+ * <p>
+ * A cache of pre-rotated sprites, so a rotated drawing becomes a plain blit.
+ * 
+ * <p>
+ * Angles are rounded to a multiple of the given step. Each region of a {@link Bitmap} is rendered
+ * once per rounded angle, on first use, into a Bitmap large enough to hold the rotated region.
+ * When the cached Bitmaps use more memory than allowed, the least recently used are released.
+ * 
+ * <p>
+ * <b>Thread: Renderer</b>
+ * 
+ */
+final class RotationCache {
+	
+	/**
+	 * Default Cache Configuration
+	 */
+	static final int DEFAULT_STEP = 5;
+	static final int DEFAULT_CAPACITY = 4 * 1024 * 1024;
+	
+	private final int step;
+	private final int capacity;
+	private final LinkedHashMap<Key, Bitmap> entries;
+	private final Key probe;
+	private final Paint paint;
+	private final RectF target;
+	
+	private int size;
+	
+	/**
+	 * Create a RotationCache.
+	 * 
+	 * @param step Angle step in Degree, in [1, 180]
+	 * @param capacity Maximum memory used by the cached Bitmaps, in bytes
+	 */
+	RotationCache(int step, int capacity) {
+		
+		if(step < 1 || step > 180) {
+			throw new IllegalArgumentException("Step must be in [1, 180]: "+step);
+		}
+		
+		if(capacity <= 0) {
+			throw new IllegalArgumentException("Capacity must be positive");
+		}
+		
+		this.step = step;
+		this.capacity = capacity;
+		this.entries = new LinkedHashMap<Key, Bitmap>(64, 0.75f, true);
+		this.probe = new Key();
+		this.paint = new Paint(Paint.ANTI_ALIAS_FLAG | Paint.FILTER_BITMAP_FLAG);
+		this.target = new RectF();
+		this.size = 0;
+	}
+	
+	/**
+	 * Round the given angle to the nearest step.
+	 * 
+	 * @param angle Angle in Degree
+	 * @return Rounded angle in [0, 360[
+	 */
+	int round(float angle) {
+		
+		int rounded = Math.round(angle / step) * step;
+		rounded %= 360;
+		
+		if(rounded < 0) {
+			rounded += 360;
+		}
+		
+		return rounded;
+	}
+	
+	/**
+	 * <p>
+	 * Get the region of the given Bitmap rotated by the given angle around its center.
+	 * 
+	 * <p>
+	 * The returned Bitmap is centered on the region center, and is only valid until the next call.
+	 * 
+	 * @param bitmap Source Bitmap
+	 * @param region Region of the source Bitmap
+	 * @param angle Angle in Degree, rounded with {@link RotationCache#round(float)}
+	 * @return Rotated region, or null if it does not fit in the cache.
+	 */
+	Bitmap get(Bitmap bitmap, Rect region, int angle) {
+		
+		probe.set(bitmap, region, angle);
+		Bitmap rotated = entries.get(probe);
+		
+		if(rotated == null) {
+			rotated = create(bitmap, region, angle);
+		}
+		
+		return rotated;
+	}
+	
+	/**
+	 * Release every cached Bitmap.
+	 */
+	void clear() {
+		
+		for(Bitmap rotated : entries.values()) {
+			rotated.recycle();
+		}
+		
+		entries.clear();
+		size = 0;
+	}
+	
+	/**
+	 * Render a rotated region and add it in the cache.
+	 * 
+	 * @return Rotated region, or null if it does not fit in the cache.
+	 */
+	private Bitmap create(Bitmap bitmap, Rect region, int angle) {
+		
+		int width = region.right - region.left;
+		int height = region.bottom - region.top;
+		
+		double radians = Math.toRadians(angle);
+		double cos = Math.abs(Math.cos(radians));
+		double sin = Math.abs(Math.sin(radians));
+		
+		int rotatedWidth = (int) Math.ceil((width * cos) + (height * sin));
+		int rotatedHeight = (int) Math.ceil((width * sin) + (height * cos));
+		int bytes = rotatedWidth * rotatedHeight * 4;
+		
+		if(rotatedWidth <= 0 || rotatedHeight <= 0 || bytes > capacity) {
+			return null;
+		}
+		
+		evict(capacity - bytes);
+		
+		Bitmap rotated = Bitmap.createBitmap(rotatedWidth, rotatedHeight, Bitmap.Config.ARGB_8888);
+		Canvas canvas = new Canvas(rotated);
+		
+		canvas.translate(rotatedWidth / 2.0f, rotatedHeight / 2.0f);
+		canvas.rotate(angle);
+		
+		target.set(-width / 2.0f, -height / 2.0f, width / 2.0f, height / 2.0f);
+		canvas.drawBitmap(bitmap, region, target, paint);
+		
+		entries.put(new Key().set(bitmap, region, angle), rotated);
+		size += bytes;
+		
+		return rotated;
+	}
+	
+	/**
+	 * Release the least recently used Bitmaps until the cache uses at most the given memory.
+	 * 
+	 * @param limit Memory limit in bytes
+	 */
+	private void evict(int limit) {
+		
+		Iterator<Map.Entry<Key, Bitmap>> iterator = entries.entrySet().iterator();
+		
+		while(size > limit && iterator.hasNext()) {
+			
+			Bitmap rotated = iterator.next().getValue();
+			iterator.remove();
+			
+			size -= rotated.getWidth() * rotated.getHeight() * 4;
+			rotated.recycle();
+		}
+	}
+	
+	/**
+	 * <p>
+	 * Cache Key: a region of a Bitmap and a rounded angle.
+	 * 
+	 * <p>
+	 * Mutable, so a lookup does not allocate.
+	 * 
+	 */
+	private static final class Key {
+		
+		private Bitmap bitmap;
+		private int left;
+		private int top;
+		private int right;
+		private int bottom;
+		private int angle;
+		
+		Key set(Bitmap bitmap, Rect region, int angle) {
+			this.bitmap = bitmap;
+			this.left = region.left;
+			this.top = region.top;
+			this.right = region.right;
+			this.bottom = region.bottom;
+			this.angle = angle;
+			return this;
+		}
+		
+		@Override
+		public int hashCode() {
+			int hash = System.identityHashCode(bitmap);
+			hash = hash * 31 + left;
+			hash = hash * 31 + top;
+			hash = hash * 31 + right;
+			hash = hash * 31 + bottom;
+			return hash * 31 + angle;
+		}
+		
+		@Override
+		public boolean equals(Object obj) {
+			
+			if(!(obj instanceof Key)) {
+				return false;
+			}
+			
+			Key key = (Key) obj;
+			
+			return bitmap == key.bitmap && left == key.left && top == key.top &&
+					right == key.right && bottom == key.bottom && angle == key.angle;
+		}
+		
+	}
+
+}
@@ -2,10 +2,12 @@ package fr.escape.android;
 
 import java.io.IOException;
 
-import android.content.Context;
 import android.graphics.Canvas;
+import android.graphics.Color;
 import android.graphics.Paint;
+import fr.escape.app.DecodeProfile;
 import fr.escape.app.Engine;
+import fr.escape.app.Toolkit;
 import fr.escape.graphics.Texture;
 import fr.escape.resources.TextureLoader;
 
@@ -13,19 +15,37 @@ public final class Splash {
 	
 	final static String TAG = Splash.class.getSimpleName();
 	
+	/**
+	 * Progress Bar height, in pixels
+	 */
+	final static int PROGRESS_HEIGHT = 6;
+	
 	final Texture background;
+	final CanvasSurface surface;
+	final Paint paint;
 	
 	/**
 	 * Default Constructor for Splash Render
 	 * 
-	 * @param context Android Context
+	 * @param toolkit Toolkit which decodes the Splash
 	 * @throws IOException If an error has occurred
 	 */
-	public Splash(Context context) throws IOException {
-		this.background = new Texture(context.getResources(), TextureLoader.BACKGROUND_SPLASH);
+	public Splash(Toolkit toolkit) throws IOException {
+		this.background = new Texture(toolkit.loadImage(TextureLoader.BACKGROUND_SPLASH, DecodeProfile.OPAQUE_SCREEN));
+		this.surface = new CanvasSurface();
+		this.paint = new Paint();
+		this.paint.setColor(Color.WHITE);
 	}
 
-	public void render(Canvas canvas, int width, int height) {
+	/**
+	 * Render the Splash with a Progress Bar at the bottom.
+	 * 
+	 * @param canvas Canvas to draw on
+	 * @param width Canvas width
+	 * @param height Canvas height
+	 * @param progress Loading progress, between 0 and 1
+	 */
+	public void render(Canvas canvas, int width, int height, float progress) {
 		
 		Engine.log(TAG, "Render Splash");
 		
@@ -34,7 +54,11 @@ public final class Splash {
 		int srcWidth = srcX + background.getWidth();
 		int srcHeight = srcY + background.getHeight();
 		
-		background.draw(canvas, new Paint(Paint.ANTI_ALIAS_FLAG), 0, 0, width, height, srcX, srcY, srcWidth, srcHeight);
+		background.draw(surface.setCanvas(canvas), 0, 0, width, height, srcX, srcY, srcWidth, srcHeight, 0);
+		
+		if(progress > 0) {
+			canvas.drawRect(0, height - PROGRESS_HEIGHT, width * Math.min(progress, 1.0f), height, paint);
+		}
 		
 	}
 	
@@ -0,0 +1,250 @@
+/*****************************************************************************
+ * 
+ * Copyright 2012-2013 See AUTHORS file.
+ * 
+ * This file is part of Escape-IR.
+ * 
+ * Escape-IR is free software: you can redistribute it and/or modify
+ * it under the terms of the zlib license. See the COPYING file.
+ * 
+ *****************************************************************************/
+
+package fr.escape.android;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import android.graphics.Bitmap;
+import android.graphics.Canvas;
+import android.graphics.Paint;
+
+import fr.escape.graphics.Font;
+import fr.escape.graphics.Typeface;
+
+/**
+ * <p>
+ * A cache of rasterized Strings, so drawing a text becomes a plain blit.
+ * 
+ * <p>
+ * Each String is rendered once per Typeface, size and Color, on first use, into a {@link Bitmap}.
+ * When the cached Bitmaps use more memory than allowed, the least recently used are released.
+ * 
+ * <p>
+ * <b>Thread: Renderer</b>
+ * 
+ */
+final class TextCache {
+	
+	/**
+	 * Default Cache Configuration
+	 */
+	static final int DEFAULT_CAPACITY = 1024 * 1024;
+	
+	private final int capacity;
+	private final LinkedHashMap<Key, Label> entries;
+	private final Key probe;
+	private final Paint paint;
+	
+	private int size;
+	
+	/**
+	 * Create a TextCache.
+	 * 
+	 * @param capacity Maximum memory used by the cached Bitmaps, in bytes
+	 */
+	TextCache(int capacity) {
+		
+		if(capacity <= 0) {
+			throw new IllegalArgumentException("Capacity must be positive");
+		}
+		
+		this.capacity = capacity;
+		this.entries = new LinkedHashMap<Key, Label>(64, 0.75f, true);
+		this.probe = new Key();
+		this.paint = new Paint(Paint.ANTI_ALIAS_FLAG);
+		this.size = 0;
+	}
+	
+	/**
+	 * Draw a String with the left bottom corner at x,y.
+	 * 
+	 * @param canvas Canvas to draw on
+	 * @param message String to display
+	 * @param x Left Position X
+	 * @param y Bottom Position Y
+	 * @param typeface Android Typeface of the Font
+	 * @param font Font to use
+	 * @param color Color to use
+	 * @return Position X after the String, or Integer.MIN_VALUE if it does not fit in the cache.
+	 */
+	int draw(Canvas canvas, String message, int x, int y, android.graphics.Typeface typeface, Font font, int color) {
+		
+		if(message.length() == 0) {
+			return x;
+		}
+		
+		Label label = get(message, typeface, font, color);
+		
+		if(label == null) {
+			return Integer.MIN_VALUE;
+		}
+		
+		canvas.drawBitmap(label.bitmap, x, y - label.baseline, null);
+		
+		return x + label.advance;
+	}
+	
+	/**
+	 * Release every cached Bitmap.
+	 */
+	void clear() {
+		
+		for(Label label : entries.values()) {
+			label.bitmap.recycle();
+		}
+		
+		entries.clear();
+		size = 0;
+	}
+	
+	/**
+	 * Get the rasterized String.
+	 * 
+	 * @return Rasterized String, or null if it does not fit in the cache.
+	 */
+	private Label get(String message, android.graphics.Typeface typeface, Font font, int color) {
+		
+		probe.set(message, font.getTypeface(), font.getSize(), color);
+		Label label = entries.get(probe);
+		
+		if(label == null) {
+			label = create(message, typeface, font, color);
+		}
+		
+		return label;
+	}
+	
+	/**
+	 * Render a String and add it in the cache.
+	 * 
+	 * @return Rasterized String, or null if it does not fit in the cache.
+	 */
+	private Label create(String message, android.graphics.Typeface typeface, Font font, int color) {
+		
+		paint.setTypeface(typeface);
+		paint.setTextSize(font.getSize());
+		paint.setColor(color);
+		
+		Paint.FontMetrics metrics = paint.getFontMetrics();
+		
+		float advance = paint.measureText(message);
+		int baseline = (int) Math.ceil(-metrics.top);
+		
+		// Keep a pixel for anti-aliasing and slanted glyphs
+		int width = (int) Math.ceil(advance) + 1;
+		int height = baseline + (int) Math.ceil(metrics.bottom);
+		int bytes = width * height * 4;
+		
+		if(height <= 0 || bytes > capacity) {
+			return null;
+		}
+		
+		evict(capacity - bytes);
+		
+		Bitmap bitmap = Bitmap.createBitmap(width, height, Bitmap.Config.ARGB_8888);
+		Canvas canvas = new Canvas(bitmap);
+		
+		canvas.drawText(message, 0, baseline, paint);
+		
+		Label label = new Label(bitmap, baseline, Math.round(advance));
+		
+		entries.put(new Key().set(message, font.getTypeface(), font.getSize(), color), label);
+		size += bytes;
+		
+		return label;
+	}
+	
+	/**
+	 * Release the least recently used Bitmaps until the cache uses at most the given memory.
+	 * 
+	 * @param limit Memory limit in bytes
+	 */
+	private void evict(int limit) {
+		
+		Iterator<Map.Entry<Key, Label>> iterator = entries.entrySet().iterator();
+		
+		while(size > limit && iterator.hasNext()) {
+			
+			Bitmap bitmap = iterator.next().getValue().bitmap;
+			iterator.remove();
+			
+			size -= bitmap.getWidth() * bitmap.getHeight() * 4;
+			bitmap.recycle();
+		}
+	}
+	
+	/**
+	 * A rasterized String, with its baseline and its width as text.
+	 */
+	private static final class Label {
+		
+		final Bitmap bitmap;
+		final int baseline;
+		final int advance;
+		
+		Label(Bitmap bitmap, int baseline, int advance) {
+			this.bitmap = bitmap;
+			this.baseline = baseline;
+			this.advance = advance;
+		}
+		
+	}
+	
+	/**
+	 * <p>
+	 * Cache Key: a String with a Typeface, a size and a Color.
+	 * 
+	 * <p>
+	 * Mutable, so a lookup does not allocate.
+	 * 
+	 */
+	private static final class Key {
+		
+		private String message;
+		private Typeface typeface;
+		private float size;
+		private int color;
+		
+		Key set(String message, Typeface typeface, float size, int color) {
+			this.message = message;
+			this.typeface = typeface;
+			this.size = size;
+			this.color = color;
+			return this;
+		}
+		
+		@Override
+		public int hashCode() {
+			int hash = message.hashCode();
+			hash = hash * 31 + System.identityHashCode(typeface);
+			hash = hash * 31 + Float.floatToIntBits(size);
+			return hash * 31 + color;
+		}
+		
+		@Override
+		public boolean equals(Object obj) {
+			
+			if(!(obj instanceof Key)) {
+				return false;
+			}
+			
+			Key key = (Key) obj;
+			
+			return typeface == key.typeface && size == key.size &&
+					color == key.color && message.equals(key.message);
+		}
+		
+	}
+
+}
@@ -24,10 +24,43 @@ public final class Configuration {
 	private static int MIN_FPS = 20;
 	private static int MAX_FPS = 40;
 	
+	/**
+	 * World steps per frame, maximum and minimum.
+	 */
+	private static int MIN_STEPS = 1;
+	private static int MAX_STEPS = 10;
+	private static int DEFAULT_STEPS = 5;
+	
+	/**
+	 * Time budget for deferrable Runnable per frame in milliseconds, maximum and minimum.
+	 */
+	private static int MIN_TASK_BUDGET = 1;
+	private static int MAX_TASK_BUDGET = 16;
+	private static int DEFAULT_TASK_BUDGET = 4;
+	
+	/**
+	 * Memory budget for Texture pixels in KiB, minimum and default.
+	 */
+	private static int MIN_TEXTURE_BUDGET = 1024;
+	private static int DEFAULT_TEXTURE_BUDGET = 6 * 1024;
+	
+	/**
+	 * Stars of the Starfield per million pixels, maximum and minimum.
+	 */
+	private static int MIN_STAR_DENSITY = 0;
+	private static int MAX_STAR_DENSITY = 2000;
+	private static int DEFAULT_STAR_DENSITY = 300;
+	
 	/**
 	 * Environment Configuration
 	 */
 	private final int fps;
+	private final int maxSteps;
+	private final int taskBudget;
+	private final boolean profiling;
+	private final int textureBudget;
+	private final int starDensity;
+	private final boolean recording;
 	
 	/**
 	 * Default Constructor 
@@ -35,13 +68,29 @@ public final class Configuration {
 	public Configuration() {
 		this(Integer.MAX_VALUE);
 	}
+	
 	/**
-	 * Constructor with a given width, height and requested fps.
+	 * Constructor with a given requested fps.
 	 * 
 	 * @param fps Requested Frame per second
 	 */
 	public Configuration(int fps) {
-		this.fps = Math.min(Math.max(fps, MIN_FPS), MAX_FPS);
+		this(new Builder().setFps(fps));
+	}
+	
+	/**
+	 * Constructor from a {@link Builder}: values out of range are clamped.
+	 * 
+	 * @param builder Builder with the requested values
+	 */
+	private Configuration(Builder builder) {
+		this.fps = Math.min(Math.max(builder.fps, MIN_FPS), MAX_FPS);
+		this.maxSteps = Math.min(Math.max(builder.maxSteps, MIN_STEPS), MAX_STEPS);
+		this.taskBudget = Math.min(Math.max(builder.taskBudget, MIN_TASK_BUDGET), MAX_TASK_BUDGET);
+		this.profiling = builder.profiling;
+		this.textureBudget = Math.max(builder.textureBudget, MIN_TEXTURE_BUDGET);
+		this.starDensity = Math.min(Math.max(builder.starDensity, MIN_STAR_DENSITY), MAX_STAR_DENSITY);
+		this.recording = builder.recording;
 	}
 
 	/**
@@ -53,4 +102,168 @@ public final class Configuration {
 		return fps;
 	}
 	
+	/**
+	 * Get the maximum of World steps executed in one frame
+	 * 
+	 * @return Maximum World steps per frame
+	 */
+	public int getMaxStepsPerFrame() {
+		return maxSteps;
+	}
+	
+	/**
+	 * Get the time budget for deferrable Runnable in one frame
+	 * 
+	 * @return Time budget in milliseconds
+	 */
+	public int getTaskBudget() {
+		return taskBudget;
+	}
+	
+	/**
+	 * Check if each frame phase should be measured
+	 * 
+	 * @return True if the {@link FrameProfiler} is enabled
+	 */
+	public boolean isProfiling() {
+		return profiling;
+	}
+
+	/**
+	 * Get the memory budget for the pixels of large Textures
+	 * 
+	 * @return Memory budget in KiB
+	 */
+	public int getTextureBudget() {
+		return textureBudget;
+	}
+
+	/**
+	 * Get the number of stars drawn in the Starfield
+	 * 
+	 * @return Stars per million pixels of the Display Screen
+	 */
+	public int getStarDensity() {
+		return starDensity;
+	}
+
+	/**
+	 * Check if the game sessions should be recorded
+	 * 
+	 * @return True if sessions are recorded for a later replay
+	 * @see SessionRecorder
+	 */
+	public boolean isRecording() {
+		return recording;
+	}
+	
+	/**
+	 * <p>
+	 * Builder of {@link Configuration}: each value not set keeps its default.
+	 * 
+	 * <p>
+	 * <code>new Configuration.Builder().setFps(30).setProfiling(true).build()</code>
+	 * 
+	 */
+	public static final class Builder {
+		
+		private int fps = Integer.MAX_VALUE;
+		private int maxSteps = DEFAULT_STEPS;
+		private int taskBudget = DEFAULT_TASK_BUDGET;
+		private boolean profiling = false;
+		private int textureBudget = DEFAULT_TEXTURE_BUDGET;
+		private int starDensity = DEFAULT_STAR_DENSITY;
+		private boolean recording = false;
+		
+		/**
+		 * Set the requested Frame per second.
+		 * 
+		 * @param fps Requested Frame per second
+		 * @return This Builder
+		 */
+		public Builder setFps(int fps) {
+			this.fps = fps;
+			return this;
+		}
+
+		/**
+		 * Set the maximum of World steps per frame.
+		 * 
+		 * @param maxSteps Maximum World steps executed in one frame
+		 * @return This Builder
+		 */
+		public Builder setMaxStepsPerFrame(int maxSteps) {
+			this.maxSteps = maxSteps;
+			return this;
+		}
+		
+		/**
+		 * Set the time budget for deferrable Runnable.
+		 * 
+		 * @param taskBudget Time budget in milliseconds for deferrable Runnable in one frame
+		 * @return This Builder
+		 */
+		public Builder setTaskBudget(int taskBudget) {
+			this.taskBudget = taskBudget;
+			return this;
+		}
+		
+		/**
+		 * Set the frame profiling switch.
+		 * 
+		 * @param profiling Should we measure each frame phase
+		 * @return This Builder
+		 * @see FrameProfiler
+		 */
+		public Builder setProfiling(boolean profiling) {
+			this.profiling = profiling;
+			return this;
+		}
+		
+		/**
+		 * Set the memory budget for Texture pixels.
+		 * 
+		 * @param textureBudget Memory budget in KiB for the pixels of large Textures
+		 * @return This Builder
+		 * @see fr.escape.resources.Resources#require(int)
+		 */
+		public Builder setTextureBudget(int textureBudget) {
+			this.textureBudget = textureBudget;
+			return this;
+		}
+		
+		/**
+		 * Set the Starfield quality.
+		 * 
+		 * @param starDensity Number of stars per million pixels of the Display Screen
+		 * @return This Builder
+		 * @see fr.escape.graphics.Starfield
+		 */
+		public Builder setStarDensity(int starDensity) {
+			this.starDensity = starDensity;
+			return this;
+		}
+		
+		/**
+		 * Set the session recording switch: a developer option, disabled by default.
+		 * 
+		 * @param recording Should we record the game sessions
+		 * @return This Builder
+		 * @see SessionRecorder
+		 */
+		public Builder setRecording(boolean recording) {
+			this.recording = recording;
+			return this;
+		}
+		
+		/**
+		 * Create the Configuration.
+		 * 
+		 * @return Configuration with the values of this Builder
+		 */
+		public Configuration build() {
+			return new Configuration(this);
+		}
+	}
+
 }
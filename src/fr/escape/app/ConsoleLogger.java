@@ -0,0 +1,77 @@
+/*****************************************************************************
+ * 
+ * Copyright 2012-2013 See AUTHORS file.
+ * 
+ * This file is part of Escape-IR.
+ * 
+ * Escape-IR is free software: you can redistribute it and/or modify
+ * it under the terms of the zlib license. See the COPYING file.
+ * 
+ *****************************************************************************/
+
+package fr.escape.app;
+
+import java.io.PrintStream;
+
+import fr.escape.Objects;
+
+/**
+ * <p>
+ * A {@link Logger} which prints on a {@link PrintStream}.
+ * 
+ * <p>
+ * Used by the {@link Engine} until a {@link Platform} is given, and by headless platforms.
+ * 
+ */
+public final class ConsoleLogger implements Logger {
+	
+	private final PrintStream stream;
+	private final boolean verbose;
+	
+	/**
+	 * Logger on the standard error stream with debug messages.
+	 */
+	public ConsoleLogger() {
+		this(System.err, true);
+	}
+	
+	/**
+	 * Logger on the given stream.
+	 * 
+	 * @param stream Stream to print on
+	 * @param verbose Print debug messages
+	 */
+	public ConsoleLogger(PrintStream stream, boolean verbose) {
+		this.stream = Objects.requireNonNull(stream);
+		this.verbose = verbose;
+	}
+	
+	@Override
+	public void log(String tag, String message, Throwable throwable) {
+		print("I", tag, message, throwable);
+	}
+	
+	@Override
+	public void error(String tag, String message, Throwable throwable) {
+		print("E", tag, message, throwable);
+	}
+	
+	@Override
+	public void debug(String tag, String message, Throwable throwable) {
+		if(verbose) {
+			print("D", tag, message, throwable);
+		}
+	}
+	
+	private void print(String level, String tag, String message, Throwable throwable) {
+		synchronized (stream) {
+			
+			stream.println(level+"/"+tag+": "+message);
+			
+			if(throwable != null) {
+				throwable.printStackTrace(stream);
+			}
+		}
+	}
+
+}
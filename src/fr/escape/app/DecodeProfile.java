@@ -0,0 +1,106 @@
+/*****************************************************************************
+ * 
+ * Copyright 2012-2013 See AUTHORS file.
+ * 
+ * This file is part of Escape-IR.
+ * 
+ * Escape-IR is free software: you can redistribute it and/or modify
+ * it under the terms of the zlib license. See the COPYING file.
+ * 
+ *****************************************************************************/
+
+package fr.escape.app;
+
+/**
+ * <p>
+ * Hints given to the {@link Toolkit} for decoding a picture.
+ * 
+ * <p>
+ * An opaque picture has no alpha channel, so it can be decoded with less memory per pixel.
+ * A screen picture is always stretched over the whole Display Screen, so it can be subsampled
+ * while it stays larger than the Display Screen.
+ * 
+ * <p>
+ * This class is Immutable.
+ * 
+ * @see Toolkit#loadImage(int, DecodeProfile)
+ */
+public final class DecodeProfile {
+	
+	/**
+	 * Picture with transparency, kept at full resolution.
+	 */
+	public static final DecodeProfile DEFAULT = new DecodeProfile(false, false);
+	
+	/**
+	 * Opaque picture, kept at full resolution.
+	 */
+	public static final DecodeProfile OPAQUE = new DecodeProfile(true, false);
+	
+	/**
+	 * Opaque picture stretched over the whole Display Screen.
+	 */
+	public static final DecodeProfile OPAQUE_SCREEN = new DecodeProfile(true, true);
+	
+	private final boolean opaque;
+	private final boolean screen;
+	
+	/**
+	 * Default Constructor
+	 * 
+	 * @param opaque The picture has no transparency
+	 * @param screen The picture is stretched over the whole Display Screen
+	 */
+	public DecodeProfile(boolean opaque, boolean screen) {
+		this.opaque = opaque;
+		this.screen = screen;
+	}
+	
+	/**
+	 * @return True if the picture has no transparency
+	 */
+	public boolean isOpaque() {
+		return opaque;
+	}
+	
+	/**
+	 * @return True if the picture is stretched over the whole Display Screen
+	 */
+	public boolean isScreen() {
+		return screen;
+	}
+	
+	/**
+	 * <p>
+	 * Compute the subsampling factor for a picture of the given size.
+	 * 
+	 * <p>
+	 * Only a screen picture is subsampled, by a power of two, and never below the Display Screen size.
+	 * 
+	 * @param width Picture width
+	 * @param height Picture height
+	 * @param screenWidth Display Screen width, or 0 if unknown
+	 * @param screenHeight Display Screen height, or 0 if unknown
+	 * @return Subsampling factor: 1 to keep every pixel
+	 */
+	public int getSampleSize(int width, int height, int screenWidth, int screenHeight) {
+		
+		int sampleSize = 1;
+		
+		if(!screen || screenWidth <= 0 || screenHeight <= 0) {
+			return sampleSize;
+		}
+		
+		while((width / (sampleSize * 2)) >= screenWidth && (height / (sampleSize * 2)) >= screenHeight) {
+			sampleSize *= 2;
+		}
+		
+		return sampleSize;
+	}
+	
+	@Override
+	public String toString() {
+		return "DecodeProfile(opaque: " + opaque + ", screen: " + screen + ")";
+	}
+
+}
@@ -0,0 +1,47 @@
+/*****************************************************************************
+ * 
+ * Copyright 2012-2013 See AUTHORS file.
+ * 
+ * This file is part of Escape-IR.
+ * 
+ * Escape-IR is free software: you can redistribute it and/or modify
+ * it under the terms of the zlib license. See the COPYING file.
+ * 
+ *****************************************************************************/
+
+package fr.escape.app;
+
+import fr.escape.graphics.Rectangle;
+
+/**
+ * <p>
+ * A platform screen on which {@link Graphics} frames are shown.
+ * 
+ * @see Graphics#createView(Display, int, int)
+ */
+public interface Display {
+	
+	/**
+	 * Set the {@link Graphics} to flush on this Display, or null to detach it.
+	 * 
+	 * @param graphics Graphics to flush
+	 */
+	public void setGraphics(Graphics graphics);
+	
+	/**
+	 * <p>
+	 * Acquire a {@link fr.escape.graphics.Surface} and flush the {@link Graphics} on it.
+	 * 
+	 * <p>
+	 * Only the given region needs to be drawn: the pixels outside of it are the same as in
+	 * the last rendered frame.
+	 * 
+	 * <p>
+	 * <b>Thread: Renderer</b>
+	 * 
+	 * @param dirty Region to draw, reused by the next frame: do not keep it
+	 * @see Graphics#flush(fr.escape.graphics.Surface)
+	 */
+	public void render(Rectangle dirty);
+
+}
@@ -1,20 +1,20 @@
 package fr.escape.app;
 
 import java.io.File;
-import java.util.LinkedList;
-import java.util.Queue;
+import java.util.Random;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
 
+import org.jbox2d.dynamics.Body;
 import org.jbox2d.dynamics.World;
 
 import fr.escape.Objects;
 import fr.escape.game.Escape;
 import fr.escape.game.entity.CoordinateConverter;
+import fr.escape.game.entity.Entity;
 import fr.escape.input.EventListener;
 import fr.escape.resources.Resources;
-import android.content.Context;
-import android.os.Environment;
-import android.util.Log;
-import android.widget.Toast;
 
 public final class Engine implements Runnable {
 
@@ -27,117 +27,194 @@ public final class Engine implements Runnable {
 	 * World Updating
 	 */
 	static final float WORLD_STEP = 1.0f / 60.0f;
-	static final int WORLD_UPDATE = (int) (WORLD_STEP * 1000);
+	static final long WORLD_UPDATE = 1000000000L / 60L;
 	static final int WORLD_VELOCITY_ITERATION = 6;
 	static final int WORLD_POSITION_ITERATION = 2;
 	
+	/**
+	 * Runnable Priority
+	 */
+	public static final int PRIORITY_CRITICAL = 0;
+	public static final int PRIORITY_DEFERRABLE = 1;
+	
+	/**
+	 * Suspend Reasons: the Engine Looper only runs when none is set.
+	 */
+	public static final int SUSPEND_PAUSED = 0x01;
+	public static final int SUSPEND_NO_DISPLAY = 0x02;
+	
+	/**
+	 * Runnable Queue capacity (per priority)
+	 */
+	static final int TASK_CAPACITY = 512;
+	
+	/**
+	 * Maximum time another Thread waits for room in a full Runnable Queue, in nanoseconds
+	 */
+	static final long POST_TIMEOUT = 100000000L;
+	
 	/**
 	 * Engine Properties
 	 */
 	final Escape game;
+	final Configuration configuration;
 	final Graphics graphics;
 	final Thread thread;
+	final Renderer renderer;
+	final FramePacer pacer;
 	final Resources resources;
-	final Queue<Runnable> runnables;
+	final TaskQueue criticals;
+	final TaskQueue deferrables;
+	final long taskBudget;
+	final AtomicInteger suspended;
+	final ConcurrentLinkedQueue<Input> inputs;
+	final Random random;
+	long seed;
+	SessionRecorder recorder;
+	GameClock clock;
 	CoordinateConverter converter;
-	final Context context;
+	final Platform platform;
+	
+	/**
+	 * Platform of the last created Engine, used by static helpers.
+	 */
+	private static volatile Platform current;
+	private static final Logger FALLBACK_LOGGER = new ConsoleLogger();
 
 	/**
 	 * Engine World State
 	 */
-	int worldUpdateLeft;
+	final int maxWorldUpdate;
+	long worldUpdateLeft;
+	long lastUpdate;
 	
 	/**
 	 * Constructor with default Configuration and a given Game.
 	 * 
-	 * @param context Android Context
+	 * @param platform Platform the Engine runs on
 	 * @param game The Game
 	 */
-	public Engine(Context context, Escape game) {
-		this(context, game, new Configuration());
+	public Engine(Platform platform, Escape game) {
+		this(platform, game, new Configuration());
 	}
 	
 	/**
 	 * Default Constructor with a given Game and Configuration.
 	 * 
-	 * @param context Android Context
+	 * @param platform Platform the Engine runs on
 	 * @param game The Game
 	 * @param configuration Configuration to use.
 	 */
-	public Engine(Context context, Escape game, Configuration configuration) {
+	public Engine(Platform platform, Escape game, Configuration configuration) {
 		
 		this.graphics = new Graphics(Objects.requireNonNull(game), Objects.requireNonNull(configuration));
 		this.game = game;
+		this.configuration = configuration;
 		this.thread = new Thread(this);
-		this.context = Objects.requireNonNull(context);
-		this.resources = new Resources(context);
-		this.runnables = new LinkedList<Runnable>();
+		this.renderer = new Renderer(graphics);
+		this.pacer = new FramePacer(configuration.getFps());
+		this.platform = Objects.requireNonNull(platform);
+		this.resources = new Resources(platform, configuration.getTextureBudget() * 1024);
+		this.criticals = new TaskQueue(TASK_CAPACITY);
+		this.deferrables = new TaskQueue(TASK_CAPACITY);
+		this.taskBudget = configuration.getTaskBudget() * 1000000L;
+		this.suspended = new AtomicInteger(SUSPEND_NO_DISPLAY);
+		this.inputs = new ConcurrentLinkedQueue<Input>();
+		this.seed = System.nanoTime();
+		this.random = new Random(seed);
+		this.clock = new RealTimeClock();
 		
+		this.maxWorldUpdate = configuration.getMaxStepsPerFrame();
 		this.worldUpdateLeft = 0;
+		this.lastUpdate = 0;
 		
 		this.converter = new CoordinateConverter(graphics.getWidth(), graphics.getHeight(), 10);
 		
+		current = platform;
+		
 	}
 	
 	/**
-	 * Create Engine Components.
-	 * 
-	 * @param context Android Context
+	 * Create Engine Components and start the Engine Threads.
 	 */
-	public void create(Context context) {
+	public void create() {
 		thread.setName("Engine Looper");
 		thread.start();
+		renderer.start();
 	}
 	
 	/** 
 	 * Logs a message to the console.
 	 */
 	public static void log(String tag, String message) {
-		Log.i(tag, message);
+		getLogger().log(tag, message, null);
 	}
 
 	/**
 	 * Logs a message to the console.
 	 */
 	public static void log(String tag, String message, Exception exception) {
-		Log.i(tag, message, exception);
+		getLogger().log(tag, message, exception);
 	}
 
 	/** 
 	 * Logs an error message to the console.
 	 */
 	public static void error(String tag, String message) {
-		Log.e(tag, message);
+		getLogger().error(tag, message, null);
 	}
 
 	/** 
 	 * Logs an error message to the console.
 	 */
 	public static void error(String tag, String message, Throwable exception) {
-		Log.e(tag, message, exception);
+		getLogger().error(tag, message, exception);
 	}
 
 	/** 
 	 * Logs a debug message to the console.
 	 */
 	public static void debug(String tag, String message) {
-		Log.d(tag, message);
+		getLogger().debug(tag, message, null);
 	}
 
 	/** 
 	 * Logs a debug message to the console.
 	 */
 	public static void debug(String tag, String message, Throwable exception) {
-		Log.d(tag, message, exception);
+		getLogger().debug(tag, message, exception);
+	}
+	
+	/**
+	 * Get the Logger of the current {@link Platform}.
+	 * 
+	 * @return Logger
+	 */
+	private static Logger getLogger() {
+		
+		Platform platform = current;
+		
+		if(platform == null) {
+			return FALLBACK_LOGGER;
+		}
+		
+		return platform.getLogger();
 	}
 	
 	/**
-	 * Push an Event to EventListener
+	 * <p>
+	 * Push an Event to EventListener.
+	 * 
+	 * <p>
+	 * Events are dispatched by the Engine Looper at the start of the next frame.
+	 * 
+	 * <p>
+	 * <em>This method is Thread-Safe</em>
 	 */
 	public void event(final Input event) {
 
 		Objects.requireNonNull(event);
-		getGame().touch(event);
+		inputs.offer(event);
 		
 	}
 
@@ -148,65 +225,37 @@ public final class Engine implements Runnable {
 			try {
 				
 				getResources().load();
-				Thread.sleep(2000);
 				
 			} catch (Exception ioe) {
-				throw new RuntimeException("Unable to load Resources");
+				throw new RuntimeException("Unable to load Resources", ioe);
 			}
 			
+			// Wait for a Display
+			awaitResume();
 			
-			
-			debug(TAG, "Application started");
-			
-			Engine.debug(TAG, "Converter Configuration: { width:" + graphics.getWidth() + " , height:" + graphics.getHeight()+" }");
-			this.converter = new CoordinateConverter(graphics.getWidth(), graphics.getHeight(), 10);
-
-			debug(TAG, "Create Game");
-			getGame().create(this);
+			initialize(clock.nanoTime());
+			pacer.start(System.nanoTime());
 			
 			while(!Thread.currentThread().isInterrupted()) {
 				
-				int executionTime = 0;
-				
-				/**
-				 * May need to implements QoS in Runnable execution.
-				 */
-				if(!getRunnables().isEmpty()) {
-					
-					long start = System.currentTimeMillis();
-					Runnable next;
+				if(isSuspended()) {
 					
-					while((next = getRunnables().poll()) != null) {
-						try {
-							next.run();
-						} catch(Throwable t) {
-							error(TAG, "Error while executing a Runnable", t);
-						}
-					}
+					awaitResume();
 					
-					executionTime = (int) (System.currentTimeMillis() - start);
+					// Forget the time spent suspended
+					restart(clock.nanoTime());
+					pacer.start(System.nanoTime());
+					continue;
 				}
 				
-				try {
-					
-					executionTime = 0;
-					
-					int sleep = getGraphics().getNextWakeUp() - executionTime;
-					long start = System.currentTimeMillis();
-					updateWorld(sleep);
-					sleep -= ((int) (System.currentTimeMillis() - start));
-					
-					//error(TAG, "Sleep: "+sleep);
-					
-					if(sleep > 0) {
-						Thread.sleep(sleep);
-					}
-					
-				} catch(InterruptedException e) {
-					Thread.currentThread().interrupt();
-				}
+				long start = System.nanoTime();
+				
+				// Simulation pass, the Draw pass runs on the Renderer
+				update(clock.nanoTime());
+				renderer.requestRender();
 				
-				getGraphics().render();
+				// Sleep the slack left in this frame
+				pacer.sync(start);
 				
 			}
 			
@@ -215,6 +264,167 @@ public final class Engine implements Runnable {
 		}
 	}
 	
+	/**
+	 * <p>
+	 * Suspend the Engine Looper for the given reason.
+	 * 
+	 * <p>
+	 * The current frame is completed, then the Looper parks: no World step nor Runnable
+	 * are executed until every reason is cleared with {@link Engine#resume(int)}.
+	 * 
+	 * <p>
+	 * <em>This method is Thread-Safe</em>
+	 * 
+	 * @param reason {@link Engine#SUSPEND_PAUSED} or {@link Engine#SUSPEND_NO_DISPLAY}
+	 */
+	public void suspend(int reason) {
+		
+		int current;
+		
+		do {
+			current = suspended.get();
+		} while(!suspended.compareAndSet(current, current | reason));
+		
+		debug(TAG, "Suspend: "+reason);
+	}
+	
+	/**
+	 * <p>
+	 * Clear a reason given to {@link Engine#suspend(int)} and wake up the Engine Looper
+	 * if there is no reason left.
+	 * 
+	 * <p>
+	 * <em>This method is Thread-Safe</em>
+	 * 
+	 * @param reason {@link Engine#SUSPEND_PAUSED} or {@link Engine#SUSPEND_NO_DISPLAY}
+	 */
+	public void resume(int reason) {
+		
+		int current;
+		
+		do {
+			current = suspended.get();
+		} while(!suspended.compareAndSet(current, current & ~reason));
+		
+		debug(TAG, "Resume: "+reason);
+		
+		if((current & ~reason) == 0) {
+			LockSupport.unpark(thread);
+		}
+	}
+	
+	/**
+	 * Check if the Engine Looper should be suspended.
+	 * 
+	 * @return True if at least one suspend reason is set.
+	 */
+	public boolean isSuspended() {
+		return suspended.get() != 0;
+	}
+	
+	/**
+	 * Park the Engine Looper until every suspend reason is cleared, or the Thread interrupted.
+	 */
+	private void awaitResume() {
+		
+		if(!isSuspended()) {
+			return;
+		}
+		
+		debug(TAG, "Engine suspended");
+		
+		if(recorder != null) {
+			recorder.flush();
+		}
+		
+		while(isSuspended() && !Thread.currentThread().isInterrupted()) {
+			LockSupport.park(this);
+		}
+		
+		debug(TAG, "Engine resumed");
+	}
+	
+	/**
+	 * <p>
+	 * Restart every game time base from the given time, as if the last frame ended now.
+	 * 
+	 * <p>
+	 * Called by {@link Engine#run()} after a suspension, or by the driver of an Engine without Threads.
+	 * 
+	 * @param now Current time in nanoseconds
+	 */
+	public void restart(long now) {
+		
+		if(recorder != null) {
+			recorder.restart(now);
+		}
+		
+		lastUpdate = now;
+		worldUpdateLeft = 0;
+		
+		getGraphics().start(now);
+	}
+	
+	/**
+	 * <p>
+	 * Create the Game once {@link Resources} are loaded and the Display is known.
+	 * 
+	 * <p>
+	 * Called by {@link Engine#run()}, or by the driver of an Engine without Threads.
+	 * 
+	 * @param now Current time in nanoseconds
+	 */
+	public void initialize(long now) {
+		
+		debug(TAG, "Application started");
+		
+		Engine.debug(TAG, "Converter Configuration: { width:" + graphics.getWidth() + " , height:" + graphics.getHeight()+" }");
+		this.converter = new CoordinateConverter(graphics.getWidth(), graphics.getHeight(), 10);
+		
+		getGraphics().start(now);
+		
+		debug(TAG, "Create Game");
+		getGame().create(this);
+		
+		lastUpdate = now;
+		
+		if(recorder != null) {
+			recorder.start(now, seed, graphics.getWidth(), graphics.getHeight());
+		}
+	}
+	
+	/**
+	 * <p>
+	 * Simulation pass for one frame: execute posted Runnable, step the World and record
+	 * the frame in {@link Graphics}.
+	 * 
+	 * <p>
+	 * Called by {@link Engine#run()}, or by the driver of an Engine without Threads.
+	 * 
+	 * @param now Current time in nanoseconds
+	 */
+	public void update(long now) {
+		
+		FrameProfiler profiler = getGraphics().getProfiler();
+		
+		if(recorder != null) {
+			recorder.frame(now);
+		}
+		
+		profiler.begin(FrameProfiler.RUNNABLES);
+		dispatchInputs();
+		executeRunnables();
+		profiler.end(FrameProfiler.RUNNABLES);
+		
+		profiler.begin(FrameProfiler.WORLD_STEP);
+		updateWorld(now);
+		profiler.end(FrameProfiler.WORLD_STEP);
+		
+		getGraphics().update(now);
+		
+		profiler.endFrame(now);
+	}
+	
 	/**
 	 * <p>
 	 * Return the Game.
@@ -235,6 +445,16 @@ public final class Engine implements Runnable {
 		return graphics;
 	}
 	
+	/**
+	 * <p>
+	 * Return the {@link Configuration} of this Engine.
+	 * 
+	 * @return Configuration
+	 */
+	public Configuration getConfiguration() {
+		return configuration;
+	}
+	
 	/**
 	 * <p>
 	 * Return the {@link Resources}
@@ -257,12 +477,23 @@ public final class Engine implements Runnable {
 	
 	/**
 	 * <p>
-	 * Return Runnable Queue.
+	 * Return Runnable Queue for the given priority.
 	 * 
+	 * @param priority {@link Engine#PRIORITY_CRITICAL} or {@link Engine#PRIORITY_DEFERRABLE}
 	 * @return Runnable Queue
 	 */
-	Queue<Runnable> getRunnables() {
-		return runnables;
+	TaskQueue getRunnables(int priority) {
+		switch(priority) {
+			case PRIORITY_CRITICAL: {
+				return criticals;
+			}
+			case PRIORITY_DEFERRABLE: {
+				return deferrables;
+			}
+			default: {
+				throw new IllegalArgumentException("Unknown Priority: "+priority);
+			}
+		}
 	}
 	
 	/**
@@ -286,56 +517,321 @@ public final class Engine implements Runnable {
 	}
 	
 	/**
-	 * Push a Runnable into Execution Queue for next loop.
+	 * Push a critical Runnable into Execution Queue for next loop.
 	 * 
 	 * @param runnable Runnable to execute.
+	 * @return True if the Runnable is queued or executed, false if it is dropped.
+	 * @see Engine#post(Runnable, int)
 	 */
-	public void post(Runnable runnable) {
-		getRunnables().add(runnable);
+	public boolean post(Runnable runnable) {
+		return post(runnable, PRIORITY_CRITICAL);
 	}
 	
 	/**
-	 * Compute if we need to update the World Step.
+	 * <p>
+	 * Push a Runnable into Execution Queue with the given priority.
+	 * 
+	 * <p>
+	 * Critical Runnable are all executed in the next loop. Deferrable Runnable are executed
+	 * within the time budget given by {@link Configuration#getTaskBudget()} and the leftover 
+	 * waits for the next loops.
 	 * 
-	 * @param sleep Sleep time for the given loop in {@link Engine#run()}.
+	 * <p>
+	 * If the Queue is full, the Runnable is executed right now when called by the Engine Looper,
+	 * otherwise the caller waits a little for the Engine Looper to make room: the Engine Looper
+	 * may be suspended, so the Runnable is dropped after {@link Engine#POST_TIMEOUT}.
+	 * 
+	 * <p>
+	 * <em>This method is Thread-Safe</em>
+	 * 
+	 * @param runnable Runnable to execute.
+	 * @param priority {@link Engine#PRIORITY_CRITICAL} or {@link Engine#PRIORITY_DEFERRABLE}
+	 * @return True if the Runnable is queued or executed, false if it is dropped.
+	 */
+	public boolean post(Runnable runnable, int priority) {
+		
+		Objects.requireNonNull(runnable);
+		TaskQueue queue = getRunnables(priority);
+		
+		long deadline = 0;
+		
+		while(!queue.offer(runnable)) {
+			
+			if(Thread.currentThread() == thread) {
+				
+				debug(TAG, "Runnable Queue is full: execute now");
+				execute(runnable);
+				
+				return true;
+			}
+			
+			long now = System.nanoTime();
+			
+			if(deadline == 0) {
+				deadline = now + POST_TIMEOUT;
+			} else if(now - deadline >= 0) {
+				
+				error(TAG, "Runnable Queue is full: drop "+runnable);
+				
+				return false;
+			}
+			
+			Thread.yield();
+		}
+		
+		return true;
+	}
+	
+	/**
+	 * Dispatch pending Input to the Game, in their arrival order.
+	 */
+	private void dispatchInputs() {
+		
+		Input input;
+		
+		while((input = inputs.poll()) != null) {
+			
+			if(recorder != null) {
+				recorder.input(input);
+			}
+			
+			getGame().touch(input);
+		}
+	}
+	
+	/**
+	 * <p>
+	 * Execute pending Runnable.
+	 * 
+	 * <p>
+	 * All critical Runnable are executed (at most one full Queue, Runnable posted meanwhile
+	 * wait for the next loop). Deferrable Runnable are executed until the time budget is spent.
+	 * 
+	 */
+	private void executeRunnables() {
+		
+		long start = System.nanoTime();
+		Runnable next;
+		int count = 0;
+		
+		while(count++ < TASK_CAPACITY && (next = criticals.poll()) != null) {
+			execute(next);
+		}
+		
+		while((System.nanoTime() - start) < taskBudget && (next = deferrables.poll()) != null) {
+			execute(next);
+		}
+	}
+	
+	/**
+	 * Execute a Runnable and log its failure.
+	 * 
+	 * @param runnable Runnable to execute
+	 */
+	private static void execute(Runnable runnable) {
+		try {
+			runnable.run();
+		} catch(Throwable t) {
+			error(TAG, "Error while executing a Runnable", t);
+		}
+	}
+	
+	/**
+	 * <p>
+	 * Step the World with a fixed time step for the real time elapsed since the last call.
+	 * 
+	 * <p>
+	 * At most {@link Configuration#getMaxStepsPerFrame()} steps are done in one call: if the
+	 * Engine is late, the remaining time is dropped instead of being caught up later.
+	 * 
+	 * <p>
+	 * The time left in the accumulator is exposed to renderers through
+	 * {@link Graphics#getInterpolation()}.
+	 * 
+	 * @param now Current time in nanoseconds (monotonic).
 	 * @see World
 	 */
-	private void updateWorld(int sleep) {
+	private void updateWorld(long now) {
 
-		worldUpdateLeft += sleep;
+		worldUpdateLeft += now - lastUpdate;
+		lastUpdate = now;
+		
+		int step = 0;
 		
-		while(worldUpdateLeft >= WORLD_UPDATE) {
+		while(worldUpdateLeft >= WORLD_UPDATE && step < maxWorldUpdate) {
+			savePositions();
 			getWorld().step(WORLD_STEP, WORLD_VELOCITY_ITERATION, WORLD_POSITION_ITERATION);
 			worldUpdateLeft -= WORLD_UPDATE;
+			step++;
+		}
+		
+		// Avoid the spiral of death
+		if(worldUpdateLeft >= WORLD_UPDATE) {
+			worldUpdateLeft %= WORLD_UPDATE;
 		}
 		
+		getGraphics().setInterpolation((float) worldUpdateLeft / WORLD_UPDATE);
+		
+	}
+	
+	/**
+	 * Remember the position of every {@link Entity} before the World moves it.
+	 * 
+	 * @see Entity#getPreviousPosition()
+	 */
+	private void savePositions() {
+		
+		for(Body body = getWorld().getBodyList(); body != null; body = body.getNext()) {
+			
+			Object data = body.getUserData();
+			
+			if(data instanceof Entity) {
+				((Entity) data).getPreviousPosition().set(body.getPosition());
+			}
+		}
 	}
 	
 	/**
 	 * Get the File for Scenario Storage directory
 	 * 
 	 * @return File which contains the directory for Scenario Storage
+	 * @throws IllegalStateException If no Engine has been created
 	 */
 	public static File getScenarioStorage() {
-		return Environment.getExternalStoragePublicDirectory("EscapeIR/Scenario");
+		return getStorage().getScenarioStorage();
 	}
 	
 	/**
 	 * Get the File for Image Storage directory
 	 * 
 	 * @return File which contains the directory for Image Storage
+	 * @throws IllegalStateException If no Engine has been created
 	 */
 	public static File getImageStorage() {
-		return Environment.getExternalStoragePublicDirectory(Environment.DIRECTORY_PICTURES);
+		return getStorage().getImageStorage();
 	}
 
 	/**
-	 * Display a Message by Android native Toast
+	 * Get the Storage of the current {@link Platform}.
+	 * 
+	 * @return Storage
+	 */
+	private static Storage getStorage() {
+		
+		Platform platform = current;
+		
+		if(platform == null) {
+			throw new IllegalStateException("No Engine has been created");
+		}
+		
+		return platform.getStorage();
+	}
+	
+	/**
+	 * <p>
+	 * Return the Random source of the Game, seeded with {@link Engine#getSeed()}.
+	 * 
+	 * <p>
+	 * <b>Thread: Engine</b>
+	 * 
+	 * @return Random source
+	 */
+	public Random getRandom() {
+		return random;
+	}
+	
+	/**
+	 * Get the seed of the Game Random source.
+	 * 
+	 * @return Random seed
+	 */
+	public long getSeed() {
+		return seed;
+	}
+	
+	/**
+	 * <p>
+	 * Seed the Game Random source, for a reproducible session.
+	 * 
+	 * <p>
+	 * Must be called before {@link Engine#create()} or {@link Engine#initialize(long)}.
+	 * 
+	 * @param seed Random seed
+	 */
+	public void setSeed(long seed) {
+		this.seed = seed;
+		this.random.setSeed(seed);
+	}
+	
+	/**
+	 * <p>
+	 * Record the session in the given {@link SessionRecorder}.
+	 * 
+	 * <p>
+	 * Must be called before {@link Engine#create()} or {@link Engine#initialize(long)}.
+	 * 
+	 * @param recorder Session Recorder, or null to disable recording
+	 */
+	public void setRecorder(SessionRecorder recorder) {
+		this.recorder = recorder;
+	}
+	
+	/**
+	 * <p>
+	 * Record the start of a scenario in the session, if any.
+	 * 
+	 * <p>
+	 * <b>Thread: Engine</b>
+	 * 
+	 * @param name Name of the scenario
+	 */
+	public void recordScenario(String name) {
+		if(recorder != null) {
+			recorder.scenario(Objects.requireNonNull(name));
+		}
+	}
+	
+	/**
+	 * <p>
+	 * Return the {@link GameClock} every frame time is read from.
+	 * 
+	 * @return Game Clock
+	 */
+	public GameClock getClock() {
+		return clock;
+	}
+	
+	/**
+	 * <p>
+	 * Drive the Engine with the given {@link GameClock}.
+	 * 
+	 * <p>
+	 * Must be called before {@link Engine#create()}. The frame pacing and the time budget of
+	 * deferrable Runnable always use the real time.
+	 * 
+	 * @param clock Game Clock
+	 */
+	public void setClock(GameClock clock) {
+		this.clock = Objects.requireNonNull(clock);
+	}
+	
+	/**
+	 * <p>
+	 * Return the {@link Platform} the Engine runs on.
+	 * 
+	 * @return Platform
+	 */
+	public Platform getPlatform() {
+		return platform;
+	}
+	
+	/**
+	 * Display a Message to the User
 	 * 
 	 * @param message Message to display
 	 */
 	public void toast(String message) {
-		Toast.makeText(context, message, Toast.LENGTH_LONG).show();
+		platform.toast(message);
 	}
 	
 }
@@ -0,0 +1,135 @@
+/*****************************************************************************
+ * 
+ * Copyright 2012-2013 See AUTHORS file.
+ * 
+ * This file is part of Escape-IR.
+ * 
+ * Escape-IR is free software: you can redistribute it and/or modify
+ * it under the terms of the zlib license. See the COPYING file.
+ * 
+ *****************************************************************************/
+
+package fr.escape.app;
+
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * <p>
+ * Frame pacing controller for the Engine Looper.
+ * 
+ * <p>
+ * Each frame is given a deadline one period after the previous one. Once the frame is done,
+ * the Looper only sleeps the slack left before the deadline. A late frame moves the next deadline
+ * instead of rushing to catch up.
+ * 
+ * <p>
+ * Sleep precision is tracked with a smoothed feedback loop: the average oversleep is removed
+ * from the next sleep, so the wake up lands on the deadline.
+ * 
+ * <p>
+ * The frame cost is smoothed the same way. While frames cost more than one period, deadlines
+ * are spaced by a whole number of periods, so frame intervals stay steady instead of alternating
+ * between late and early frames.
+ * 
+ * <p>
+ * <b>Thread: Engine</b>
+ * 
+ */
+final class FramePacer {
+	
+	/**
+	 * Weight of the last sample in the smoothed values
+	 */
+	private static final double SMOOTHING = 0.1;
+	
+	/**
+	 * Sleep shorter than this are skipped: not worth a context switch
+	 */
+	private static final long MINIMUM_SLEEP = 50000L;
+	
+	/**
+	 * Maximum number of periods between two deadlines
+	 */
+	private static final int MAXIMUM_PERIODS = 4;
+	
+	private final long period;
+	private long deadline;
+	
+	/**
+	 * Smoothed values in nanoseconds
+	 */
+	private double cost;
+	private double oversleep;
+	
+	/**
+	 * Default Constructor
+	 * 
+	 * @param fps Requested Frame per second
+	 */
+	FramePacer(int fps) {
+		
+		if(fps <= 0) {
+			throw new IllegalArgumentException("Invalid FPS: "+fps);
+		}
+		
+		this.period = 1000000000L / fps;
+		this.cost = 0;
+		this.oversleep = 0;
+	}
+	
+	/**
+	 * Start pacing from the given time.
+	 * 
+	 * @param now Current time in nanoseconds
+	 */
+	void start(long now) {
+		deadline = now;
+	}
+	
+	/**
+	 * <p>
+	 * Wait until the next frame should start.
+	 * 
+	 * <p>
+	 * Interruption is not cleared: the caller should check it.
+	 * 
+	 * @param start Start time of the frame just done, in nanoseconds
+	 */
+	void sync(long start) {
+		
+		long now = System.nanoTime();
+		cost += SMOOTHING * ((now - start) - cost);
+		
+		deadline += getInterval();
+		
+		// Late: drop the missed time
+		if(now >= deadline) {
+			deadline = now;
+			return;
+		}
+		
+		long sleep = (deadline - now) - ((long) oversleep);
+		
+		if(sleep >= MINIMUM_SLEEP) {
+			
+			LockSupport.parkNanos(sleep);
+			
+			long late = System.nanoTime() - (now + sleep);
+			oversleep += SMOOTHING * (Math.max(0, late) - oversleep);
+		}
+	}
+	
+	/**
+	 * Get the time between the last deadline and the next one: the smallest number of periods
+	 * which fits the smoothed frame cost.
+	 * 
+	 * @return Interval in nanoseconds
+	 */
+	private long getInterval() {
+		
+		long periods = (long) Math.ceil(cost / period);
+		
+		return period * Math.min(Math.max(periods, 1), MAXIMUM_PERIODS);
+	}
+
+}
@@ -0,0 +1,273 @@
+/*****************************************************************************
+ * 
+ * Copyright 2012-2013 See AUTHORS file.
+ * 
+ * This file is part of Escape-IR.
+ * 
+ * Escape-IR is free software: you can redistribute it and/or modify
+ * it under the terms of the zlib license. See the COPYING file.
+ * 
+ *****************************************************************************/
+
+package fr.escape.app;
+
+/**
+ * <p>
+ * Measure the time spent in each phase of a frame.
+ * 
+ * <p>
+ * Phases of the simulation pass are timed with {@link FrameProfiler#begin(int)} and
+ * {@link FrameProfiler#end(int)} on the Engine Thread. Phases can be nested: time spent in
+ * an inner phase is not counted in the outer one. At the end of each frame, the total time of
+ * each entered phase is recorded in its {@link Histogram}.
+ * 
+ * <p>
+ * The draw pass runs on the Renderer Thread and is recorded with {@link FrameProfiler#record(int, long)}.
+ * Each Histogram is locked while it is recorded, read or reset, so a report never races with
+ * the Renderer Thread.
+ * 
+ * <p>
+ * Percentiles are logged and reset every {@link FrameProfiler#REPORT_PERIOD} milliseconds.
+ * A disabled profiler does nothing.
+ * 
+ */
+public final class FrameProfiler {
+	
+	private static final String TAG = FrameProfiler.class.getSimpleName();
+	
+	/**
+	 * Frame Phases
+	 */
+	public static final int RUNNABLES = 0;
+	public static final int WORLD_STEP = 1;
+	public static final int SCENARIO = 2;
+	public static final int ENTITY_UPDATE = 3;
+	public static final int ENTITY_DRAW = 4;
+	public static final int ENTITY_FLUSH = 5;
+	public static final int POST = 6;
+	
+	private static final String[] NAMES = {
+		"Runnables", "World step", "Scenario", "Entity update", "Entity draw", "Entity flush", "Draw and post"
+	};
+	
+	private static final int PHASES = NAMES.length;
+	private static final int MAX_DEPTH = 8;
+	
+	/**
+	 * Time between two reports in milliseconds
+	 */
+	private static final long REPORT_PERIOD = 5000;
+	
+	private final boolean enabled;
+	private final Histogram[] histograms;
+	
+	/**
+	 * Current frame totals
+	 */
+	private final long[] totals;
+	private final boolean[] entered;
+	
+	/**
+	 * Nested phases
+	 */
+	private final int[] stack;
+	private int depth;
+	private long mark;
+	
+	private long lastReport;
+	
+	/**
+	 * Default Constructor
+	 * 
+	 * @param enabled Should we measure anything
+	 */
+	public FrameProfiler(boolean enabled) {
+		
+		this.enabled = enabled;
+		this.histograms = new Histogram[PHASES];
+		this.totals = new long[PHASES];
+		this.entered = new boolean[PHASES];
+		this.stack = new int[MAX_DEPTH];
+		this.depth = 0;
+		this.lastReport = -1;
+		
+		for(int i = 0; i < PHASES; i++) {
+			histograms[i] = new Histogram();
+		}
+	}
+	
+	/**
+	 * @return True if this profiler measures anything
+	 */
+	public boolean isEnabled() {
+		return enabled;
+	}
+	
+	/**
+	 * <p>
+	 * Enter a phase.
+	 * 
+	 * <p>
+	 * <b>Thread: Engine</b>
+	 * 
+	 * @param phase Phase to enter
+	 */
+	public void begin(int phase) {
+		
+		if(!enabled) {
+			return;
+		}
+		
+		if(depth >= MAX_DEPTH) {
+			throw new IllegalStateException("Too many nested phases: "+NAMES[phase]);
+		}
+		
+		long now = System.nanoTime();
+		
+		if(depth > 0) {
+			totals[stack[depth - 1]] += now - mark;
+		}
+		
+		stack[depth++] = phase;
+		entered[phase] = true;
+		mark = now;
+	}
+	
+	/**
+	 * <p>
+	 * Leave the current phase.
+	 * 
+	 * <p>
+	 * <b>Thread: Engine</b>
+	 * 
+	 * @param phase Phase to leave, must be the last entered
+	 */
+	public void end(int phase) {
+		
+		if(!enabled) {
+			return;
+		}
+		
+		if(depth == 0 || stack[depth - 1] != phase) {
+			throw new IllegalStateException("Unbalanced phase: "+NAMES[phase]);
+		}
+		
+		long now = System.nanoTime();
+		
+		totals[phase] += now - mark;
+		depth--;
+		mark = now;
+	}
+	
+	/**
+	 * <p>
+	 * Record the whole duration of a phase, outside of the simulation pass.
+	 * 
+	 * <p>
+	 * <b>Thread: Renderer</b>
+	 * 
+	 * @param phase Phase to record
+	 * @param duration Duration in nanoseconds
+	 */
+	public void record(int phase, long duration) {
+		if(enabled) {
+			
+			Histogram histogram = histograms[phase];
+			
+			synchronized (histogram) {
+				histogram.record(duration);
+			}
+		}
+	}
+	
+	/**
+	 * <p>
+	 * Record the totals of the current frame and report if needed.
+	 * 
+	 * <p>
+	 * <b>Thread: Engine</b>
+	 * 
+	 * @param now Current time in nanoseconds
+	 */
+	public void endFrame(long now) {
+		
+		if(!enabled) {
+			return;
+		}
+		
+		// Forget phases left open by an Exception
+		depth = 0;
+		
+		for(int i = 0; i < PHASES; i++) {
+			if(entered[i]) {
+				
+				Histogram histogram = histograms[i];
+				
+				synchronized (histogram) {
+					histogram.record(totals[i]);
+				}
+				
+				totals[i] = 0;
+				entered[i] = false;
+			}
+		}
+		
+		long time = now / 1000000L;
+		
+		if(lastReport < 0) {
+			lastReport = time;
+		} else if((time - lastReport) >= REPORT_PERIOD) {
+			report();
+			lastReport = time;
+		}
+	}
+	
+	/**
+	 * Get the Histogram of a phase: synchronize on it while reading it.
+	 * 
+	 * @param phase Frame Phase
+	 * @return Histogram in nanoseconds
+	 */
+	public Histogram getHistogram(int phase) {
+		return histograms[phase];
+	}
+	
+	/**
+	 * Log the percentiles of each phase and reset them.
+	 */
+	public void report() {
+		for(int i = 0; i < PHASES; i++) {
+			
+			Histogram histogram = histograms[i];
+			String line = null;
+			
+			synchronized (histogram) {
+				if(histogram.getCount() > 0) {
+				
+					line = NAMES[i] + ": { count: " + histogram.getCount() +
+							", p50: " + toMillis(histogram.getValueAt(50)) +
+							", p95: " + toMillis(histogram.getValueAt(95)) +
+							", p99: " + toMillis(histogram.getValueAt(99)) +
+							", max: " + toMillis(histogram.getMax()) + " }";
+				
+					histogram.reset();
+				}
+			}
+			
+			if(line != null) {
+				Engine.debug(TAG, line);
+			}
+		}
+	}
+	
+	/**
+	 * Format nanoseconds in milliseconds.
+	 * 
+	 * @param nanos Time in nanoseconds
+	 * @return Time in milliseconds
+	 */
+	private static String toMillis(long nanos) {
+		return String.format("%.2fms", nanos / 1000000.0);
+	}
+
+}
@@ -0,0 +1,35 @@
+/*****************************************************************************
+ * 
+ * Copyright 2012-2013 See AUTHORS file.
+ * 
+ * This file is part of Escape-IR.
+ * 
+ * Escape-IR is free software: you can redistribute it and/or modify
+ * it under the terms of the zlib license. See the COPYING file.
+ * 
+ *****************************************************************************/
+
+package fr.escape.app;
+
+/**
+ * <p>
+ * The single source of time read by the {@link Engine} and every subsystem driven by it.
+ * 
+ * <p>
+ * The Engine reads the clock once at the start of each frame: World steps, {@link Graphics#getDeltaTime()}
+ * and the Screen and Overlay render pass all derive from that reading.
+ * 
+ * @see RealTimeClock
+ * @see ScaledClock
+ * @see VirtualClock
+ */
+public interface GameClock {
+	
+	/**
+	 * Return the current game time. Only the difference between two values is meaningful.
+	 * 
+	 * @return Current time in nanoseconds (monotonic)
+	 */
+	public long nanoTime();
+
+}
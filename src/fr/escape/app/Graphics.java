@@ -11,16 +11,14 @@
 
 package fr.escape.app;
 
-import android.graphics.Canvas;
-import android.graphics.Color;
-import android.graphics.Paint;
-
 import fr.escape.Objects;
-import fr.escape.android.GraphicsView;
+import fr.escape.graphics.Color;
 import fr.escape.graphics.Font;
+import fr.escape.graphics.Rectangle;
 import fr.escape.graphics.RenderListener;
 import fr.escape.graphics.Shape;
 import fr.escape.graphics.Stroke;
+import fr.escape.graphics.Surface;
 import fr.escape.graphics.Texture;
 import fr.escape.graphics.TextureOperator;
 
@@ -29,20 +27,41 @@ import fr.escape.graphics.TextureOperator;
  * This class is a layer for Android rendering.
  * 
  * <p>
- * This class auto-tune herself for sleep with the requested FPS.
+ * Rendering is done in two pass: {@link Graphics#update()} runs the game logic and records
+ * every drawing into a {@link RenderBuffer}, then {@link Graphics#flush(Surface)} replays the last
+ * recorded {@link RenderBuffer} on the {@link Surface} of the User Screen.
+ * 
+ * <p>
+ * Both pass may run on different Threads: recorded frames are handed over with a lock-free
+ * {@link TripleBuffer}, so the simulation never waits for the drawing.
+ * 
+ * <p>
+ * Every drawing belongs to a layer given by {@link Graphics#setLayer(int, boolean)}: layers are drawn
+ * from the lowest to the highest. Inside a batched layer, drawings are grouped by Texture, Font or Stroke
+ * to reduce the state changes of the {@link Surface}.
  * 
  * <p>
- * Use a buffer in Rendering Phase and flush it when it's 
- * done to the {@link Canvas} used for User Screen.
+ * A recorded frame which looks exactly like the previous one is dropped, so static Screens are not drawn
+ * again. Otherwise, the {@link Display} is given the region which changed since the last drawn frame.
  * 
  */
 public final class Graphics {
 	
+	/**
+	 * Default Layers, from the lowest to the highest
+	 */
+	public static final int LAYER_BACKGROUND = 0;
+	public static final int LAYER_SCENERY = 1;
+	public static final int LAYER_BONUS = 2;
+	public static final int LAYER_NPC = 3;
+	public static final int LAYER_SHOT = 4;
+	public static final int LAYER_PLAYER = 5;
+	public static final int LAYER_EFFECT = 6;
+	public static final int LAYER_OVERLAY = 7;
+	
 	/**
 	 * Graphics default values
 	 */
-	private final static int MINIMUM_WAKEUP_TIME = 0;
-	private final static int MAXIMUM_WAKEUP_TIME = 32;
 	private final static Font DEFAULT_FONT = new Font();
 	private final static int DEFAULT_COLOR = Color.BLACK;
 	private final static Stroke DEFAULT_STROKE = new Stroke();
@@ -52,24 +71,36 @@ public final class Graphics {
 	 */
 	private final RenderListener listener;
 	private final int displayFps;
-	private final Paint paint;
 	private final Object lock;
+	private final FrameProfiler profiler;
 	
 	/**
 	 * Render Properties
 	 */
 	private int width;
 	private int height;
-	private Canvas buffer;
-	private GraphicsView view;
+	private final TripleBuffer<RenderBuffer> frames;
+	private RenderBuffer buffer;
+	private RenderBuffer previous;
+	private long frame;
+	private volatile boolean invalidated;
+	private volatile Display view;
+	
+	/**
+	 * Draw Properties
+	 */
+	private Rectangle screen;
+	private final Rectangle region;
+	private long lastFrame;
 	
 	/**
 	 * Graphics Value
 	 */
 	private long lastRender;
+	private long currentRender;
 	private int rawFps;
 	private int smoothFps;
-	private int wakeUp;
+	private float interpolation;
 
 	/**
 	 * Default Listener
@@ -84,12 +115,16 @@ public final class Graphics {
 		
 		this.displayFps = configuration.getFps();
 		this.listener = listener;
-		this.lastRender = System.currentTimeMillis();
+		this.lastRender = 0;
+		this.currentRender = 0;
 		this.rawFps = 0;
 		this.smoothFps = 0;
-		this.wakeUp = 25;
-		this.paint = new Paint(Paint.ANTI_ALIAS_FLAG);
+		this.interpolation = 1.0f;
 		this.lock = new Object();
+		this.region = new Rectangle(0, 0, 0, 0);
+		this.profiler = new FrameProfiler(configuration.isProfiling());
+		this.frames = new TripleBuffer<RenderBuffer>(new RenderBuffer(), new RenderBuffer(), new RenderBuffer());
+		this.buffer = frames.getBack();
 		
 	}
 	
@@ -108,10 +143,10 @@ public final class Graphics {
 	}
 
 	/** 
-	 * @return The time span between the current frame and the last frame in seconds.
+	 * @return The time span between the current frame and the last frame in milliseconds.
 	 */
 	public long getDeltaTime() {
-		return System.currentTimeMillis() - lastRender;
+		return currentRender - lastRender;
 	}
 	
 	/** 
@@ -129,17 +164,81 @@ public final class Graphics {
 	}
 	
 	/**
-	 * @return Wait time until next render.
+	 * @return The Profiler of each frame phase.
+	 */
+	public FrameProfiler getProfiler() {
+		return profiler;
+	}
+	
+	/**
+	 * <p>
+	 * Position between the previous and the current World step, in [0, 1].
+	 * 
+	 * <p>
+	 * Renderers should blend the previous and the current physics state with this value.
+	 * 
+	 * @return Interpolation factor for the current render.
+	 */
+	public float getInterpolation() {
+		return interpolation;
+	}
+	
+	/**
+	 * <p>
+	 * Record the next drawings in the given layer, in their order.
+	 * 
+	 * <p>
+	 * Each frame starts in {@link Graphics#LAYER_BACKGROUND}.
+	 * 
+	 * @param layer Layer in [0, 32767]
+	 * @see Graphics#setLayer(int, boolean)
+	 */
+	public void setLayer(int layer) {
+		setLayer(layer, false);
+	}
+	
+	/**
+	 * <p>
+	 * Record the next drawings in the given layer.
+	 * 
+	 * <p>
+	 * In a batched layer, the drawing order does not matter: drawings are replayed grouped by
+	 * Texture, Font or Stroke. A layer should always be used either batched or not.
+	 * 
+	 * <p>
+	 * Each frame starts in {@link Graphics#LAYER_BACKGROUND}, not batched.
+	 * 
+	 * @param layer Layer in [0, 32767]
+	 * @param batched True to allow the drawing to be reordered inside the layer
+	 */
+	public void setLayer(int layer, boolean batched) {
+		buffer.setLayer(layer, batched);
+	}
+	
+	/**
+	 * @return Layer of the next drawings
+	 */
+	public int getLayer() {
+		return buffer.getLayer();
+	}
+	
+	/**
+	 * Set the interpolation factor for the next render.
+	 * 
+	 * @param interpolation Interpolation factor in [0, 1].
 	 */
-	public int getNextWakeUp() {
-		return wakeUp;
+	void setInterpolation(float interpolation) {
+		this.interpolation = interpolation;
 	}
 	
-	public void createView(GraphicsView view, int width, int height) {
+	public void createView(Display view, int width, int height) {
 		synchronized(lock) {
 			this.view = view;
 			this.width = width;
 			this.height = height;
+			this.screen = new Rectangle(0, 0, width, height);
+			this.lastFrame = -1;
+			this.invalidated = true;
 			this.view.setGraphics(this);
 		}
 	}
@@ -153,55 +252,137 @@ public final class Graphics {
 		}
 	}
 	
+	/**
+	 * <p>
+	 * Simulation pass: run the game logic and record every drawing in the {@link RenderBuffer}.
+	 * 
+	 * <p>
+	 * The recorded frame is published for the next {@link Graphics#render()} when done, unless
+	 * it looks exactly like the previous one. Nothing is done while there is no View to render on.
+	 * 
+	 * <p>
+	 * <b>Thread: Engine</b>
+	 * 
+	 * @param now Current time in nanoseconds
+	 */
+	public void update(long now) {
+		
+		if(view == null) {
+			return;
+		}
+		
+		currentRender = now / 1000000L;
+		
+		buffer = frames.getBack();
+		buffer.clear();
+		
+		// Start Game Update
+		listener.render();
+		
+		// Update Render Timing
+		updateRender(currentRender);
+		
+		// Order the recorded frame by layer and drawing state
+		buffer.sort();
+		
+		// A new View must be entirely drawn
+		if(invalidated) {
+			invalidated = false;
+			previous = null;
+		}
+		
+		// Drop the recorded frame if nothing has changed
+		if(!buffer.compare(previous, width, height)) {
+			return;
+		}
+		
+		// Publish the recorded frame
+		buffer.setFrame(++frame);
+		previous = buffer;
+		frames.publish();
+		
+	}
+	
+	/**
+	 * Reset Render Timing before the first {@link Graphics#update(long)}.
+	 * 
+	 * @param now Current time in nanoseconds
+	 */
+	void start(long now) {
+		lastRender = now / 1000000L;
+		currentRender = lastRender;
+	}
+	
+	/**
+	 * Check if a frame has been recorded since the last {@link Graphics#flush(Surface)}.
+	 * 
+	 * @return True if a new frame is available.
+	 */
+	public boolean hasNewFrame() {
+		return frames.isDirty();
+	}
+	
 	/**
 	 * <p>
 	 * Core Engine for Rendering.
 	 * 
 	 * <p>
-	 * Called by {@link Engine} at each loop.
+	 * Called by the {@link Renderer} when a new frame is available.
 	 * 
 	 * <p>
 	 * <em>This method is Thread-Safe</em>
 	 * 
 	 * <p>
-	 * <b>Thread: Engine</b>
+	 * <b>Thread: Renderer</b>
 	 * 
 	 */
 	public void render() {
 		synchronized (lock) {
 			if(view != null) {
-				view.render();
+				
+				frames.swap();
+				
+				// Only the region changed since the last drawn frame must be drawn
+				RenderBuffer front = frames.getFront();
+				Rectangle dirty = (front.getFrame() == lastFrame + 1) ? front.getDirtyRegion(screen, region) : screen;
+				lastFrame = front.getFrame();
+				
+				long start = System.nanoTime();
+				view.render(dirty);
+				profiler.record(FrameProfiler.POST, System.nanoTime() - start);
+				
+			} else {
+				// Nowhere to draw: drop the frame
+				frames.swap();
 			}
 		}
 	}
 	
 	/**
 	 * <p>
-	 * Flush the {@link Graphics} Buffer into the given {@link Canvas}
+	 * Flush the last published {@link RenderBuffer} into the given {@link Surface}
 	 * for rendering.
 	 * 
 	 * <p>
+	 * Only drawing is done here, the game logic is run by {@link Graphics#update(long)}.
+	 * 
+	 * <p>
 	 * <em>This method is Thread-Safe</em>
 	 * 
 	 * <p>
-	 * <b>Thread: Main</b>
+	 * <b>Thread: Renderer</b>
 	 * 
-	 * @param canvas Canvas used with Android.
+	 * @param surface Surface given by the {@link Display}.
 	 */
-	public void flush(Canvas canvas) {
+	public void flush(Surface surface) {
 		synchronized (lock) {
-			if(canvas != null) {
-				
-				buffer = canvas;
+			if(surface != null) {
 				
 				// Flush and clear previous drawing
-				buffer.drawColor(Color.WHITE);
-						
-				// Start Game Rendering
-				listener.render();
+				surface.clear(Color.WHITE);
 				
-				// Update Render Timing
-				updateRender(System.currentTimeMillis());
+				// Draw the last recorded frame
+				frames.getFront().replay(surface);
 				
 			}
 		}
@@ -218,7 +399,6 @@ public final class Graphics {
 		
 		if((lastRender / 1000) < (currentRender / 1000)) {
 			updateFramesPerSecond();
-			updateWait();
 		}
 		
 		lastRender = currentRender;
@@ -231,31 +411,6 @@ public final class Graphics {
 		smoothFps = (int) ((0.1 * smoothFps) + (0.9 * rawFps));
 		rawFps = 0;
 	}
-	
-	/**
-	 * Update the next waiting time for next render.
-	 */
-	private void updateWait() {
-		
-		if(((getFramesPerSecond() < getRequestedFramesPerSecond()) &&
-				(wakeUp > MINIMUM_WAKEUP_TIME)) || 
-				((getFramesPerSecond() > getRequestedFramesPerSecond()) &&
-				(wakeUp < MAXIMUM_WAKEUP_TIME))) {
-			
-			int factor = getRequestedFramesPerSecond() - getFramesPerSecond();
-			wakeUp = 1000 / (getRequestedFramesPerSecond() + factor);
-			
-			if(wakeUp < MINIMUM_WAKEUP_TIME) {
-				wakeUp = MINIMUM_WAKEUP_TIME;
-			}
-			
-			if(wakeUp > MAXIMUM_WAKEUP_TIME) {
-				wakeUp = MAXIMUM_WAKEUP_TIME;
-			}
-			
-		}
-		
-	}
 
 	/**
 	 * <p>
@@ -402,7 +557,7 @@ public final class Graphics {
 	 * @param angle Rotation to apply on Texture in Degree
 	 */
 	public void draw(final Texture texture, final int x, final int y, final int width, final int height, final int srcX, final int srcY, final int srcWidth, final int srcHeight, final float angle) {
-		texture.draw(buffer, paint, x, y, width, height, srcX, srcY, srcWidth, srcHeight, angle);
+		buffer.addTexture(Objects.requireNonNull(texture), x, y, width, height, srcX, srcY, srcWidth, srcHeight, angle);
 	}
 	
 	/**
@@ -431,7 +586,7 @@ public final class Graphics {
 	 * @param angle Rotation to apply on Texture in Degree (Optional)
 	 */
 	public void draw(final TextureOperator textureOp, final int x, final int y, final int width, final int height, final float angle) {
-		textureOp.draw(buffer, paint, x, y, width, height, angle);
+		textureOp.draw(this, x, y, width, height, angle);
 	}
 	
 	/**
@@ -484,10 +639,51 @@ public final class Graphics {
 	 */
 	public void draw(final String message, final int x, final int y, final Font font, final int color) {
 		
-		paint.setColor(color);
-		paint.setTypeface(font.getTypeface());
-		paint.setTextSize(font.getSize());
-		buffer.drawText(message, x, y, paint);
+		buffer.addText(Objects.requireNonNull(message), x, y, Objects.requireNonNull(font), color);
+		
+	}
+	
+	/**
+	 * <p>
+	 * Draw a number between a prefix and a suffix, with the left bottom corner at x,y with a given Color and Font.
+	 * 
+	 * <p>
+	 * Prefer this method for counters: the number is never converted to a String.
+	 * 
+	 * @param prefix String displayed before the number
+	 * @param value Number to display
+	 * @param suffix String displayed after the number
+	 * @param x Left Position X in Display Screen
+	 * @param y Bottom Position Y in Display Screen
+	 * @param font Font used for rendering
+	 * @param color Color used for rendering
+	 */
+	public void draw(final String prefix, final int value, final String suffix, final int x, final int y, final Font font, final int color) {
+		
+		buffer.addNumber(Objects.requireNonNull(prefix), value, Objects.requireNonNull(suffix), x, y, Objects.requireNonNull(font), color);
+		
+	}
+	
+	/**
+	 * <p>
+	 * Draw square points centered on the given coordinates.
+	 * 
+	 * <p>
+	 * The coordinates are copied: the array can be changed right after this call.
+	 * 
+	 * @param points Point coordinates: x,y pairs
+	 * @param offset First point
+	 * @param count Number of points
+	 * @param size Size of a point side
+	 * @param color Color to use
+	 */
+	public void draw(final float[] points, final int offset, final int count, final int size, final int color) {
+		
+		if(offset < 0 || count < 0 || (offset + count) * 2 > points.length) {
+			throw new IndexOutOfBoundsException("Points ["+offset+", "+(offset + count)+"[ out of "+(points.length / 2));
+		}
+		
+		buffer.addPoints(points, offset, count, size, color);
 		
 	}
 	
@@ -519,12 +715,7 @@ public final class Graphics {
 	 */
 	public void draw(final Shape shape, final int color, final Stroke stroke) {
 		
-		paint.setColor(color);
-		paint.setStrokeWidth(stroke.getWidth());
-		paint.setStyle(stroke.getStyle());
-		paint.setStrokeJoin(stroke.getJoin());
-		paint.setStrokeCap(stroke.getCap());
-		shape.draw(buffer, paint);
+		buffer.addShape(Objects.requireNonNull(shape), color, Objects.requireNonNull(stroke));
 		
 	}
 	
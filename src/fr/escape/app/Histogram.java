@@ -0,0 +1,166 @@
+/*****************************************************************************
+ * 
+ * Copyright 2012-2013 See AUTHORS file.
+ * 
+ * This file is part of Escape-IR.
+ * 
+ * Escape-IR is free software: you can redistribute it and/or modify
+ * it under the terms of the zlib license. See the COPYING file.
+ * 
+ *****************************************************************************/
+
+package fr.escape.app;
+
+/**
+ * <p>
+ * A latency Histogram with fixed log-linear buckets.
+ * 
+ * <p>
+ * Each power of two is split in {@link Histogram#SUB_BUCKETS} linear buckets, so any
+ * value is known with a relative error below 1/{@link Histogram#SUB_BUCKETS}.
+ * Recording never allocates.
+ * 
+ * <p>
+ * <em>This class is not Thread-Safe</em>
+ * 
+ */
+public final class Histogram {
+	
+	/**
+	 * Linear buckets per power of two
+	 */
+	private static final int SUB_BUCKET_BITS = 3;
+	private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+	
+	/**
+	 * Highest power of two recorded: about 18 minutes in nanoseconds
+	 */
+	private static final int MAX_EXPONENT = 40;
+	private static final int BUCKETS = (MAX_EXPONENT - SUB_BUCKET_BITS + 2) * SUB_BUCKETS;
+	
+	private final long[] counts;
+	private long count;
+	private long max;
+	
+	/**
+	 * Default Constructor
+	 */
+	public Histogram() {
+		this.counts = new long[BUCKETS];
+	}
+	
+	/**
+	 * Record a value.
+	 * 
+	 * @param value Value to record, negative values are recorded as 0
+	 */
+	public void record(long value) {
+		
+		if(value < 0) {
+			value = 0;
+		}
+		
+		counts[getIndex(value)]++;
+		count++;
+		
+		if(value > max) {
+			max = value;
+		}
+	}
+	
+	/**
+	 * @return Number of recorded values
+	 */
+	public long getCount() {
+		return count;
+	}
+	
+	/**
+	 * @return Highest recorded value
+	 */
+	public long getMax() {
+		return max;
+	}
+	
+	/**
+	 * Get the value below which the given percentage of recorded values fall.
+	 * 
+	 * @param percentile Percentile between 0 and 100
+	 * @return Highest value of the matching bucket, 0 if nothing is recorded
+	 */
+	public long getValueAt(double percentile) {
+		
+		if(count == 0) {
+			return 0;
+		}
+		
+		long target = Math.max(1, (long) Math.ceil((percentile / 100.0) * count));
+		long seen = 0;
+		
+		for(int i = 0; i < BUCKETS; i++) {
+			
+			seen += counts[i];
+			
+			if(seen >= target) {
+				return Math.min(getLowestValue(i + 1) - 1, max);
+			}
+		}
+		
+		return max;
+	}
+	
+	/**
+	 * Forget every recorded value.
+	 */
+	public void reset() {
+		
+		for(int i = 0; i < BUCKETS; i++) {
+			counts[i] = 0;
+		}
+		
+		count = 0;
+		max = 0;
+	}
+	
+	/**
+	 * Compute the bucket of a value.
+	 * 
+	 * @param value Positive value
+	 * @return Bucket index
+	 */
+	private static int getIndex(long value) {
+		
+		if(value < SUB_BUCKETS) {
+			return (int) value;
+		}
+		
+		int exponent = 63 - Long.numberOfLeadingZeros(value);
+		
+		if(exponent > MAX_EXPONENT) {
+			return BUCKETS - 1;
+		}
+		
+		int sub = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+		
+		return ((exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS) + sub;
+	}
+	
+	/**
+	 * Compute the lowest value of a bucket.
+	 * 
+	 * @param index Bucket index
+	 * @return Lowest value in this bucket
+	 */
+	private static long getLowestValue(int index) {
+		
+		if(index < SUB_BUCKETS) {
+			return index;
+		}
+		
+		int exponent = (index / SUB_BUCKETS) + SUB_BUCKET_BITS - 1;
+		int sub = index % SUB_BUCKETS;
+		
+		return ((long) (SUB_BUCKETS + sub)) << (exponent - SUB_BUCKET_BITS);
+	}
+
+}
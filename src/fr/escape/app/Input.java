@@ -11,7 +11,6 @@
 
 package fr.escape.app;
 
-import android.view.MotionEvent;
 import fr.escape.Objects;
 
 /**
@@ -57,27 +56,29 @@ public final class Input {
 	/**
 	 * Default Constructor
 	 * 
-	 * @param event Mouse Input Event
+	 * @param x X Coordinate
+	 * @param y Y Coordinate
+	 * @param action Mouse Action
 	 */
-	public Input(MotionEvent event) {
-		this(event, 0.0f, 0.0f);
+	public Input(int x, int y, Action action) {
+		this(x, y, action, 0.0f, 0.0f);
 	}
 	
 	/**
 	 * Constructor with Velocity Information.
 	 * 
-	 * @param event Mouse Input Event
-	 * @param x X Velocity
-	 * @param y Y Velocity
+	 * @param x X Coordinate
+	 * @param y Y Coordinate
+	 * @param action Mouse Action
+	 * @param velocityX X Velocity
+	 * @param velocityY Y Velocity
 	 */
-	public Input(MotionEvent event, float x, float y) {
-		
-		Objects.requireNonNull(event);
-		this.x = (int) event.getX();
-		this.y = (int) event.getY();
-		this.velocityX = x;
-		this.velocityY = y;
-		this.action = Action.create(event.getAction());
+	public Input(int x, int y, Action action, float velocityX, float velocityY) {
+		this.x = x;
+		this.y = y;
+		this.velocityX = velocityX;
+		this.velocityY = velocityY;
+		this.action = Objects.requireNonNull(action);
 	}
 
 	/**
@@ -146,29 +147,12 @@ public final class Input {
 	}
 	
 	/**
-	 * Filter for MotionEvent Action: Keep it simple.
+	 * Filter for Touch Action: Keep it simple.
 	 */
 	public enum Action {
 		
 		ACTION_DOWN, ACTION_UP, ACTION_MOVE, ACTION_UNKNOWN;
 		
-		static Action create(int action) {
-			switch(action) {
-				case MotionEvent.ACTION_UP: {
-					return ACTION_UP;
-				}
-				case MotionEvent.ACTION_DOWN: {
-					return ACTION_DOWN;
-				}
-				case MotionEvent.ACTION_MOVE: {
-					return ACTION_MOVE;
-				}
-				default: {
-					return ACTION_UNKNOWN;
-				}
-			}
-		}
-		
 	}
 	
 }
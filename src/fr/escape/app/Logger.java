@@ -0,0 +1,49 @@
+/*****************************************************************************
+ * 
+ * Copyright 2012-2013 See AUTHORS file.
+ * 
+ * This file is part of Escape-IR.
+ * 
+ * Escape-IR is free software: you can redistribute it and/or modify
+ * it under the terms of the zlib license. See the COPYING file.
+ * 
+ *****************************************************************************/
+
+package fr.escape.app;
+
+/**
+ * <p>
+ * Log sink used by {@link Engine#log(String, String)}, {@link Engine#error(String, String)}
+ * and {@link Engine#debug(String, String)}.
+ * 
+ */
+public interface Logger {
+	
+	/**
+	 * Logs an information message.
+	 * 
+	 * @param tag Message source
+	 * @param message Message
+	 * @param throwable Cause, may be null
+	 */
+	public void log(String tag, String message, Throwable throwable);
+	
+	/**
+	 * Logs an error message.
+	 * 
+	 * @param tag Message source
+	 * @param message Message
+	 * @param throwable Cause, may be null
+	 */
+	public void error(String tag, String message, Throwable throwable);
+	
+	/**
+	 * Logs a debug message.
+	 * 
+	 * @param tag Message source
+	 * @param message Message
+	 * @param throwable Cause, may be null
+	 */
+	public void debug(String tag, String message, Throwable throwable);
+
+}
@@ -0,0 +1,52 @@
+/*****************************************************************************
+ * 
+ * Copyright 2012-2013 See AUTHORS file.
+ * 
+ * This file is part of Escape-IR.
+ * 
+ * Escape-IR is free software: you can redistribute it and/or modify
+ * it under the terms of the zlib license. See the COPYING file.
+ * 
+ *****************************************************************************/
+
+package fr.escape.app;
+
+/**
+ * <p>
+ * Everything the {@link Engine} needs from the system it runs on.
+ * 
+ * <p>
+ * The Android implementation is given by the Application, a headless one allows
+ * to run the game on a plain Java Virtual Machine.
+ * 
+ */
+public interface Platform {
+	
+	/**
+	 * @return Logger used by the {@link Engine}
+	 */
+	public Logger getLogger();
+	
+	/**
+	 * @return Storage for assets, scenario and pictures
+	 */
+	public Storage getStorage();
+	
+	/**
+	 * @return Toolkit used to load images and fonts
+	 */
+	public Toolkit getToolkit();
+	
+	/**
+	 * Display a short message to the User.
+	 * 
+	 * @param message Message to display
+	 */
+	public void toast(String message);
+	
+	/**
+	 * Open the Scenario Builder, if the platform has one.
+	 */
+	public void launchBuilder();
+
+}
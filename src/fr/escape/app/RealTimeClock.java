@@ -0,0 +1,29 @@
+/*****************************************************************************
+ * 
+ * Copyright 2012-2013 See AUTHORS file.
+ * 
+ * This file is part of Escape-IR.
+ * 
+ * Escape-IR is free software: you can redistribute it and/or modify
+ * it under the terms of the zlib license. See the COPYING file.
+ * 
+ *****************************************************************************/
+
+package fr.escape.app;
+
+/**
+ * <p>
+ * A {@link GameClock} which follows the wall clock of the Java Virtual Machine.
+ * 
+ * <p>
+ * This is the default clock of the {@link Engine}.
+ * 
+ */
+public final class RealTimeClock implements GameClock {
+	
+	@Override
+	public long nanoTime() {
+		return System.nanoTime();
+	}
+
+}
@@ -0,0 +1,656 @@
+/*****************************************************************************
+ * 
+ * Copyright 2012-2013 See AUTHORS file.
+ * 
+ * This file is part of Escape-IR.
+ * 
+ * Escape-IR is free software: you can redistribute it and/or modify
+ * it under the terms of the zlib license. See the COPYING file.
+ * 
+ *****************************************************************************/
+
+package fr.escape.app;
+
+import java.util.Arrays;
+
+import fr.escape.graphics.Font;
+import fr.escape.graphics.Image;
+import fr.escape.graphics.Rectangle;
+import fr.escape.graphics.Shape;
+import fr.escape.graphics.Stroke;
+import fr.escape.graphics.Surface;
+import fr.escape.graphics.Texture;
+
+/**
+ * <p>
+ * A compact snapshot of every drawing command issued during one simulation pass.
+ * 
+ * <p>
+ * Commands are stored in parallel arrays (one slot per command) and grow when needed,
+ * so once the game reached its steady state, recording a frame does not allocate.
+ * 
+ * <p>
+ * A {@link RenderBuffer} is filled by the simulation pass and replayed on a {@link Surface}
+ * by the draw pass. It must not be shared between two Threads at the same time.
+ * 
+ * <p>
+ * Before the replay, commands are sorted by layer. Inside a batched layer, they are also
+ * grouped by drawing state (same {@link Texture}, same Font and Color, same Stroke and Color),
+ * so the {@link Surface} changes its state as few times as possible.
+ * 
+ * <p>
+ * A recorded frame can be compared with the previous one to find the region of the
+ * Display Screen which changed.
+ * 
+ * @see Graphics
+ */
+final class RenderBuffer {
+	
+	/**
+	 * Command Type
+	 */
+	static final byte TEXTURE = 0;
+	static final byte TEXT = 1;
+	static final byte SHAPE = 2;
+	static final byte NUMBER = 3;
+	static final byte POINTS = 4;
+	
+	/**
+	 * Highest layer which can be recorded
+	 */
+	static final int MAX_LAYER = 0x7FFF;
+	
+	private static final int DEFAULT_CAPACITY = 256;
+	
+	/**
+	 * Sort Key layout: layer (15 bits), drawing state (24 bits), recording index (24 bits).
+	 * Drawing state layout: command type (3 bits), hash (21 bits).
+	 */
+	private static final int LAYER_SHIFT = 48;
+	private static final int STATE_SHIFT = 24;
+	private static final int TYPE_SHIFT = 21;
+	private static final int HASH_MASK = 0x1FFFFF;
+	private static final int INDEX_MASK = 0xFFFFFF;
+	
+	/**
+	 * Command Arguments (Struct of Arrays)
+	 */
+	private byte[] types;
+	private Object[] targets;
+	private Object[] suffixes;
+	private Object[] styles;
+	private int[] colors;
+	private int[] coordinates;
+	private float[] angles;
+	private long[] keys;
+	
+	/**
+	 * Point coordinates, copied from the caller: x,y pairs
+	 */
+	private float[] points;
+	private int pointsSize;
+	
+	private int size;
+	private long frame;
+	private int layer;
+	private boolean batched;
+	private boolean sorted;
+	
+	/**
+	 * Region changed since the previous frame
+	 */
+	private int dirtyLeft;
+	private int dirtyTop;
+	private int dirtyRight;
+	private int dirtyBottom;
+	
+	/**
+	 * Default Constructor
+	 */
+	RenderBuffer() {
+		this(DEFAULT_CAPACITY);
+	}
+	
+	/**
+	 * Constructor with a given initial capacity.
+	 * 
+	 * @param capacity Number of commands which can be recorded before growing.
+	 */
+	RenderBuffer(int capacity) {
+		
+		if(capacity <= 0) {
+			throw new IllegalArgumentException("Capacity must be positive");
+		}
+		
+		this.types = new byte[capacity];
+		this.targets = new Object[capacity];
+		this.suffixes = new Object[capacity];
+		this.styles = new Object[capacity];
+		this.colors = new int[capacity];
+		this.coordinates = new int[capacity * 8];
+		this.angles = new float[capacity];
+		this.keys = new long[capacity];
+		this.points = new float[capacity * 2];
+		this.pointsSize = 0;
+		this.size = 0;
+		this.layer = 0;
+		this.batched = false;
+		this.sorted = true;
+	}
+	
+	/**
+	 * Get the number of recorded commands.
+	 * 
+	 * @return Number of commands
+	 */
+	int size() {
+		return size;
+	}
+	
+	/**
+	 * Forget every recorded commands, and go back to the first layer.
+	 */
+	void clear() {
+		
+		// Release references for the Garbage Collector
+		for(int i = 0; i < size; i++) {
+			targets[i] = null;
+			suffixes[i] = null;
+			styles[i] = null;
+		}
+		
+		size = 0;
+		pointsSize = 0;
+		layer = 0;
+		batched = false;
+		sorted = true;
+	}
+	
+	/**
+	 * <p>
+	 * Set the layer of the next recorded commands.
+	 * 
+	 * <p>
+	 * Commands of a batched layer may be replayed in any order inside their layer.
+	 * 
+	 * @param layer Layer in [0, {@link RenderBuffer#MAX_LAYER}]
+	 * @param batched True if the drawing order inside the layer does not matter.
+	 */
+	void setLayer(int layer, boolean batched) {
+		
+		if(layer < 0 || layer > MAX_LAYER) {
+			throw new IllegalArgumentException("Layer must be in [0, "+MAX_LAYER+"]: "+layer);
+		}
+		
+		this.layer = layer;
+		this.batched = batched;
+	}
+	
+	/**
+	 * @return Layer of the next recorded commands
+	 */
+	int getLayer() {
+		return layer;
+	}
+	
+	/**
+	 * @return True if the current layer is batched
+	 */
+	boolean isBatched() {
+		return batched;
+	}
+	
+	/**
+	 * <p>
+	 * Sort the recorded commands by layer, then by drawing state inside batched layers.
+	 * 
+	 * <p>
+	 * Commands which share the same key keep their recording order. Nothing is done if the
+	 * commands are already in order.
+	 */
+	void sort() {
+		
+		if(sorted) {
+			return;
+		}
+		
+		Arrays.sort(keys, 0, size);
+		sorted = true;
+	}
+	
+	/**
+	 * Record a {@link Texture} drawing.
+	 * 
+	 * @see Texture#draw(Surface, int, int, int, int, int, int, int, int, float)
+	 */
+	void addTexture(Texture texture, int x, int y, int width, int height, int srcX, int srcY, int srcWidth, int srcHeight, float angle) {
+		
+		// Resolve the pixels now, so the frame keeps them until it is replayed
+		int index = next(TEXTURE, texture, texture.getImage(), 0, angle);
+		int offset = index * 8;
+		
+		coordinates[offset] = x;
+		coordinates[offset + 1] = y;
+		coordinates[offset + 2] = width;
+		coordinates[offset + 3] = height;
+		coordinates[offset + 4] = srcX;
+		coordinates[offset + 5] = srcY;
+		coordinates[offset + 6] = srcWidth;
+		coordinates[offset + 7] = srcHeight;
+	}
+	
+	/**
+	 * Record a Text drawing.
+	 * 
+	 * @param message String to display
+	 * @param x Left Position X in Display Screen
+	 * @param y Bottom Position Y in Display Screen
+	 * @param font Font used for rendering
+	 * @param color Color used for rendering
+	 */
+	void addText(String message, int x, int y, Font font, int color) {
+		
+		int offset = next(TEXT, message, font, color, 0.0f) * 8;
+		
+		coordinates[offset] = x;
+		coordinates[offset + 1] = y;
+	}
+	
+	/**
+	 * Record a number drawing.
+	 * 
+	 * @param prefix String displayed before the number
+	 * @param value Number to display
+	 * @param suffix String displayed after the number
+	 * @param x Left Position X in Display Screen
+	 * @param y Bottom Position Y in Display Screen
+	 * @param font Font used for rendering
+	 * @param color Color used for rendering
+	 */
+	void addNumber(String prefix, int value, String suffix, int x, int y, Font font, int color) {
+		
+		int index = next(NUMBER, prefix, font, color, 0.0f);
+		int offset = index * 8;
+		
+		suffixes[index] = suffix;
+		coordinates[offset] = x;
+		coordinates[offset + 1] = y;
+		coordinates[offset + 2] = value;
+	}
+	
+	/**
+	 * Record a {@link Shape} drawing.
+	 * 
+	 * @param shape Shape to draw
+	 * @param color Color to use
+	 * @param stroke Stroke to use
+	 */
+	void addShape(Shape shape, int color, Stroke stroke) {
+		next(SHAPE, shape, stroke, color, 0.0f);
+	}
+	
+	/**
+	 * Record a Points drawing: the coordinates are copied, so the caller can change them right away.
+	 * 
+	 * @param source Point coordinates: x,y pairs in Display Screen
+	 * @param offset First point in source
+	 * @param count Number of points
+	 * @param pointSize Size of a point side
+	 * @param color Color to use
+	 */
+	void addPoints(float[] source, int offset, int count, int pointSize, int color) {
+		
+		int index = next(POINTS, null, null, color, 0.0f);
+		int coordinate = index * 8;
+		
+		if(pointsSize + count * 2 > points.length) {
+			
+			float[] newPoints = new float[Math.max(points.length * 2, pointsSize + count * 2)];
+			System.arraycopy(points, 0, newPoints, 0, pointsSize);
+			
+			points = newPoints;
+		}
+		
+		System.arraycopy(source, offset * 2, points, pointsSize, count * 2);
+		
+		coordinates[coordinate] = pointsSize / 2;
+		coordinates[coordinate + 1] = count;
+		coordinates[coordinate + 2] = pointSize;
+		
+		pointsSize += count * 2;
+	}
+	
+	/**
+	 * <p>
+	 * Compare this frame with the previous one, and keep the region of the Display Screen
+	 * which changed, clipped to the given size.
+	 * 
+	 * <p>
+	 * Both frames must be sorted. A command which differs from the command at the same place in
+	 * the previous frame invalidates both drawn areas. Texts and Shapes invalidate the whole
+	 * Display Screen, their area is unknown before drawing.
+	 * 
+	 * @param previous Previous frame, or null to invalidate the whole Display Screen
+	 * @param width Display Screen width
+	 * @param height Display Screen height
+	 * @return True if something changed on the Display Screen.
+	 */
+	boolean compare(RenderBuffer previous, int width, int height) {
+		
+		dirtyLeft = Integer.MAX_VALUE;
+		dirtyTop = Integer.MAX_VALUE;
+		dirtyRight = Integer.MIN_VALUE;
+		dirtyBottom = Integer.MIN_VALUE;
+		
+		if(previous == null) {
+			union(0, 0, width, height);
+		} else {
+			
+			int count = Math.max(size, previous.size);
+			
+			for(int j = 0; j < count; j++) {
+				
+				int i = (j < size) ? (int) (keys[j] & INDEX_MASK) : -1;
+				int k = (j < previous.size) ? (int) (previous.keys[j] & INDEX_MASK) : -1;
+				
+				if(i >= 0 && k >= 0 && isSame(i, previous, k)) {
+					continue;
+				}
+				
+				if(i >= 0) {
+					invalidate(i, this, width, height);
+				}
+				
+				if(k >= 0) {
+					previous.invalidate(k, this, width, height);
+				}
+			}
+		}
+		
+		// Only keep what is visible
+		dirtyLeft = Math.max(dirtyLeft, 0);
+		dirtyTop = Math.max(dirtyTop, 0);
+		dirtyRight = Math.min(dirtyRight, width);
+		dirtyBottom = Math.min(dirtyBottom, height);
+		
+		return dirtyLeft < dirtyRight && dirtyTop < dirtyBottom;
+	}
+	
+	/**
+	 * <p>
+	 * Get the region which changed, as computed by {@link RenderBuffer#compare(RenderBuffer, int, int)}.
+	 * 
+	 * @param screen The whole Display Screen, returned when it is entirely changed.
+	 * @param region Rectangle filled and returned when only a part of the Display Screen changed.
+	 * @return Changed region
+	 */
+	Rectangle getDirtyRegion(Rectangle screen, Rectangle region) {
+		
+		if(dirtyLeft <= screen.left && dirtyTop <= screen.top && dirtyRight >= screen.right && dirtyBottom >= screen.bottom) {
+			return screen;
+		}
+		
+		region.set(dirtyLeft, dirtyTop, dirtyRight, dirtyBottom);
+		
+		return region;
+	}
+	
+	/**
+	 * @return Sequence number of this frame
+	 */
+	long getFrame() {
+		return frame;
+	}
+	
+	/**
+	 * Set the sequence number of this frame, when it is published.
+	 * 
+	 * @param frame Sequence number
+	 */
+	void setFrame(long frame) {
+		this.frame = frame;
+	}
+	
+	/**
+	 * Check if a command draws exactly the same thing as a command of another frame.
+	 * 
+	 * @param i Command index in this frame
+	 * @param other Other frame
+	 * @param k Command index in the other frame
+	 * @return True if both commands are the same.
+	 */
+	private boolean isSame(int i, RenderBuffer other, int k) {
+		
+		// Points move on every frame
+		if(types[i] == POINTS) {
+			return false;
+		}
+		
+		if(types[i] != other.types[k] || styles[i] != other.styles[k] || colors[i] != other.colors[k] ||
+				Float.floatToIntBits(angles[i]) != Float.floatToIntBits(other.angles[k])) {
+			return false;
+		}
+		
+		// Messages are built again for each frame
+		if(types[i] == TEXT || types[i] == NUMBER ? !targets[i].equals(other.targets[k]) : targets[i] != other.targets[k]) {
+			return false;
+		}
+		
+		if(types[i] == NUMBER && !suffixes[i].equals(other.suffixes[k])) {
+			return false;
+		}
+		
+		int offset = i * 8;
+		int otherOffset = k * 8;
+		
+		for(int n = 0; n < 8; n++) {
+			if(coordinates[offset + n] != other.coordinates[otherOffset + n]) {
+				return false;
+			}
+		}
+		
+		return true;
+	}
+	
+	/**
+	 * Add the area drawn by a command of this frame in the dirty region of the given frame.
+	 * 
+	 * @param i Command index in this frame
+	 * @param target Frame which receives the dirty region
+	 * @param width Display Screen width
+	 * @param height Display Screen height
+	 */
+	private void invalidate(int i, RenderBuffer target, int width, int height) {
+		
+		if(types[i] != TEXTURE) {
+			target.union(0, 0, width, height);
+			return;
+		}
+		
+		int offset = i * 8;
+		
+		int left = Math.min(coordinates[offset], coordinates[offset + 2]);
+		int top = Math.min(coordinates[offset + 1], coordinates[offset + 3]);
+		int right = Math.max(coordinates[offset], coordinates[offset + 2]);
+		int bottom = Math.max(coordinates[offset + 1], coordinates[offset + 3]);
+		
+		if(angles[i] != 0) {
+			
+			// Any rotation stays in the circle around the center
+			int centerX = (left + right) / 2;
+			int centerY = (top + bottom) / 2;
+			int radius = (int) Math.ceil(Math.hypot(right - left, bottom - top) / 2);
+			
+			left = centerX - radius;
+			top = centerY - radius;
+			right = centerX + radius;
+			bottom = centerY + radius;
+		}
+		
+		// Keep a pixel for anti-aliasing
+		target.union(left - 1, top - 1, right + 1, bottom + 1);
+	}
+	
+	/**
+	 * Add the given area in the dirty region.
+	 */
+	private void union(int left, int top, int right, int bottom) {
+		dirtyLeft = Math.min(dirtyLeft, left);
+		dirtyTop = Math.min(dirtyTop, top);
+		dirtyRight = Math.max(dirtyRight, right);
+		dirtyBottom = Math.max(dirtyBottom, bottom);
+	}
+	
+	/**
+	 * <p>
+	 * Replay every recorded commands on the given {@link Surface}.
+	 * 
+	 * <p>
+	 * This method only read this {@link RenderBuffer}.
+	 * 
+	 * @param surface Surface used for drawing.
+	 */
+	void replay(Surface surface) {
+		for(int j = 0; j < size; j++) {
+			
+			int i = (int) (keys[j] & INDEX_MASK);
+			int offset = i * 8;
+			
+			switch(types[i]) {
+				case TEXTURE: {
+					((Texture) targets[i]).draw(surface, (Image) styles[i],
+							coordinates[offset], coordinates[offset + 1], coordinates[offset + 2], coordinates[offset + 3],
+							coordinates[offset + 4], coordinates[offset + 5], coordinates[offset + 6], coordinates[offset + 7],
+							angles[i]);
+					break;
+				}
+				case TEXT: {
+					surface.drawText((String) targets[i], coordinates[offset], coordinates[offset + 1], (Font) styles[i], colors[i]);
+					break;
+				}
+				case SHAPE: {
+					((Shape) targets[i]).draw(surface, colors[i], (Stroke) styles[i]);
+					break;
+				}
+				case NUMBER: {
+					surface.drawNumber((String) targets[i], coordinates[offset + 2], (String) suffixes[i],
+							coordinates[offset], coordinates[offset + 1], (Font) styles[i], colors[i]);
+					break;
+				}
+				case POINTS: {
+					surface.drawPoints(points, coordinates[offset], coordinates[offset + 1], coordinates[offset + 2], colors[i]);
+					break;
+				}
+				default: {
+					throw new IllegalStateException("Unknown Command: "+types[i]);
+				}
+			}
+		}
+	}
+	
+	/**
+	 * Allocate the next command slot.
+	 * 
+	 * @return Index of the command slot.
+	 */
+	private int next(byte type, Object target, Object style, int color, float angle) {
+		
+		if(size == types.length) {
+			grow();
+		}
+		
+		if(size > INDEX_MASK) {
+			throw new IllegalStateException("Too many commands in one frame");
+		}
+		
+		int index = size++;
+		
+		types[index] = type;
+		targets[index] = target;
+		suffixes[index] = null;
+		styles[index] = style;
+		colors[index] = color;
+		angles[index] = angle;
+		
+		long key = ((long) layer << LAYER_SHIFT) | index;
+		
+		if(batched) {
+			key |= (long) getState(type, target, style, color) << STATE_SHIFT;
+		}
+		
+		if(index > 0 && key < keys[index - 1]) {
+			sorted = false;
+		}
+		
+		keys[index] = key;
+		
+		return index;
+	}
+	
+	/**
+	 * <p>
+	 * Compute the drawing state of a command: commands with the same state can be drawn
+	 * one after the other without changing the Surface state.
+	 * 
+	 * <p>
+	 * Two different states may collide, they are then simply not grouped.
+	 * 
+	 * @return Drawing state on 24 bits
+	 */
+	private static int getState(byte type, Object target, Object style, int color) {
+		
+		int hash;
+		
+		switch(type) {
+			case TEXTURE: {
+				hash = System.identityHashCode(style);
+				break;
+			}
+			default: {
+				hash = System.identityHashCode(style) * 31 + color;
+				break;
+			}
+		}
+		
+		// Spread the hash bits, then keep the command type on top
+		hash ^= (hash >>> 16);
+		
+		return (type << TYPE_SHIFT) | (hash & HASH_MASK);
+	}
+	
+	/**
+	 * Double the capacity of this {@link RenderBuffer}.
+	 */
+	private void grow() {
+		
+		int capacity = types.length * 2;
+		
+		byte[] newTypes = new byte[capacity];
+		Object[] newTargets = new Object[capacity];
+		Object[] newSuffixes = new Object[capacity];
+		Object[] newStyles = new Object[capacity];
+		int[] newColors = new int[capacity];
+		int[] newCoordinates = new int[capacity * 8];
+		float[] newAngles = new float[capacity];
+		long[] newKeys = new long[capacity];
+		
+		System.arraycopy(types, 0, newTypes, 0, size);
+		System.arraycopy(targets, 0, newTargets, 0, size);
+		System.arraycopy(suffixes, 0, newSuffixes, 0, size);
+		System.arraycopy(styles, 0, newStyles, 0, size);
+		System.arraycopy(colors, 0, newColors, 0, size);
+		System.arraycopy(coordinates, 0, newCoordinates, 0, size * 8);
+		System.arraycopy(angles, 0, newAngles, 0, size);
+		System.arraycopy(keys, 0, newKeys, 0, size);
+		
+		types = newTypes;
+		targets = newTargets;
+		suffixes = newSuffixes;
+		styles = newStyles;
+		colors = newColors;
+		coordinates = newCoordinates;
+		angles = newAngles;
+		keys = newKeys;
+	}
+
+}
@@ -0,0 +1,86 @@
+/*****************************************************************************
+ * 
+ * Copyright 2012-2013 See AUTHORS file.
+ * 
+ * This file is part of Escape-IR.
+ * 
+ * Escape-IR is free software: you can redistribute it and/or modify
+ * it under the terms of the zlib license. See the COPYING file.
+ * 
+ *****************************************************************************/
+
+package fr.escape.app;
+
+import java.util.concurrent.locks.LockSupport;
+
+import fr.escape.Objects;
+
+/**
+ * <p>
+ * Draw pass of the {@link Engine}, running on its own Thread.
+ * 
+ * <p>
+ * While the Engine Looper records the frame N+1, this Thread draws the frame N on the
+ * User Screen. It sleeps until {@link Renderer#requestRender()} is called.
+ * 
+ * @see Graphics#render()
+ */
+final class Renderer implements Runnable {
+	
+	/**
+	 * Class TAG
+	 */
+	private static final String TAG = Renderer.class.getSimpleName();
+	
+	private final Graphics graphics;
+	private final Thread thread;
+	
+	/**
+	 * Default Constructor
+	 * 
+	 * @param graphics Graphics to render.
+	 */
+	Renderer(Graphics graphics) {
+		this.graphics = Objects.requireNonNull(graphics);
+		this.thread = new Thread(this);
+	}
+	
+	/**
+	 * Start the Rendering Thread.
+	 */
+	void start() {
+		thread.setName("Engine Renderer");
+		thread.start();
+	}
+	
+	/**
+	 * <p>
+	 * Wake up the Rendering Thread: a new frame is available.
+	 * 
+	 * <p>
+	 * <b>Thread: Engine</b>
+	 */
+	void requestRender() {
+		LockSupport.unpark(thread);
+	}
+	
+	@Override
+	public void run() {
+		try {
+			
+			Engine.debug(TAG, "Renderer started");
+			
+			while(!Thread.currentThread().isInterrupted()) {
+				if(graphics.hasNewFrame()) {
+					graphics.render();
+				} else {
+					LockSupport.park(this);
+				}
+			}
+			
+		} finally {
+			Engine.debug(TAG, "Renderer closed");
+		}
+	}
+
+}
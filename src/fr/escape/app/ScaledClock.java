@@ -0,0 +1,121 @@
+/*****************************************************************************
+ * 
+ * Copyright 2012-2013 See AUTHORS file.
+ * 
+ * This file is part of Escape-IR.
+ * 
+ * Escape-IR is free software: you can redistribute it and/or modify
+ * it under the terms of the zlib license. See the COPYING file.
+ * 
+ *****************************************************************************/
+
+package fr.escape.app;
+
+import fr.escape.Objects;
+
+/**
+ * <p>
+ * A {@link GameClock} running at a multiple of another clock, which can be paused.
+ * 
+ * <p>
+ * Changing the scale or pausing never makes the time jump: the clock keeps its current value
+ * and only the speed at which it moves from there changes. A paused clock does not move at all,
+ * so the Engine keeps rendering the frozen game.
+ * 
+ * <p>
+ * <em>This class is Thread-Safe</em>
+ * 
+ */
+public final class ScaledClock implements GameClock {
+	
+	private final GameClock source;
+	
+	private long sourceBase;
+	private long base;
+	private float scale;
+	private boolean paused;
+	
+	/**
+	 * Create a ScaledClock which follows the given source at normal speed.
+	 * 
+	 * @param source Clock to follow
+	 */
+	public ScaledClock(GameClock source) {
+		
+		this.source = Objects.requireNonNull(source);
+		this.sourceBase = source.nanoTime();
+		this.base = sourceBase;
+		this.scale = 1.0f;
+		this.paused = false;
+		
+	}
+	
+	@Override
+	public synchronized long nanoTime() {
+		
+		if(paused) {
+			return base;
+		}
+		
+		return base + (long) ((source.nanoTime() - sourceBase) * (double) scale);
+	}
+	
+	/**
+	 * Set the speed of this clock relative to its source.
+	 * 
+	 * @param scale Speed factor: 1 is real speed, 0.5 slow motion, 2 fast forward.
+	 * @throws IllegalArgumentException If scale is negative or not a number
+	 */
+	public synchronized void setScale(float scale) {
+		
+		if(!(scale >= 0.0f) || Float.isInfinite(scale)) {
+			throw new IllegalArgumentException("Invalid scale: "+scale);
+		}
+		
+		rebase();
+		this.scale = scale;
+	}
+	
+	/**
+	 * @return Speed of this clock relative to its source
+	 */
+	public synchronized float getScale() {
+		return scale;
+	}
+	
+	/**
+	 * Stop the clock at its current time.
+	 */
+	public synchronized void pause() {
+		if(!paused) {
+			rebase();
+			paused = true;
+		}
+	}
+	
+	/**
+	 * Restart the clock from the time it was paused at.
+	 */
+	public synchronized void resume() {
+		if(paused) {
+			sourceBase = source.nanoTime();
+			paused = false;
+		}
+	}
+	
+	/**
+	 * @return True if the clock is paused
+	 */
+	public synchronized boolean isPaused() {
+		return paused;
+	}
+	
+	/**
+	 * Take the current time as the new origin, before a change of speed.
+	 */
+	private void rebase() {
+		base = nanoTime();
+		sourceBase = source.nanoTime();
+	}
+
+}
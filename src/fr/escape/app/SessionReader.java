@@ -0,0 +1,250 @@
+/*****************************************************************************
+ * 
+ * Copyright 2012-2013 See AUTHORS file.
+ * 
+ * This file is part of Escape-IR.
+ * 
+ * Escape-IR is free software: you can redistribute it and/or modify
+ * it under the terms of the zlib license. See the COPYING file.
+ * 
+ *****************************************************************************/
+
+package fr.escape.app;
+
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import fr.escape.Objects;
+
+/**
+ * <p>
+ * Read a game session written by {@link SessionRecorder}.
+ * 
+ * <p>
+ * Records are read one after the other with {@link SessionReader#next()}. For each frame, the
+ * {@link Input} list must be given to {@link Engine#event(Input)} before running the frame with
+ * the recorded time: the replay is then identical to the recorded session.
+ * 
+ */
+public final class SessionReader {
+	
+	/**
+	 * Record Kind
+	 */
+	public static final int FRAME = SessionRecorder.TAG_FRAME;
+	public static final int RESTART = SessionRecorder.TAG_RESTART;
+	public static final int END = SessionRecorder.TAG_END;
+	
+	private static final Input.Action[] ACTIONS = Input.Action.values();
+	
+	private final DataInputStream input;
+	private final long seed;
+	private final int width;
+	private final int height;
+	private String scenario;
+	
+	private final ArrayList<Input> inputs;
+	private long delta;
+	private int pending;
+	
+	/**
+	 * Default Constructor: read the log header.
+	 * 
+	 * @param input Stream to read the log from, should be buffered
+	 * @throws IOException If the log is invalid
+	 */
+	public SessionReader(InputStream input) throws IOException {
+		
+		this.input = new DataInputStream(Objects.requireNonNull(input));
+		
+		if(this.input.readInt() != SessionRecorder.MAGIC) {
+			throw new IOException("Not a session log");
+		}
+		
+		int version = this.input.readUnsignedByte();
+		
+		if(version < 1 || version > SessionRecorder.VERSION) {
+			throw new IOException("Unsupported session log version: "+version);
+		}
+		
+		this.seed = this.input.readLong();
+		this.width = (int) readVarLong(this.input);
+		this.height = (int) readVarLong(this.input);
+		this.scenario = this.input.readUTF();
+		
+		this.inputs = new ArrayList<Input>();
+		this.pending = -1;
+	}
+	
+	/**
+	 * @return Engine random seed of the session
+	 */
+	public long getSeed() {
+		return seed;
+	}
+	
+	/**
+	 * @return Display width of the session
+	 */
+	public int getWidth() {
+		return width;
+	}
+	
+	/**
+	 * @return Display height of the session
+	 */
+	public int getHeight() {
+		return height;
+	}
+	
+	/**
+	 * @return Label of the recorded scenario, then name of the last scenario started in the frames read
+	 */
+	public String getScenario() {
+		return scenario;
+	}
+	
+	/**
+	 * <p>
+	 * Read the next record.
+	 * 
+	 * <p>
+	 * A truncated log (the application has been killed) ends like a complete one.
+	 * 
+	 * @return {@link SessionReader#FRAME}, {@link SessionReader#RESTART} or {@link SessionReader#END}
+	 * @throws IOException If the log is invalid
+	 */
+	public int next() throws IOException {
+		
+		inputs.clear();
+		
+		try {
+			
+			int tag = (pending >= 0) ? pending : input.read();
+			pending = -1;
+			
+			// Scenario started out of a frame
+			while(tag == SessionRecorder.TAG_SCENARIO) {
+				scenario = input.readUTF();
+				tag = input.read();
+			}
+			
+			switch(tag) {
+				case FRAME: {
+					
+					delta = readVarLong(input);
+					
+					// Inputs dispatched and scenario started in this frame
+					while(true) {
+						
+						tag = input.read();
+						
+						if(tag == SessionRecorder.TAG_INPUT) {
+							inputs.add(readInput());
+						} else if(tag == SessionRecorder.TAG_SCENARIO) {
+							scenario = input.readUTF();
+						} else {
+							break;
+						}
+					}
+					
+					pending = tag;
+					return FRAME;
+				}
+				case RESTART: {
+					delta = readVarLong(input);
+					return RESTART;
+				}
+				case END:
+				case -1: {
+					return END;
+				}
+				default: {
+					throw new IOException("Invalid record: "+tag);
+				}
+			}
+			
+		} catch(EOFException e) {
+			return END;
+		}
+	}
+	
+	/**
+	 * @return Time elapsed between the previous record and the last one read, in nanoseconds
+	 */
+	public long getDelta() {
+		return delta;
+	}
+	
+	/**
+	 * @return Inputs dispatched in the last frame read
+	 */
+	public List<Input> getInputs() {
+		return Collections.unmodifiableList(inputs);
+	}
+	
+	/**
+	 * Close the underlying stream.
+	 * 
+	 * @throws IOException If an I/O error occurs
+	 */
+	public void close() throws IOException {
+		input.close();
+	}
+	
+	/**
+	 * Read an Input record.
+	 * 
+	 * @return User Input
+	 * @throws IOException If the record is invalid
+	 */
+	private Input readInput() throws IOException {
+		
+		int action = input.readUnsignedByte();
+		
+		if(action >= ACTIONS.length) {
+			throw new IOException("Invalid Input action: "+action);
+		}
+		
+		int x = (int) readVarLong(input);
+		int y = (int) readVarLong(input);
+		float velocityX = input.readFloat();
+		float velocityY = input.readFloat();
+		
+		return new Input(x, y, ACTIONS[action], velocityX, velocityY);
+	}
+	
+	/**
+	 * Read a value written by {@link SessionRecorder#writeVarLong(java.io.DataOutputStream, long)}.
+	 * 
+	 * @param input Input Stream
+	 * @return Value
+	 * @throws IOException If the value is invalid
+	 */
+	private static long readVarLong(DataInputStream input) throws IOException {
+		
+		long bits = 0;
+		int shift = 0;
+		int b;
+		
+		do {
+			
+			if(shift > 63) {
+				throw new IOException("Invalid variable length value");
+			}
+			
+			b = input.readUnsignedByte();
+			bits |= ((long) (b & 0x7F)) << shift;
+			shift += 7;
+			
+		} while((b & 0x80) != 0);
+		
+		return (bits >>> 1) ^ -(bits & 1);
+	}
+
+}
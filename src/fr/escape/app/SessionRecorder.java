@@ -0,0 +1,298 @@
+/*****************************************************************************
+ * 
+ * Copyright 2012-2013 See AUTHORS file.
+ * 
+ * This file is part of Escape-IR.
+ * 
+ * Escape-IR is free software: you can redistribute it and/or modify
+ * it under the terms of the zlib license. See the COPYING file.
+ * 
+ *****************************************************************************/
+
+package fr.escape.app;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+import fr.escape.Objects;
+
+/**
+ * <p>
+ * Record a game session in a compact binary log, for a deterministic replay with {@link SessionReader}.
+ * 
+ * <p>
+ * The log starts with the Engine random seed, the Display size and a scenario label, followed by
+ * one record per frame (time elapsed since the previous frame) and one record per {@link Input}
+ * dispatched in this frame. Restarts of the time base and the name of each started scenario
+ * are recorded too.
+ * 
+ * <p>
+ * An I/O error or a log growing over its size limit stops the recording: the game itself is
+ * never disturbed.
+ * 
+ * <p>
+ * <b>Thread: Engine</b>
+ * 
+ * @see Engine#setRecorder(SessionRecorder)
+ */
+public final class SessionRecorder {
+	
+	private static final String TAG = SessionRecorder.class.getSimpleName();
+	
+	/**
+	 * Log Header: "ESIR" and format version
+	 */
+	static final int MAGIC = 0x45534952;
+	static final int VERSION = 2;
+	
+	/**
+	 * Record Tags
+	 */
+	static final int TAG_FRAME = 0;
+	static final int TAG_INPUT = 1;
+	static final int TAG_RESTART = 2;
+	static final int TAG_END = 3;
+	static final int TAG_SCENARIO = 4;
+	
+	private final DataOutputStream output;
+	private final String scenario;
+	private final int limit;
+	private long last;
+	private boolean started;
+	private boolean failed;
+	
+	/**
+	 * Default Constructor
+	 * 
+	 * @param output Stream to write the log in, should be buffered
+	 * @param scenario Label of the recorded scenario
+	 */
+	public SessionRecorder(OutputStream output, String scenario) {
+		this(output, scenario, Integer.MAX_VALUE);
+	}
+	
+	/**
+	 * Constructor with a size limit.
+	 * 
+	 * @param output Stream to write the log in, should be buffered
+	 * @param scenario Label of the recorded scenario
+	 * @param limit Maximum size of the log in bytes
+	 */
+	public SessionRecorder(OutputStream output, String scenario, int limit) {
+		
+		if(limit <= 0) {
+			throw new IllegalArgumentException("Limit must be positive");
+		}
+		
+		this.output = new DataOutputStream(Objects.requireNonNull(output));
+		this.scenario = Objects.requireNonNull(scenario);
+		this.limit = limit;
+		this.started = false;
+		this.failed = false;
+	}
+	
+	/**
+	 * Write the log header.
+	 * 
+	 * @param now Start time of the session in nanoseconds
+	 * @param seed Engine random seed
+	 * @param width Display width
+	 * @param height Display height
+	 */
+	void start(long now, long seed, int width, int height) {
+		
+		if(started) {
+			return;
+		}
+		
+		try {
+			
+			output.writeInt(MAGIC);
+			output.writeByte(VERSION);
+			output.writeLong(seed);
+			writeVarLong(output, width);
+			writeVarLong(output, height);
+			output.writeUTF(scenario);
+			
+		} catch(IOException e) {
+			fail(e);
+		}
+		
+		last = now;
+		started = true;
+	}
+	
+	/**
+	 * Record the start of a frame.
+	 * 
+	 * @param now Frame time in nanoseconds
+	 */
+	void frame(long now) {
+		write(TAG_FRAME, now);
+	}
+	
+	/**
+	 * Record a restart of the time base.
+	 * 
+	 * @param now New time base in nanoseconds
+	 * @see Engine#restart(long)
+	 */
+	void restart(long now) {
+		write(TAG_RESTART, now);
+	}
+	
+	/**
+	 * Record the start of a scenario in the current frame.
+	 * 
+	 * @param name Name of the scenario
+	 */
+	void scenario(String name) {
+		
+		if(!isRecording()) {
+			return;
+		}
+		
+		try {
+			output.writeByte(TAG_SCENARIO);
+			output.writeUTF(name);
+		} catch(IOException e) {
+			fail(e);
+		}
+		
+		checkLimit();
+	}
+	
+	/**
+	 * Record an Input dispatched in the current frame.
+	 * 
+	 * @param input User Input
+	 */
+	void input(Input input) {
+		
+		if(!isRecording()) {
+			return;
+		}
+		
+		try {
+			
+			output.writeByte(TAG_INPUT);
+			output.writeByte(input.getAction().ordinal());
+			writeVarLong(output, input.getX());
+			writeVarLong(output, input.getY());
+			output.writeFloat(input.getXVelocity());
+			output.writeFloat(input.getYVelocity());
+			
+		} catch(IOException e) {
+			fail(e);
+		}
+		
+		checkLimit();
+	}
+	
+	/**
+	 * Flush recorded data to the underlying stream.
+	 */
+	public void flush() {
+		
+		if(!isRecording()) {
+			return;
+		}
+		
+		try {
+			output.flush();
+		} catch(IOException e) {
+			fail(e);
+		}
+	}
+	
+	/**
+	 * End the log and close the underlying stream.
+	 */
+	public void close() {
+		try {
+			
+			if(isRecording()) {
+				output.writeByte(TAG_END);
+			}
+			
+			output.close();
+			
+		} catch(IOException e) {
+			fail(e);
+		}
+		
+		failed = true;
+	}
+	
+	/**
+	 * @return True if records are still written.
+	 */
+	public boolean isRecording() {
+		return started && !failed;
+	}
+	
+	/**
+	 * Write a timed record.
+	 * 
+	 * @param tag Record Tag
+	 * @param now Record time in nanoseconds
+	 */
+	private void write(int tag, long now) {
+		
+		if(!isRecording()) {
+			return;
+		}
+		
+		try {
+			output.writeByte(tag);
+			writeVarLong(output, now - last);
+		} catch(IOException e) {
+			fail(e);
+		}
+		
+		last = now;
+		checkLimit();
+	}
+	
+	/**
+	 * End the log once it has grown over its size limit.
+	 */
+	private void checkLimit() {
+		if(isRecording() && output.size() >= limit) {
+			Engine.error(TAG, "Session recording stopped: log over " + limit + " bytes");
+			close();
+		}
+	}
+	
+	/**
+	 * Stop recording after an I/O error.
+	 * 
+	 * @param e I/O error
+	 */
+	private void fail(IOException e) {
+		Engine.error(TAG, "Session recording stopped", e);
+		failed = true;
+	}
+	
+	/**
+	 * Write a signed value in 7 bits groups, small values first.
+	 * 
+	 * @param output Output Stream
+	 * @param value Value to write
+	 * @throws IOException If an I/O error occurs
+	 */
+	static void writeVarLong(DataOutputStream output, long value) throws IOException {
+		
+		// ZigZag: small negative values are small too
+		long bits = (value << 1) ^ (value >> 63);
+		
+		while((bits & ~0x7FL) != 0) {
+			output.writeByte((int) ((bits & 0x7F) | 0x80));
+			bits >>>= 7;
+		}
+		
+		output.writeByte((int) bits);
+	}
+
+}
@@ -0,0 +1,48 @@
+/*****************************************************************************
+ * 
+ * Copyright 2012-2013 See AUTHORS file.
+ * 
+ * This file is part of Escape-IR.
+ * 
+ * Escape-IR is free software: you can redistribute it and/or modify
+ * it under the terms of the zlib license. See the COPYING file.
+ * 
+ *****************************************************************************/
+
+package fr.escape.app;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * <p>
+ * Access to files shipped with the game and files created by the User.
+ * 
+ */
+public interface Storage {
+	
+	/**
+	 * Get the File for Scenario Storage directory
+	 * 
+	 * @return File which contains the directory for Scenario Storage
+	 */
+	public File getScenarioStorage();
+	
+	/**
+	 * Get the File for Image Storage directory
+	 * 
+	 * @return File which contains the directory for Image Storage
+	 */
+	public File getImageStorage();
+	
+	/**
+	 * Open a file shipped in the game assets.
+	 * 
+	 * @param path Path relative to the assets directory
+	 * @return InputStream of the asset
+	 * @throws IOException If the asset cannot be opened
+	 */
+	public InputStream openAsset(String path) throws IOException;
+
+}
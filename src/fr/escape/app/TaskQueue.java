@@ -0,0 +1,131 @@
+/*****************************************************************************
+ * 
+ * Copyright 2012-2013 See AUTHORS file.
+ * 
+ * This file is part of Escape-IR.
+ * 
+ * Escape-IR is free software: you can redistribute it and/or modify
+ * it under the terms of the zlib license. See the COPYING file.
+ * 
+ *****************************************************************************/
+
+package fr.escape.app;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * <p>
+ * A bounded lock-free queue with many producers and a single consumer.
+ * 
+ * <p>
+ * Each slot owns a sequence number which tells if the slot is free for the producer
+ * at this position, or filled for the consumer. Producers only race on the tail
+ * with a compare-and-set, the consumer never contends with anyone.
+ * 
+ * <p>
+ * Any Thread may call {@link TaskQueue#offer(Runnable)}, only one Thread may call
+ * {@link TaskQueue#poll()}.
+ * 
+ */
+final class TaskQueue {
+	
+	private final Runnable[] tasks;
+	private final AtomicLongArray sequences;
+	private final AtomicLong tail;
+	private final int mask;
+	
+	/**
+	 * Consumer position, only used by the consumer Thread.
+	 */
+	private long head;
+	
+	/**
+	 * Create a TaskQueue with the given capacity.
+	 * 
+	 * @param capacity Maximum number of pending tasks, must be a power of 2.
+	 */
+	TaskQueue(int capacity) {
+		
+		if(capacity <= 0 || (capacity & (capacity - 1)) != 0) {
+			throw new IllegalArgumentException("Capacity must be a positive power of 2");
+		}
+		
+		this.tasks = new Runnable[capacity];
+		this.sequences = new AtomicLongArray(capacity);
+		this.tail = new AtomicLong(0);
+		this.mask = capacity - 1;
+		this.head = 0;
+		
+		for(int i = 0; i < capacity; i++) {
+			sequences.set(i, i);
+		}
+	}
+	
+	/**
+	 * <p>
+	 * Push a task at the end of the queue.
+	 * 
+	 * <p>
+	 * <em>This method is Thread-Safe</em>
+	 * 
+	 * @param task Task to push
+	 * @return False if the queue is full
+	 */
+	boolean offer(Runnable task) {
+		
+		long position;
+		int index;
+		
+		while(true) {
+			
+			position = tail.get();
+			index = (int) (position & mask);
+			
+			long available = sequences.get(index) - position;
+			
+			if(available == 0) {
+				if(tail.compareAndSet(position, position + 1)) {
+					break;
+				}
+			} else if(available < 0) {
+				return false;
+			}
+		}
+		
+		tasks[index] = task;
+		
+		// Publish the task to the consumer
+		sequences.set(index, position + 1);
+		
+		return true;
+	}
+	
+	/**
+	 * <p>
+	 * Take the first task of the queue.
+	 * 
+	 * <p>
+	 * <b>Thread: Consumer</b>
+	 * 
+	 * @return The first task or null if the queue is empty
+	 */
+	Runnable poll() {
+		
+		int index = (int) (head & mask);
+		
+		if(sequences.get(index) != head + 1) {
+			return null;
+		}
+		
+		Runnable task = tasks[index];
+		tasks[index] = null;
+		
+		// Give the slot back to producers
+		sequences.set(index, head + tasks.length);
+		head++;
+		
+		return task;
+	}
+	
+}
@@ -0,0 +1,100 @@
+/*****************************************************************************
+ * 
+ * Copyright 2012-2013 See AUTHORS file.
+ * 
+ * This file is part of Escape-IR.
+ * 
+ * Escape-IR is free software: you can redistribute it and/or modify
+ * it under the terms of the zlib license. See the COPYING file.
+ * 
+ *****************************************************************************/
+
+package fr.escape.app;
+
+import java.io.File;
+import java.io.IOException;
+
+import fr.escape.graphics.Image;
+import fr.escape.graphics.Typeface;
+
+/**
+ * <p>
+ * Create platform {@link Image} and {@link Typeface}.
+ * 
+ * <p>
+ * Drawables and fonts can be loaded by several Threads at the same time.
+ * 
+ */
+public interface Toolkit {
+	
+	/**
+	 * Decode the drawable with the given ID.
+	 * 
+	 * @param id Drawable ID
+	 * @return Image
+	 * @throws IOException If the drawable cannot be decoded
+	 */
+	public Image loadImage(int id) throws IOException;
+	
+	/**
+	 * Decode the drawable with the given ID, following the given {@link DecodeProfile}.
+	 * 
+	 * @param id Drawable ID
+	 * @param profile Decode Profile of the drawable
+	 * @return Image
+	 * @throws IOException If the drawable cannot be decoded
+	 */
+	public Image loadImage(int id, DecodeProfile profile) throws IOException;
+	
+	/**
+	 * Decode the given picture File.
+	 * 
+	 * @param file Picture File
+	 * @return Image
+	 * @throws IOException If the File cannot be decoded
+	 */
+	public Image loadImage(File file) throws IOException;
+	
+	/**
+	 * Load the font which path is given by the string with the given ID.
+	 * 
+	 * @param id String ID of the font path in assets
+	 * @return Typeface
+	 * @throws IOException If the font cannot be loaded
+	 */
+	public Typeface loadTypeface(int id) throws IOException;
+
+	/**
+	 * <p>
+	 * Create a new Image which contains a copy of each given Image, with its top left corner
+	 * at the given position.
+	 * 
+	 * <p>
+	 * The given Images must not be used after this call: their memory may be released.
+	 * 
+	 * @param images Images to copy
+	 * @param x Left edge of each Image in the new Image
+	 * @param y Top edge of each Image in the new Image
+	 * @param width New Image width
+	 * @param height New Image height
+	 * @return New Image
+	 * @throws IOException If the new Image cannot be created
+	 */
+	public Image createAtlas(Image[] images, int[] x, int[] y, int width, int height) throws IOException;
+
+	/**
+	 * <p>
+	 * Create a new Image which contains a copy of the given Image, scaled to the given size.
+	 * 
+	 * <p>
+	 * The given Image is left unchanged.
+	 * 
+	 * @param image Image to copy
+	 * @param width New Image width
+	 * @param height New Image height
+	 * @return New Image
+	 * @throws IOException If the new Image cannot be created
+	 */
+	public Image createScaledImage(Image image, int width, int height) throws IOException;
+
+}
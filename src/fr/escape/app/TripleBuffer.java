@@ -0,0 +1,159 @@
+/*****************************************************************************
+ * 
+ * Copyright 2012-2013 See AUTHORS file.
+ * 
+ * This file is part of Escape-IR.
+ * 
+ * Escape-IR is free software: you can redistribute it and/or modify
+ * it under the terms of the zlib license. See the COPYING file.
+ * 
+ *****************************************************************************/
+
+package fr.escape.app;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import fr.escape.Objects;
+
+/**
+ * <p>
+ * A lock-free handoff between one producer and one consumer Thread.
+ * 
+ * <p>
+ * The producer always owns the back buffer, the consumer always owns the front buffer and
+ * the middle buffer is exchanged atomically between them. The producer never waits for the
+ * consumer: if a frame was not consumed in time, it is simply replaced by the newer one.
+ * 
+ * <p>
+ * Buffer indexes and the "new frame" flag are packed in one {@link AtomicInteger}:
+ * 
+ * <pre>
+ * | dirty (1 bit) | back (2 bits) | middle (2 bits) | front (2 bits) |
+ * </pre>
+ * 
+ * @param <T> Buffer type
+ */
+final class TripleBuffer<T> {
+	
+	private static final int FRONT_SHIFT = 0;
+	private static final int MIDDLE_SHIFT = 2;
+	private static final int BACK_SHIFT = 4;
+	private static final int INDEX_MASK = 0x3;
+	private static final int DIRTY = 0x40;
+	
+	private final Object[] buffers;
+	private final AtomicInteger state;
+	
+	/**
+	 * Create a TripleBuffer with the given buffers.
+	 * 
+	 * @param front Buffer initially owned by the consumer.
+	 * @param middle Buffer initially exchanged.
+	 * @param back Buffer initially owned by the producer.
+	 */
+	TripleBuffer(T front, T middle, T back) {
+		this.buffers = new Object[] {
+				Objects.requireNonNull(front),
+				Objects.requireNonNull(middle),
+				Objects.requireNonNull(back)
+		};
+		this.state = new AtomicInteger((0 << FRONT_SHIFT) | (1 << MIDDLE_SHIFT) | (2 << BACK_SHIFT));
+	}
+	
+	/**
+	 * <p>
+	 * Get the buffer owned by the producer.
+	 * 
+	 * <p>
+	 * <b>Thread: Producer</b>
+	 * 
+	 * @return Back buffer
+	 */
+	@SuppressWarnings("unchecked")
+	T getBack() {
+		return (T) buffers[(state.get() >> BACK_SHIFT) & INDEX_MASK];
+	}
+	
+	/**
+	 * <p>
+	 * Publish the back buffer and take the middle buffer as new back buffer.
+	 * 
+	 * <p>
+	 * <b>Thread: Producer</b>
+	 */
+	void publish() {
+		
+		int current;
+		int next;
+		
+		do {
+			
+			current = state.get();
+			
+			int front = (current >> FRONT_SHIFT) & INDEX_MASK;
+			int middle = (current >> MIDDLE_SHIFT) & INDEX_MASK;
+			int back = (current >> BACK_SHIFT) & INDEX_MASK;
+			
+			next = DIRTY | (front << FRONT_SHIFT) | (back << MIDDLE_SHIFT) | (middle << BACK_SHIFT);
+			
+		} while(!state.compareAndSet(current, next));
+		
+	}
+	
+	/**
+	 * Check if a new buffer has been published since the last {@link TripleBuffer#swap()}.
+	 * 
+	 * @return True if a new buffer is available.
+	 */
+	boolean isDirty() {
+		return (state.get() & DIRTY) != 0;
+	}
+	
+	/**
+	 * <p>
+	 * Take the last published buffer as front buffer, if any.
+	 * 
+	 * <p>
+	 * <b>Thread: Consumer</b>
+	 * 
+	 * @return True if the front buffer has changed.
+	 */
+	boolean swap() {
+		
+		int current;
+		int next;
+		
+		do {
+			
+			current = state.get();
+			
+			if((current & DIRTY) == 0) {
+				return false;
+			}
+			
+			int front = (current >> FRONT_SHIFT) & INDEX_MASK;
+			int middle = (current >> MIDDLE_SHIFT) & INDEX_MASK;
+			int back = (current >> BACK_SHIFT) & INDEX_MASK;
+			
+			next = (middle << FRONT_SHIFT) | (front << MIDDLE_SHIFT) | (back << BACK_SHIFT);
+			
+		} while(!state.compareAndSet(current, next));
+		
+		return true;
+	}
+	
+	/**
+	 * <p>
+	 * Get the buffer owned by the consumer.
+	 * 
+	 * <p>
+	 * <b>Thread: Consumer</b>
+	 * 
+	 * @return Front buffer
+	 */
+	@SuppressWarnings("unchecked")
+	T getFront() {
+		return (T) buffers[(state.get() >> FRONT_SHIFT) & INDEX_MASK];
+	}
+
+}
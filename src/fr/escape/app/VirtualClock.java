@@ -0,0 +1,68 @@
+/*****************************************************************************
+ * 
+ * Copyright 2012-2013 See AUTHORS file.
+ * 
+ * This file is part of Escape-IR.
+ * 
+ * Escape-IR is free software: you can redistribute it and/or modify
+ * it under the terms of the zlib license. See the COPYING file.
+ * 
+ *****************************************************************************/
+
+package fr.escape.app;
+
+/**
+ * <p>
+ * A {@link GameClock} which only moves when told to.
+ * 
+ * <p>
+ * Used to run the Engine faster than real time, for instance in a headless simulation
+ * or a replay: each frame advances the clock by the frame period, however long it took to compute.
+ * 
+ * <p>
+ * <b>Thread: Engine</b>
+ * 
+ */
+public final class VirtualClock implements GameClock {
+	
+	private long now;
+	
+	/**
+	 * Create a VirtualClock starting at zero.
+	 */
+	public VirtualClock() {
+		this(0);
+	}
+	
+	/**
+	 * Create a VirtualClock starting at the given time.
+	 * 
+	 * @param now Starting time in nanoseconds
+	 */
+	public VirtualClock(long now) {
+		this.now = now;
+	}
+	
+	/**
+	 * Move the clock forward.
+	 * 
+	 * @param delta Time to add in nanoseconds
+	 * @return The new time in nanoseconds
+	 * @throws IllegalArgumentException If delta is negative
+	 */
+	public long advance(long delta) {
+		
+		if(delta < 0) {
+			throw new IllegalArgumentException("A GameClock cannot go backward: "+delta);
+		}
+		
+		now += delta;
+		return now;
+	}
+	
+	@Override
+	public long nanoTime() {
+		return now;
+	}
+
+}
@@ -258,11 +258,16 @@ public final class Escape implements LifeListener, RenderListener, EventListener
 
 	@Override
 	public void render() {
+		
+		// Screen and Overlay share the same frame time
+		long delta = getGraphics().getDeltaTime();
+		
 		if(screen != null) {
-			screen.render(getGraphics().getDeltaTime());
+			screen.render(delta);
 		}
 		if(ingameUI != null) {
-			ingameUI.render(getGraphics().getDeltaTime());
+			getGraphics().setLayer(Graphics.LAYER_OVERLAY);
+			ingameUI.render(delta);
 		}
 	}
 	
@@ -325,51 +330,65 @@ public final class Escape implements LifeListener, RenderListener, EventListener
 	/**
 	 * Set a new active {@link Screen} by this ID.
 	 * 
+	 * <p>
+	 * The Textures used by the {@link Screen} are loaded before it is shown.
+	 * 
 	 * @param id {@link Screen} ID to display.
 	 */
 	public void setScreenID(int id) {
 		switch (id) {
 			case SCREEN_NEW_GAME: {
+				getResources().require(TextureLoader.SET_JUPITER);
 				setScreen(introJupiter);
 				break;
 			}
 			case SCREEN_VICTORY: {
+				getResources().require(TextureLoader.SET_ENDING);
 				setScreen(victory);
 				break;
 			}
 			case SCREEN_LOST: {
+				getResources().require(TextureLoader.SET_ENDING);
 				setScreen(lost);
 				break;
 			}
 			case SCREEN_EARTH: {
+				getResources().require(TextureLoader.SET_EARTH);
 				setScreen(earth);
 				break;
 			}
 			case SCREEN_JUPITER: {
+				getResources().require(TextureLoader.SET_JUPITER);
 				setScreen(jupiter);
 				break;
 			}
 			case SCREEN_MOON: {
+				getResources().require(TextureLoader.SET_MOON);
 				setScreen(moon);
 				break;
 			}
 			case SCREEN_INTRO_EARTH: {
+				getResources().require(TextureLoader.SET_EARTH);
 				setScreen(introEarth);
 				break;
 			}
 			case SCREEN_INTRO_JUPITER: {
+				getResources().require(TextureLoader.SET_JUPITER);
 				setScreen(introJupiter);
 				break;
 			}
 			case SCREEN_INTRO_MOON: {
+				getResources().require(TextureLoader.SET_MOON);
 				setScreen(introMoon);
 				break;
 			}
 			case SCREEN_MENU: {
+				getResources().require(TextureLoader.SET_MENU);
 				setScreen(menu);
 				break;
 			}
 			case SCREEN_LEVEL_LOADER: {
+				getResources().require(TextureLoader.SET_MENU);
 				setScreen(loader);
 				break;
 			}
@@ -398,7 +417,7 @@ public final class Escape implements LifeListener, RenderListener, EventListener
 
 	/**
 	 * Return the current active {@link Screen}.
-	 *
+	 * 
 	 * @return active {@link Screen}.
 	 */
 	public Screen getScreen() {
@@ -585,15 +604,15 @@ public final class Escape implements LifeListener, RenderListener, EventListener
 		 * Level Screen
 		 */
 		jupiter = new Level(this, new HistoryStage(getEngine(), getWorld(), getEntityContainer(), ScenarioLoader.JUPITER, getShipFactory()), 
-				new ScrollingTexture(getResources().getTexture(TextureLoader.BACKGROUND_JUPITER), true), 
+				new ScrollingTexture(getResources().getTexture(TextureLoader.BACKGROUND_JUPITER), true, getEngine().getPlatform().getToolkit()), 
 				SCREEN_INTRO_JUPITER, SCREEN_INTRO_MOON);
 		
 		moon = new Level(this, new HistoryStage(getEngine(), getWorld(), getEntityContainer(), ScenarioLoader.MOON, getShipFactory()),
-				new ScrollingTexture(getResources().getTexture(TextureLoader.BACKGROUND_MOON), true),
+				new ScrollingTexture(getResources().getTexture(TextureLoader.BACKGROUND_MOON), true, getEngine().getPlatform().getToolkit()),
 				SCREEN_INTRO_MOON, SCREEN_INTRO_EARTH);
 		
 		earth = new Level(this, new HistoryStage(getEngine(), getWorld(), getEntityContainer(), ScenarioLoader.EARTH, getShipFactory()),
-				new ScrollingTexture(getResources().getTexture(TextureLoader.BACKGROUND_EARTH), true),
+				new ScrollingTexture(getResources().getTexture(TextureLoader.BACKGROUND_EARTH), true, getEngine().getPlatform().getToolkit()),
 				SCREEN_INTRO_EARTH, SCREEN_VICTORY);
 		
 	}
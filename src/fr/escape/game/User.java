@@ -102,7 +102,7 @@ public final class User implements Receiver, Sender {
 				setHighscore(getHighscore() + score);
 			}
 			
-		});
+		}, Engine.PRIORITY_DEFERRABLE);
 	}
 	
 	/**
@@ -11,6 +11,7 @@
 
 package fr.escape.game.entity;
 
+import org.jbox2d.dynamics.Body;
 import org.jbox2d.dynamics.World;
 
 import fr.escape.app.Graphics;
@@ -74,4 +75,51 @@ public final class CoordinateConverter {
 	public int toPixelY(float y) {
 		return (int) ((y / W_COEFF) * Y_COEFF);
 	}
+	
+	/**
+	 * <p>
+	 * Convert the {@link Entity} position to {@link Graphics} Coordinate for X axis.
+	 * 
+	 * <p>
+	 * The position is blended between the position before the last World step and the current one.
+	 * 
+	 * @param entity Entity to convert, with a {@link Body}
+	 * @param alpha Interpolation factor given by {@link Graphics#getInterpolation()}
+	 * @return Graphics Coordinate
+	 */
+	public int toPixelX(Entity entity, float alpha) {
+		return toPixelX(interpolate(entity.getPreviousPosition().x, entity.getBody().getPosition().x, alpha));
+	}
+	
+	/**
+	 * <p>
+	 * Convert the {@link Entity} position to {@link Graphics} Coordinate for Y axis.
+	 * 
+	 * <p>
+	 * The position is blended between the position before the last World step and the current one.
+	 * 
+	 * @param entity Entity to convert, with a {@link Body}
+	 * @param alpha Interpolation factor given by {@link Graphics#getInterpolation()}
+	 * @return Graphics Coordinate
+	 */
+	public int toPixelY(Entity entity, float alpha) {
+		return toPixelY(interpolate(entity.getPreviousPosition().y, entity.getBody().getPosition().y, alpha));
+	}
+	
+	/**
+	 * Blend a previous and a current World Coordinate.
+	 * 
+	 * @param previous Previous Coordinate, or NaN if unknown
+	 * @param current Current Coordinate
+	 * @param alpha Interpolation factor
+	 * @return Blended World Coordinate
+	 */
+	private static float interpolate(float previous, float current, float alpha) {
+		
+		if(Float.isNaN(previous)) {
+			return current;
+		}
+		
+		return previous + (alpha * (current - previous));
+	}
 }
@@ -0,0 +1,49 @@
+/*****************************************************************************
+ * 
+ * Copyright 2012-2013 See AUTHORS file.
+ * 
+ * This file is part of Escape-IR.
+ * 
+ * Escape-IR is free software: you can redistribute it and/or modify
+ * it under the terms of the zlib license. See the COPYING file.
+ * 
+ *****************************************************************************/
+
+package fr.escape.game.entity;
+
+import org.jbox2d.common.Vec2;
+import org.jbox2d.dynamics.Body;
+
+import fr.escape.Objects;
+
+/**
+ * <p>
+ * A static class which helps every implementation of {@link Entity} to move its {@link Body}.
+ * 
+ */
+public final class Entities {
+	
+	private Entities() {}
+	
+	/**
+	 * <p>
+	 * Move the {@link Body} of an {@link Entity} to the given position at once.
+	 * 
+	 * <p>
+	 * Use it instead of {@link Body#setTransform(Vec2, float)}: the position before the last World step
+	 * is forgotten, so the Entity is not drawn sliding from where it was.
+	 * 
+	 * @param entity Entity to move, with a {@link Body}
+	 * @param x New Position X in meters
+	 * @param y New Position Y in meters
+	 * @param angle New Angle in radians
+	 * @see Entity#getPreviousPosition()
+	 */
+	public static void teleport(Entity entity, float x, float y, float angle) {
+		
+		Objects.requireNonNull(entity).getBody().setTransform(new Vec2(x, y), angle);
+		entity.getPreviousPosition().set(Float.NaN, Float.NaN);
+		
+	}
+
+}
@@ -11,6 +11,7 @@
 
 package fr.escape.game.entity;
 
+import org.jbox2d.common.Vec2;
 import org.jbox2d.dynamics.World;
 import org.jbox2d.dynamics.Body;
 
@@ -39,6 +40,19 @@ public interface Entity extends Updateable, Collisionable, Drawable, Moveable {
 	 */
 	public void setBody(Body body);
 	
+	/**
+	 * <p>
+	 * Get the position of the {@link Body} before the last {@link World} step.
+	 * 
+	 * <p>
+	 * The Engine updates it before each step. Its coordinates are NaN until the first step
+	 * after the {@link Body} is set or moved away.
+	 * 
+	 * @return Previous position in meters
+	 * @see CoordinateConverter#toPixelX(Entity, float)
+	 */
+	public Vec2 getPreviousPosition();
+	
 	/**
 	 * Send to the {@link EntityContainer} a request to destroy this {@link Entity}.
 	 */
@@ -12,13 +12,12 @@
 package fr.escape.game.entity;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Iterator;
 import java.util.LinkedHashSet;
 
 import org.jbox2d.dynamics.World;
 
-import android.graphics.Rect;
-
 import fr.escape.Objects;
 import fr.escape.app.Engine;
 import fr.escape.app.Graphics;
@@ -27,6 +26,8 @@ import fr.escape.game.entity.bonus.BonusFactory;
 import fr.escape.game.entity.notifier.EdgeNotifier;
 import fr.escape.game.entity.notifier.KillNotifier;
 import fr.escape.game.entity.ships.Ship;
+import fr.escape.game.entity.weapons.shot.Shot;
+import fr.escape.graphics.Rectangle;
 
 /**
  * <p>
@@ -36,6 +37,13 @@ import fr.escape.game.entity.ships.Ship;
  * This Container implements {@link KillNotifier} and {@link EdgeNotifier} for removing
  * {@link Entity}.
  * 
+ * <p>
+ * It also holds the {@link ParticleSystem} of the World, used for hit effects.
+ * 
+ * <p>
+ * Each {@link Entity} is drawn in the layer of its kind: Bonus, then Non-Player Ships, then Shots,
+ * then the Player Ships. The order of the {@link Entity} inside a layer does not matter.
+ * 
  */
 public final class EntityContainer implements Updateable, KillNotifier, EdgeNotifier {
 
@@ -43,9 +51,11 @@ public final class EntityContainer implements Updateable, KillNotifier, EdgeNoti
 	
 	private final Engine engine;
 	private final World world;
-	private final Rect edge;
+	private final Rectangle edge;
 	private final LinkedHashSet<Entity> entities;
+	private final Layer[] layers;
 	private final ArrayList<Entity> destroyed;
+	private final ParticleSystem particles;
 	
 	/**
 	 * Default Constructor
@@ -57,9 +67,16 @@ public final class EntityContainer implements Updateable, KillNotifier, EdgeNoti
 		
 		this.engine = engine;
 		this.world = world;
-		this.edge = new Rect(-margin, -margin, engine.getGraphics().getWidth() + margin, engine.getGraphics().getHeight() + margin);
+		this.edge = new Rectangle(-margin, -margin, engine.getGraphics().getWidth() + margin, engine.getGraphics().getHeight() + margin);
 		this.entities = new LinkedHashSet<Entity>();
+		this.layers = new Layer[] {
+			new Layer(Graphics.LAYER_BONUS),
+			new Layer(Graphics.LAYER_NPC),
+			new Layer(Graphics.LAYER_SHOT),
+			new Layer(Graphics.LAYER_PLAYER)
+		};
 		this.destroyed = new ArrayList<Entity>();
+		this.particles = new ParticleSystem(engine.getConverter());
 		
 		Engine.debug(TAG, "EntityContainer created");
 		
@@ -74,7 +91,12 @@ public final class EntityContainer implements Updateable, KillNotifier, EdgeNoti
 	public boolean push(Entity e) {
 		Objects.requireNonNull(e);
 		Engine.debug(TAG, "Push this Entity: "+e);
-		return this.entities.add(e);
+		
+		if(!this.entities.add(e)) {
+			return false;
+		}
+		
+		return getLayer(e).entities.add(e);
 	}
 	
 	/**
@@ -86,7 +108,35 @@ public final class EntityContainer implements Updateable, KillNotifier, EdgeNoti
 	private boolean remove(Entity e) {
 		Objects.requireNonNull(e);
 		Engine.debug(TAG, "Remove this Entity: "+e);
-		return this.entities.remove(e);
+		
+		if(!this.entities.remove(e)) {
+			return false;
+		}
+		
+		return getLayer(e).entities.remove(e);
+	}
+	
+	/**
+	 * Get the {@link Layer} where the given {@link Entity} is drawn.
+	 * 
+	 * @param e Entity
+	 * @return Layer of this kind of Entity
+	 */
+	private Layer getLayer(Entity e) {
+		
+		if(e instanceof Bonus) {
+			return layers[0];
+		}
+		
+		if(e instanceof Shot) {
+			return layers[2];
+		}
+		
+		if(e instanceof Ship && ((Ship) e).isPlayer()) {
+			return layers[3];
+		}
+		
+		return layers[1];
 	}
 	
 	@Override
@@ -104,12 +154,28 @@ public final class EntityContainer implements Updateable, KillNotifier, EdgeNoti
 	@Override
 	public void update(Graphics graphics, long delta) {
 		Objects.requireNonNull(graphics);
-		Object[] aEntities = entities.toArray();
-		for(int i = 0; i < aEntities.length; i++) {
-			Entity e = (Entity) aEntities[i];
-			if(e.getBody() != null)
-				e.update(graphics, delta);
+		
+		for(int l = 0; l < layers.length; l++) {
+			
+			Layer layer = layers[l];
+			int count = layer.snapshot();
+			
+			if(count == 0) {
+				continue;
+			}
+			
+			graphics.setLayer(layer.id, true);
+			
+			for(int i = 0; i < count; i++) {
+				Entity e = layer.frame[i];
+				if(e.getBody() != null)
+					e.update(graphics, delta);
+			}
+			
+			// Do not keep removed Entity alive until the next frame
+			Arrays.fill(layer.frame, 0, count, null);
 		}
+		
 	}
 
 	/**
@@ -122,7 +188,7 @@ public final class EntityContainer implements Updateable, KillNotifier, EdgeNoti
 	}
 
 	@Override
-	public boolean isInside(Rect edge) {
+	public boolean isInside(Rectangle edge) {
 		return this.edge.contains(edge);
 	}
 	
@@ -169,6 +235,8 @@ public final class EntityContainer implements Updateable, KillNotifier, EdgeNoti
 			return false;
 		}
 		
+		particles.reset();
+		
 		Iterator<Entity> it = entities.iterator();
 		
 		while(it.hasNext()) {
@@ -178,6 +246,10 @@ public final class EntityContainer implements Updateable, KillNotifier, EdgeNoti
 			e.setBody(null);
 		}
 		
+		for(int i = 0; i < layers.length; i++) {
+			layers[i].entities.clear();
+		}
+		
 		return true;
 	}
 	
@@ -192,6 +264,15 @@ public final class EntityContainer implements Updateable, KillNotifier, EdgeNoti
 		return entities.contains(e);
 	}
 	
+	/**
+	 * Get the {@link ParticleSystem} of the World.
+	 * 
+	 * @return ParticleSystem
+	 */
+	public ParticleSystem getParticles() {
+		return particles;
+	}
+	
 	/**
 	 * Push a Bonus in World
 	 * 
@@ -221,4 +302,48 @@ public final class EntityContainer implements Updateable, KillNotifier, EdgeNoti
 		return push(ship);
 	}
 
+	/**
+	 * <p>
+	 * The {@link Entity} drawn in one layer.
+	 * 
+	 * <p>
+	 * Entities are updated from a copy, since they may push or remove other Entities while updated.
+	 * The copy is kept from frame to frame, so it does not allocate.
+	 * 
+	 */
+	private static final class Layer {
+		
+		final int id;
+		final ArrayList<Entity> entities;
+		
+		Entity[] frame;
+		
+		Layer(int id) {
+			this.id = id;
+			this.entities = new ArrayList<Entity>();
+			this.frame = new Entity[16];
+		}
+
+		/**
+		 * Copy the Entities of this layer in the frame array.
+		 * 
+		 * @return Number of Entities copied
+		 */
+		int snapshot() {
+			
+			int count = entities.size();
+			
+			if(count > frame.length) {
+				frame = new Entity[Math.max(count, frame.length * 2)];
+			}
+			
+			for(int i = 0; i < count; i++) {
+				frame[i] = entities.get(i);
+			}
+			
+			return count;
+		}
+		
+	}
+
 }
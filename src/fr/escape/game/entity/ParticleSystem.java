@@ -0,0 +1,431 @@
+/*****************************************************************************
+ * 
+ * Copyright 2012 See AUTHORS file.
+ * 
+ * This file is part of Escape-IR.
+ * 
+ * Escape-IR is free software: you can redistribute it and/or modify
+ * it under the terms of the zlib license. See the COPYING file.
+ * 
+ *****************************************************************************/
+
+package fr.escape.game.entity;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.jbox2d.common.Vec2;
+import org.jbox2d.dynamics.Body;
+
+import fr.escape.Objects;
+import fr.escape.app.Graphics;
+
+/**
+ * <p>
+ * A pool of short-lived particles for explosions and hit effects.
+ * 
+ * <p>
+ * Particles are stored in parallel arrays (one slot per particle) with a fixed capacity:
+ * emitting, moving and drawing them never allocates. A dead particle is replaced by the last
+ * live one, so live particles always fill the first slots. When the pool is full, new particles
+ * are dropped.
+ * 
+ * <p>
+ * Particles live outside of the {@link org.jbox2d.dynamics.World}: they never collide, and are
+ * moved in Display Screen pixels. They fade out in a few steps. Each particle belongs to a kind
+ * (Color and size) and is bucketed by kind and fade step before drawing: each non empty bucket is
+ * one Points drawing, whatever the order of the slots.
+ * 
+ * @see Graphics#draw(float[], int, int, int, int)
+ */
+public final class ParticleSystem implements Updateable {
+	
+	/**
+	 * Default Pool Configuration
+	 */
+	public static final int DEFAULT_CAPACITY = 4096;
+	
+	/**
+	 * Number of alpha steps while a particle fades out
+	 */
+	private static final int FADE_STEPS = 4;
+	
+	/**
+	 * Maximum number of kinds (Color and size) of particles
+	 */
+	private static final int MAX_KINDS = 16;
+	
+	/**
+	 * Speed lost per second
+	 */
+	private static final float DRAG = 1.5f;
+	
+	/**
+	 * Same particles for the same game
+	 */
+	private static final long SEED = 0x45534341;
+	
+	/**
+	 * Effects: count, color, size, minimum and maximum speed (pixels per second),
+	 * minimum and maximum life (milliseconds).
+	 */
+	private static final int EXPLOSION_COUNT = 48;
+	private static final int EXPLOSION_COLOR = 0xFFFF9020;
+	private static final int EXPLOSION_CORE_COLOR = 0xFFFFE040;
+	private static final int EXPLOSION_SIZE = 3;
+	
+	private static final int IMPACT_COUNT = 10;
+	private static final int IMPACT_COLOR = 0xFFFFFFE0;
+	private static final int IMPACT_SIZE = 2;
+	
+	private static final int FLARE_COUNT = 32;
+	private static final int FLARE_COLOR = 0xFF80C0FF;
+	private static final int FLARE_SIZE = 3;
+	
+	private final CoordinateConverter converter;
+	private final Random random;
+	private final int capacity;
+	
+	/**
+	 * Particle Properties (Struct of Arrays)
+	 */
+	private final float[] x;
+	private final float[] y;
+	private final float[] velocityX;
+	private final float[] velocityY;
+	private final float[] life;
+	private final float[] maxLife;
+	private final int[] kinds;
+	
+	/**
+	 * Kinds of particles: Color and size
+	 */
+	private final int[] kindColors;
+	private final int[] kindSizes;
+	private int kindCount;
+	
+	/**
+	 * Point coordinates of the current drawing, bucket of each particle
+	 * and end of each bucket in the points.
+	 */
+	private final float[] points;
+	private final int[] buckets;
+	private final int[] ends;
+	
+	private int size;
+	
+	/**
+	 * Default Constructor
+	 * 
+	 * @param converter Converter from World Coordinate to Display Screen
+	 */
+	public ParticleSystem(CoordinateConverter converter) {
+		this(converter, DEFAULT_CAPACITY);
+	}
+	
+	/**
+	 * Constructor with a given capacity.
+	 * 
+	 * @param converter Converter from World Coordinate to Display Screen
+	 * @param capacity Maximum number of live particles
+	 */
+	public ParticleSystem(CoordinateConverter converter, int capacity) {
+		
+		if(capacity <= 0) {
+			throw new IllegalArgumentException("Capacity must be positive");
+		}
+		
+		this.converter = Objects.requireNonNull(converter);
+		this.random = new Random(SEED);
+		this.capacity = capacity;
+		this.x = new float[capacity];
+		this.y = new float[capacity];
+		this.velocityX = new float[capacity];
+		this.velocityY = new float[capacity];
+		this.life = new float[capacity];
+		this.maxLife = new float[capacity];
+		this.kinds = new int[capacity];
+		this.kindColors = new int[MAX_KINDS];
+		this.kindSizes = new int[MAX_KINDS];
+		this.kindCount = 0;
+		this.points = new float[capacity * 2];
+		this.buckets = new int[capacity];
+		this.ends = new int[MAX_KINDS * FADE_STEPS];
+		this.size = 0;
+	}
+	
+	/**
+	 * Burst of fire where the given {@link Entity} is, when it is destroyed.
+	 * 
+	 * @param entity Destroyed Entity
+	 */
+	public void explode(Entity entity) {
+		emit(entity, EXPLOSION_COUNT / 2, EXPLOSION_COLOR, EXPLOSION_SIZE, 60, 220, 400, 900);
+		emit(entity, EXPLOSION_COUNT / 2, EXPLOSION_CORE_COLOR, EXPLOSION_SIZE, 20, 120, 300, 600);
+	}
+	
+	/**
+	 * A few sparks where the given {@link Entity} is, when it is hit.
+	 * 
+	 * @param entity Entity hit
+	 */
+	public void impact(Entity entity) {
+		emit(entity, IMPACT_COUNT, IMPACT_COLOR, IMPACT_SIZE, 60, 160, 150, 300);
+	}
+	
+	/**
+	 * A ring of light around the given {@link Entity}, when it triggers a special action.
+	 * 
+	 * @param entity Entity which triggers its special action
+	 */
+	public void flare(Entity entity) {
+		emit(entity, FLARE_COUNT, FLARE_COLOR, FLARE_SIZE, 150, 200, 300, 600);
+	}
+	
+	/**
+	 * <p>
+	 * Emit particles in every direction from the center of the given {@link Entity}.
+	 * 
+	 * <p>
+	 * Nothing is emitted if the {@link Entity} is not in the World anymore.
+	 * 
+	 * @param entity Entity which emits the particles
+	 * @param count Number of particles
+	 * @param color Color of the particles
+	 * @param pointSize Size of the particles
+	 * @param minSpeed Minimum speed in pixels per second
+	 * @param maxSpeed Maximum speed in pixels per second
+	 * @param minLife Minimum life in milliseconds
+	 * @param maxLife Maximum life in milliseconds
+	 * @return Number of emitted particles
+	 */
+	public int emit(Entity entity, int count, int color, int pointSize, float minSpeed, float maxSpeed, float minLife, float maxLife) {
+		
+		Body body = Objects.requireNonNull(entity).getBody();
+		
+		if(body == null) {
+			return 0;
+		}
+		
+		Vec2 position = body.getPosition();
+		
+		return emit(converter.toPixelX(position.x), converter.toPixelY(position.y), count, color, pointSize, minSpeed, maxSpeed, minLife, maxLife);
+	}
+	
+	/**
+	 * <p>
+	 * Emit particles in every direction from the given position.
+	 * 
+	 * <p>
+	 * Nothing is emitted if there are already too many kinds (Color and size) of particles.
+	 * 
+	 * @param originX Position X in Display Screen
+	 * @param originY Position Y in Display Screen
+	 * @param count Number of particles
+	 * @param color Color of the particles
+	 * @param pointSize Size of the particles
+	 * @param minSpeed Minimum speed in pixels per second
+	 * @param maxSpeed Maximum speed in pixels per second
+	 * @param minLife Minimum life in milliseconds
+	 * @param maxLife Maximum life in milliseconds
+	 * @return Number of emitted particles
+	 */
+	public int emit(float originX, float originY, int count, int color, int pointSize, float minSpeed, float maxSpeed, float minLife, float maxLife) {
+		
+		int kind = getKind(color, pointSize);
+		
+		if(kind < 0) {
+			return 0;
+		}
+		
+		int emitted = Math.min(count, capacity - size);
+		
+		for(int n = 0; n < emitted; n++) {
+			
+			int i = size++;
+			
+			double angle = random.nextDouble() * 2 * Math.PI;
+			float speed = minSpeed + random.nextFloat() * (maxSpeed - minSpeed);
+			
+			x[i] = originX;
+			y[i] = originY;
+			velocityX[i] = (float) Math.cos(angle) * speed;
+			velocityY[i] = (float) Math.sin(angle) * speed;
+			life[i] = minLife + random.nextFloat() * (maxLife - minLife);
+			this.maxLife[i] = life[i];
+			kinds[i] = kind;
+		}
+		
+		return emitted;
+	}
+	
+	/**
+	 * Get the kind of particles with the given Color and size, and add it if needed.
+	 * 
+	 * @param color Color of the particles
+	 * @param pointSize Size of the particles
+	 * @return Kind of particles or -1 if there are too many kinds
+	 */
+	private int getKind(int color, int pointSize) {
+		
+		for(int k = 0; k < kindCount; k++) {
+			if(kindColors[k] == color && kindSizes[k] == pointSize) {
+				return k;
+			}
+		}
+		
+		if(kindCount >= MAX_KINDS) {
+			return -1;
+		}
+		
+		kindColors[kindCount] = color;
+		kindSizes[kindCount] = pointSize;
+		
+		return kindCount++;
+	}
+	
+	/**
+	 * Move every live particle, remove the dead ones and draw the others.
+	 * 
+	 * @see Updateable#update(Graphics, long)
+	 */
+	@Override
+	public void update(Graphics graphics, long delta) {
+		
+		Objects.requireNonNull(graphics);
+		
+		float seconds = delta / 1000f;
+		float drag = Math.max(0.0f, 1.0f - DRAG * seconds);
+		
+		int i = 0;
+		
+		while(i < size) {
+			
+			life[i] -= delta;
+			
+			if(life[i] <= 0) {
+				remove(i);
+				continue;
+			}
+			
+			velocityX[i] *= drag;
+			velocityY[i] *= drag;
+			x[i] += velocityX[i] * seconds;
+			y[i] += velocityY[i] * seconds;
+			
+			i++;
+		}
+		
+		draw(graphics);
+	}
+	
+	/**
+	 * Draw the live particles: particles are sorted by kind and fade step (counting sort), and
+	 * each non empty bucket is one Points drawing.
+	 * 
+	 * @param graphics Graphics used for drawing
+	 */
+	private void draw(Graphics graphics) {
+		
+		int count = kindCount * FADE_STEPS;
+		
+		Arrays.fill(ends, 0, count, 0);
+		
+		for(int i = 0; i < size; i++) {
+			
+			int bucket = kinds[i] * FADE_STEPS + getStep(i) - 1;
+			
+			buckets[i] = bucket;
+			ends[bucket]++;
+		}
+			
+		// Start of each bucket
+		int start = 0;
+		
+		for(int b = 0; b < count; b++) {
+			int length = ends[b];
+			ends[b] = start;
+			start += length;
+		}
+		
+		// Move to the end of each bucket
+		for(int i = 0; i < size; i++) {
+			
+			int at = ends[buckets[i]]++;
+			
+			points[at * 2] = x[i];
+			points[at * 2 + 1] = y[i];
+		}
+		
+		int first = 0;
+		
+		for(int b = 0; b < count; b++) {
+			if(ends[b] > first) {
+				
+				int kind = b / FADE_STEPS;
+				int step = b % FADE_STEPS + 1;
+				int alpha = (kindColors[kind] >>> 24) * step / FADE_STEPS;
+				int color = (kindColors[kind] & 0x00FFFFFF) | (alpha << 24);
+				
+				graphics.draw(points, first, ends[b] - first, kindSizes[kind], color);
+				first = ends[b];
+			}
+		}
+	}
+	
+	/**
+	 * Get the fade step of a particle, from its life.
+	 * 
+	 * @param i Particle slot
+	 * @return Fade step, from 1 (almost dead) to {@link ParticleSystem#FADE_STEPS}
+	 */
+	private int getStep(int i) {
+		return Math.max(1, Math.min(FADE_STEPS, (int) Math.ceil(life[i] * FADE_STEPS / maxLife[i])));
+	}
+	
+	/**
+	 * Replace the particle in the given slot by the last live particle.
+	 * 
+	 * @param i Particle slot
+	 */
+	private void remove(int i) {
+		
+		int last = --size;
+		
+		x[i] = x[last];
+		y[i] = y[last];
+		velocityX[i] = velocityX[last];
+		velocityY[i] = velocityY[last];
+		life[i] = life[last];
+		maxLife[i] = maxLife[last];
+		kinds[i] = kinds[last];
+	}
+	
+	/**
+	 * Remove every particle, and start again the same sequence of particles.
+	 */
+	public void reset() {
+		size = 0;
+		kindCount = 0;
+		random.setSeed(SEED);
+	}
+	
+	/**
+	 * Get the number of live particles.
+	 * 
+	 * @return Number of live particles
+	 */
+	public int size() {
+		return size;
+	}
+	
+	/**
+	 * Get the maximum number of live particles.
+	 * 
+	 * @return Maximum number of live particles
+	 */
+	public int getCapacity() {
+		return capacity;
+	}
+
+}
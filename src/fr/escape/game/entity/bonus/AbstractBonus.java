@@ -14,16 +14,16 @@ package fr.escape.game.entity.bonus;
 import org.jbox2d.common.Vec2;
 import org.jbox2d.dynamics.Body;
 
-import android.graphics.Rect;
-
 import fr.escape.Objects;
 import fr.escape.app.Engine;
+import fr.escape.app.FrameProfiler;
 import fr.escape.app.Graphics;
 import fr.escape.game.User;
 import fr.escape.game.entity.CollisionBehavior;
 import fr.escape.game.entity.Entity;
 import fr.escape.game.entity.notifier.EdgeNotifier;
 import fr.escape.game.entity.notifier.KillNotifier;
+import fr.escape.graphics.Rectangle;
 import fr.escape.graphics.Texture;
 
 /**
@@ -43,6 +43,7 @@ abstract class AbstractBonus implements Bonus {
 	private final CollisionBehavior collisionBehavior;
 	
 	private Body body;
+	private final Vec2 previous;
 	
 	/**
 	 * Default Constructor
@@ -61,6 +62,7 @@ abstract class AbstractBonus implements Bonus {
 		this.eNotifier = Objects.requireNonNull(eNotifier);
 		this.kNotifier = Objects.requireNonNull(kNotifier);
 		this.collisionBehavior = Objects.requireNonNull(collisionBehavior);
+		this.previous = new Vec2(Float.NaN, Float.NaN);
 		
 	}
 
@@ -94,12 +96,12 @@ abstract class AbstractBonus implements Bonus {
 		throw new UnsupportedOperationException();
 	}
 	
-	public Rect getEdge() {
+	public Rectangle getEdge() {
 		
 		int x = engine.getConverter().toPixelX(getX());
 		int y = engine.getConverter().toPixelY(getY());
 		
-		return new Rect(x - (drawable.getWidth() / 2), y - (drawable.getHeight() / 2), x + (drawable.getWidth() / 2), y + (drawable.getHeight() / 2));
+		return new Rectangle(x - (drawable.getWidth() / 2), y - (drawable.getHeight() / 2), x + (drawable.getWidth() / 2), y + (drawable.getHeight() / 2));
 	}
 	
 	/**
@@ -123,15 +125,17 @@ abstract class AbstractBonus implements Bonus {
 	@Override
 	public void draw(Graphics graphics) {
 		
-		int x = engine.getConverter().toPixelX(body.getPosition().x) - (drawable.getWidth() / 2);
-		int y = engine.getConverter().toPixelY(body.getPosition().y) - (drawable.getHeight() / 2);
+		int x = engine.getConverter().toPixelX(this, graphics.getInterpolation()) - (drawable.getWidth() / 2);
+		int y = engine.getConverter().toPixelY(this, graphics.getInterpolation()) - (drawable.getHeight() / 2);
 		
 		graphics.draw(drawable, x, y);
 	}
 	
 	@Override
 	public void update(Graphics graphics, long delta) {
+		graphics.getProfiler().begin(FrameProfiler.ENTITY_DRAW);
 		draw(graphics);
+		graphics.getProfiler().end(FrameProfiler.ENTITY_DRAW);
 		if(!eNotifier.isInside(getEdge())) {
 			eNotifier.edgeReached(this);
 		}
@@ -145,6 +149,12 @@ abstract class AbstractBonus implements Bonus {
 	@Override
 	public void setBody(Body body) {
 		this.body = body;
+		this.previous.set(Float.NaN, Float.NaN);
+	}
+	
+	@Override
+	public Vec2 getPreviousPosition() {
+		return previous;
 	}
 
 	@Override
@@ -47,7 +47,6 @@ public final class BonusFactory {
 	private static final int SHIBOLEET_NUMBER = 2;
 	private static final int MISSILE_NUMBER = 10;
 	
-	private static final Random RANDOM = new Random();
 	private static final BonusCollisionBehavior COLLISION_BEHAVIOR = new BonusCollisionBehavior();
 	
 	/**
@@ -66,6 +65,7 @@ public final class BonusFactory {
 		Objects.requireNonNull(world);
 		Objects.requireNonNull(econtainer);
 		Resources resources = engine.getResources();
+		Random random = engine.getRandom();
 		
 		float shapeX = engine.getConverter().toMeterX(resources.getTexture(TextureLoader.BONUS_WEAPON_MISSILE).getWidth() / 2);
 		float shapeY = engine.getConverter().toMeterY(resources.getTexture(TextureLoader.BONUS_WEAPON_MISSILE).getHeight() / 2);
@@ -89,7 +89,7 @@ public final class BonusFactory {
 		body.createFixture(fixture);
 		
 		Bonus bonus;
-		if(isBlackHoleBonus()) {
+		if(isBlackHoleBonus(random)) {
 		
 			bonus = new AbstractBonus(engine, body, resources.getTexture(TextureLoader.BONUS_WEAPON_BLACKHOLE), econtainer, econtainer, COLLISION_BEHAVIOR) {
 				
@@ -105,7 +105,7 @@ public final class BonusFactory {
 
 			};
 			
-		} else if(isFireballBonus()) {
+		} else if(isFireballBonus(random)) {
 			
 			bonus = new AbstractBonus(engine, body, resources.getTexture(TextureLoader.BONUS_WEAPON_FIREBALL), econtainer, econtainer, COLLISION_BEHAVIOR) {
 				
@@ -121,7 +121,7 @@ public final class BonusFactory {
 				
 			};
 			
-		} else if(isShiboleetBonus()) {
+		} else if(isShiboleetBonus(random)) {
 			
 			bonus = new AbstractBonus(engine, body, resources.getTexture(TextureLoader.BONUS_WEAPON_SHIBOLEET), econtainer, econtainer, COLLISION_BEHAVIOR) {
 				
@@ -137,7 +137,7 @@ public final class BonusFactory {
 				
 			};
 			
-		} else if(isMissileBonus()) {
+		} else if(isMissileBonus(random)) {
 			
 			bonus = new AbstractBonus(engine, body, resources.getTexture(TextureLoader.BONUS_WEAPON_MISSILE), econtainer, econtainer, COLLISION_BEHAVIOR) {
 				
@@ -169,46 +169,51 @@ public final class BonusFactory {
 	/**
 	 * Is the bonus could be a Blackhole Bonus ?
 	 * 
+	 * @param random Random source
 	 * @return True if the bonus could be a Blackhole Bonus.
 	 */
-	private static boolean isBlackHoleBonus() {
-		return getChance() > BLACKHOLE_CHANCE_PERCENT;
+	private static boolean isBlackHoleBonus(Random random) {
+		return getChance(random) > BLACKHOLE_CHANCE_PERCENT;
 	}
 	
 	/**
 	 * Is the bonus could be a Fireball Bonus ?
 	 * 
+	 * @param random Random source
 	 * @return True if the bonus could be a Fireball Bonus.
 	 */
-	private static boolean isFireballBonus() {
-		return getChance() > FIREBALL_CHANCE_PERCENT;
+	private static boolean isFireballBonus(Random random) {
+		return getChance(random) > FIREBALL_CHANCE_PERCENT;
 	}
 	
 	/**
 	 * Is the bonus could be a Shiboleet Bonus ?
 	 * 
+	 * @param random Random source
 	 * @return True if the bonus could be a Shiboleet Bonus.
 	 */
-	private static boolean isShiboleetBonus() {
-		return getChance() > SHIBOLEET_CHANCE_PERCENT;
+	private static boolean isShiboleetBonus(Random random) {
+		return getChance(random) > SHIBOLEET_CHANCE_PERCENT;
 	}
 	
 	/**
 	 * Is the bonus could be a Missile Bonus ?
 	 * 
+	 * @param random Random source
 	 * @return True if the bonus could be a Missile Bonus.
 	 */
-	private static boolean isMissileBonus() {
-		return getChance() > MISSILE_CHANCE_PERCENT;
+	private static boolean isMissileBonus(Random random) {
+		return getChance(random) > MISSILE_CHANCE_PERCENT;
 	}
 	
 	/**
 	 * Get Chance Percent
 	 * 
+	 * @param random Random source
 	 * @return Chance Percent
 	 */
-	private static int getChance() {
-		return RANDOM.nextInt(100);
+	private static int getChance(Random random) {
+		return random.nextInt(100);
 	}
 	
 }
@@ -11,8 +11,8 @@
 
 package fr.escape.game.entity.notifier;
 
-import android.graphics.Rect;
 import fr.escape.game.entity.Entity;
+import fr.escape.graphics.Rectangle;
 
 /**
  * <p>
@@ -41,6 +41,6 @@ public interface EdgeNotifier {
 	 * @param edge Entity Edge
 	 * @return True if the Entity Edge is inside World Edge
 	 */
-	public boolean isInside(Rect edge);
+	public boolean isInside(Rectangle edge);
 
 }
@@ -18,6 +18,7 @@ import org.jbox2d.dynamics.FixtureDef;
 
 import fr.escape.Objects;
 import fr.escape.app.Engine;
+import fr.escape.app.FrameProfiler;
 import fr.escape.app.Graphics;
 import fr.escape.game.entity.CollisionBehavior;
 import fr.escape.game.entity.EntityContainer;
@@ -74,6 +75,7 @@ public abstract class AbstractBoss extends AbstractShip implements Boss {
 		
 		// Do we need to trigger Special Action ?
 		if(timer >= getSpecialWaitingTime()) {
+			getEntityContainer().getParticles().flare(this);
 			special();
 			resetTimer();
 			resetActionCount();
@@ -84,7 +86,9 @@ public abstract class AbstractBoss extends AbstractShip implements Boss {
 			fire();
 		}
 		
+		graphics.getProfiler().begin(FrameProfiler.ENTITY_DRAW);
 		draw(graphics);
+		graphics.getProfiler().end(FrameProfiler.ENTITY_DRAW);
 	}
 
 	@Override
@@ -19,18 +19,19 @@ import org.jbox2d.dynamics.BodyDef;
 import org.jbox2d.dynamics.FixtureDef;
 import org.jbox2d.dynamics.World;
 
-import android.graphics.Rect;
-
 import fr.escape.Objects;
 import fr.escape.app.Engine;
+import fr.escape.app.FrameProfiler;
 import fr.escape.app.Graphics;
 import fr.escape.game.User;
 import fr.escape.game.entity.CollisionBehavior;
+import fr.escape.game.entity.Entities;
 import fr.escape.game.entity.Entity;
 import fr.escape.game.entity.EntityContainer;
 import fr.escape.game.entity.weapons.Weapon;
 import fr.escape.game.entity.weapons.shot.Shot.ShotContext;
 import fr.escape.graphics.AnimationTexture;
+import fr.escape.graphics.Rectangle;
 import fr.escape.graphics.Texture;
 
 /**
@@ -52,6 +53,7 @@ public abstract class AbstractShip implements Ship {
 	private boolean isWeaponLoaded;
 	
 	private Body body;
+	private final Vec2 previous;
 	private int angle;
 	private int life;
 	
@@ -80,6 +82,7 @@ public abstract class AbstractShip implements Ship {
 		this.isWeaponLoaded = false;
 		this.life = life;
 		this.initialLife = life;
+		this.previous = new Vec2(Float.NaN, Float.NaN);
 		
 	}
 	
@@ -142,6 +145,12 @@ public abstract class AbstractShip implements Ship {
 	@Override
 	public void setBody(Body body) {
 		this.body = body;
+		this.previous.set(Float.NaN, Float.NaN);
+	}
+	
+	@Override
+	public Vec2 getPreviousPosition() {
+		return previous;
 	}
 	
 	@Override
@@ -168,8 +177,8 @@ public abstract class AbstractShip implements Ship {
 	public void draw(Graphics graphics) {
 		Objects.requireNonNull(graphics);
 		
-		int x = engine.getConverter().toPixelX(getX()) - (shipDrawable.getWidth() / 2);
-		int y = engine.getConverter().toPixelY(getY()) - (shipDrawable.getHeight() / 2);
+		int x = engine.getConverter().toPixelX(this, graphics.getInterpolation()) - (shipDrawable.getWidth() / 2);
+		int y = engine.getConverter().toPixelY(this, graphics.getInterpolation()) - (shipDrawable.getHeight() / 2);
 			
 		graphics.draw(shipDrawable, x, y, x + shipDrawable.getWidth(), y + shipDrawable.getHeight(), angle);
 		
@@ -179,7 +188,9 @@ public abstract class AbstractShip implements Ship {
 	public void update(Graphics graphics, long delta) {
 		Objects.requireNonNull(graphics);
 		
+		graphics.getProfiler().begin(FrameProfiler.ENTITY_DRAW);
 		draw(graphics);
+		graphics.getProfiler().end(FrameProfiler.ENTITY_DRAW);
 		getActiveWeapon().update(graphics, delta);
 		
 		if(!econtainer.isInside(getEdge())) {
@@ -272,12 +283,12 @@ public abstract class AbstractShip implements Ship {
 	}
 	
 	@Override
-	public Rect getEdge() {
+	public Rectangle getEdge() {
 		
 		int x = engine.getConverter().toPixelX(getX());
 		int y = engine.getConverter().toPixelY(getY());
 		
-		return new Rect(x - (shipDrawable.getWidth() / 2), y + (shipDrawable.getHeight() / 2), x + (shipDrawable.getWidth() / 2), y - (shipDrawable.getHeight() / 2));
+		return new Rectangle(x - (shipDrawable.getWidth() / 2), y + (shipDrawable.getHeight() / 2), x + (shipDrawable.getWidth() / 2), y - (shipDrawable.getHeight() / 2));
 	}
 	
 	@Override
@@ -326,7 +337,7 @@ public abstract class AbstractShip implements Ship {
 		
 		// Reset Body
 		getBody().setLinearVelocity(new Vec2(0.0f,0.0f));
-		getBody().setTransform(new Vec2(x, y), getBody().getAngle());
+		Entities.teleport(this, x, y, getBody().getAngle());
 		
 		// Reset All Weapons
 		for(int i = 0; i < weapons.size(); i++) {
@@ -16,16 +16,32 @@ import fr.escape.game.User;
 import fr.escape.game.entity.CollisionBehavior;
 import fr.escape.game.entity.Collisionable;
 import fr.escape.game.entity.Entity;
+import fr.escape.game.entity.ParticleSystem;
 import fr.escape.game.entity.weapons.shot.Shot;
 
 /**
+ * <p>
  * {@link CollisionBehavior} for Computer/NPC Ship.
  * 
+ * <p>
+ * Hits and destructions emit particles in the given {@link ParticleSystem}.
+ * 
  */
 public final class ComputerShipCollisionBehavior implements CollisionBehavior {
 
 	//private static final String TAG = ComputerShipCollisionBehavior.class.getSimpleName();
 	
+	private final ParticleSystem particles;
+	
+	/**
+	 * Default Constructor
+	 * 
+	 * @param particles Particles for hit effects
+	 */
+	public ComputerShipCollisionBehavior(ParticleSystem particles) {
+		this.particles = Objects.requireNonNull(particles);
+	}
+	
 	@Override
 	public void applyCollision(User user, Entity handler, Entity other, int type) {
 		
@@ -39,9 +55,11 @@ public final class ComputerShipCollisionBehavior implements CollisionBehavior {
 				//Foundation.ACTIVITY.debug(TAG, "NPC hit a Shot.");
 				
 				Shot shot = (Shot) other;
+				particles.impact(shot);
 				shot.receive(Shot.MESSAGE_HIT);
 
 				if(ship.damage(shot.getDamage())) {
+					particles.explode(ship);
 					ship.toDestroy();
 				}
 				
@@ -55,12 +73,14 @@ public final class ComputerShipCollisionBehavior implements CollisionBehavior {
 				user.addScore(HIT_SCORE / 2);
 				
 				Ship player = (Ship) other;
+				particles.impact(player);
 				
 				if(player.damage(HIT_DAMAGE)) {
 					user.removeOneLife();
 				}
 				
 				if(ship.damage(HIT_DAMAGE)) {
+					particles.explode(ship);
 					ship.toDestroy();
 				}
 				
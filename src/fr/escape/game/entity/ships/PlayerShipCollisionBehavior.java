@@ -16,17 +16,33 @@ import fr.escape.game.User;
 import fr.escape.game.entity.CollisionBehavior;
 import fr.escape.game.entity.Collisionable;
 import fr.escape.game.entity.Entity;
+import fr.escape.game.entity.ParticleSystem;
 import fr.escape.game.entity.bonus.Bonus;
 import fr.escape.game.entity.weapons.shot.Shot;
 
 /**
+ * <p>
  * {@link CollisionBehavior} for Player Ship.
  * 
+ * <p>
+ * Hits and destructions emit particles in the given {@link ParticleSystem}.
+ * 
  */
 public final class PlayerShipCollisionBehavior implements CollisionBehavior {
 
 	//private static final String TAG = PlayerShipCollisionBehavior.class.getSimpleName();
 	
+	private final ParticleSystem particles;
+	
+	/**
+	 * Default Constructor
+	 * 
+	 * @param particles Particles for hit effects
+	 */
+	public PlayerShipCollisionBehavior(ParticleSystem particles) {
+		this.particles = Objects.requireNonNull(particles);
+	}
+	
 	@Override
 	public void applyCollision(User user, Entity handler, Entity other, int type) {
 
@@ -40,6 +56,7 @@ public final class PlayerShipCollisionBehavior implements CollisionBehavior {
 				//Foundation.ACTIVITY.debug(TAG, "Player hit a Shot.");
 				
 				Shot shot = (Shot) other;
+				particles.impact(shot);
 				shot.receive(Shot.MESSAGE_HIT);
 				
 				if(player.damage(shot.getDamage())) {
@@ -64,12 +81,14 @@ public final class PlayerShipCollisionBehavior implements CollisionBehavior {
 				//Foundation.ACTIVITY.debug(TAG, "Player hit a NPC.");
 				
 				Ship ship = (Ship) other;
+				particles.impact(player);
 				
 				if(player.damage(HIT_DAMAGE)) {
 					user.removeOneLife();
 				}
 				
 				if(ship.damage(HIT_DAMAGE)) {
+					particles.explode(ship);
 					ship.toDestroy();
 				}
 				
@@ -17,11 +17,10 @@ import org.jbox2d.dynamics.Body;
 import org.jbox2d.dynamics.BodyDef;
 import org.jbox2d.dynamics.World;
 
-import android.graphics.Rect;
-
 import fr.escape.game.entity.Entity;
 import fr.escape.game.entity.weapons.Weapon;
 import fr.escape.game.entity.weapons.shot.Shot;
+import fr.escape.graphics.Rectangle;
 
 /**
  * The {@link Ship} Interface define the needed operation for a {@link Ship} which can move and fire {@link Shot}.
@@ -125,9 +124,9 @@ public interface Ship extends Entity {
 	/**
 	 * Get the {@link Body} edge.
 	 * 
-	 * @return A {@link Rect} in which the JBox2D {@link Body} is contained.
+	 * @return A {@link Rectangle} in which the JBox2D {@link Body} is contained.
 	 */
-	public Rect getEdge();
+	public Rectangle getEdge();
 	
 	/**
 	 * Reset a {@link Ship} at is initial state (position, {@link Weapon}, life).
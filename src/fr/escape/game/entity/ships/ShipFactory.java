@@ -26,6 +26,7 @@ import fr.escape.app.Engine;
 import fr.escape.app.Graphics;
 import fr.escape.game.entity.CollisionBehavior;
 import fr.escape.game.entity.Collisionable;
+import fr.escape.game.entity.Entities;
 import fr.escape.game.entity.EntityContainer;
 import fr.escape.game.entity.weapons.Weapon;
 import fr.escape.game.entity.weapons.Weapons;
@@ -49,8 +50,6 @@ public class ShipFactory {
 	private static final int PLAYERMASK = Collisionable.NPC_TYPE | Collisionable.SHOT_TYPE | Collisionable.BONUS_TYPE | Collisionable.WALL_TYPE;
 	private static final int NPCMASK = Collisionable.PLAYER_TYPE | Collisionable.SHOT_TYPE;
 	
-	private static final CollisionBehavior COMPUTER_COLLISION_BEHAVIOR = new ComputerShipCollisionBehavior();
-	private static final CollisionBehavior PLAYER_COLLISION_BEHAVIOR = new PlayerShipCollisionBehavior();
 	
 	private static final int DEFAULT_ARMOR = 1;
 	private static final int PLAYER_ARMOR = 50;
@@ -62,6 +61,8 @@ public class ShipFactory {
 	private final EntityContainer econtainer;
 	private final List<Weapon> playerWeapons;
 	private final List<Weapon> npcWeapons;
+	private final CollisionBehavior computerCollisionBehavior;
+	private final CollisionBehavior playerCollisionBehavior;
 	
 	final ShotFactory shotFactory;
 	
@@ -77,6 +78,8 @@ public class ShipFactory {
 		this.playerWeapons = Weapons.createListOfWeapons(engine.getResources(), this.econtainer, Objects.requireNonNull(factory));
 		this.npcWeapons = Weapons.createListOfUnlimitedWeapons(engine.getResources(), this.econtainer, factory);
 		this.shotFactory = factory;
+		this.computerCollisionBehavior = new ComputerShipCollisionBehavior(ec.getParticles());
+		this.playerCollisionBehavior = new PlayerShipCollisionBehavior(ec.getParticles());
 	}
 	
 	/**
@@ -167,7 +170,7 @@ public class ShipFactory {
 		BodyDef bodyDef = createBodyDef(x, y);
 		FixtureDef fixture = createFixtureForPlayer(engine, raptor);
 
-		return new AbstractShip(engine, bodyDef, fixture, playerWeapons, PLAYER_ARMOR, econtainer, raptor, PLAYER_COLLISION_BEHAVIOR) {
+		return new AbstractShip(engine, bodyDef, fixture, playerWeapons, PLAYER_ARMOR, econtainer, raptor, playerCollisionBehavior) {
 			
 			private static final int PLAYER_MASK = NPC_TYPE | SHOT_TYPE | BONUS_TYPE | WALL_TYPE;
 			private static final int INVULNERABILITY_MASK = 0x0001 | BONUS_TYPE;
@@ -331,7 +334,7 @@ public class ShipFactory {
 		BodyDef bodyDef = createBodyDef(x, y);
 		FixtureDef fixture = createFixtureForNpc(engine, jupiter);
 		
-		return new AbstractBoss(engine, bodyDef, fixture, npcWeapons, JUPITER_ARMOR, econtainer, jupiter, COMPUTER_COLLISION_BEHAVIOR) {
+		return new AbstractBoss(engine, bodyDef, fixture, npcWeapons, JUPITER_ARMOR, econtainer, jupiter, computerCollisionBehavior) {
 
 			private final Texture texture = engine.getResources().getTexture(TextureLoader.JUPITER_SPECIAL);
 			
@@ -425,10 +428,10 @@ public class ShipFactory {
 		BodyDef bodyDef = createBodyDef(x, y);
 		FixtureDef fixture = createFixtureForNpc(engine, moon);
 		
-		return new AbstractBoss(engine, bodyDef, fixture, npcWeapons, MOON_ARMOR, econtainer, moon, COMPUTER_COLLISION_BEHAVIOR) {
+		return new AbstractBoss(engine, bodyDef, fixture, npcWeapons, MOON_ARMOR, econtainer, moon, computerCollisionBehavior) {
 
 			private final Texture texture = engine.getResources().getTexture(TextureLoader.MOON_SPECIAL);
-			private final Random random = new Random();
+			private final Random random = engine.getRandom();
 			
 			@Override
 			public int getFireWaitingTime() {
@@ -507,7 +510,7 @@ public class ShipFactory {
 		BodyDef bodyDef = createBodyDef(x, y);
 		FixtureDef fixture = createFixtureForNpc(engine, earth);
 		
-		return new AbstractBoss(engine, bodyDef, fixture, npcWeapons, EARTH_ARMOR, econtainer, earth, COMPUTER_COLLISION_BEHAVIOR) {
+		return new AbstractBoss(engine, bodyDef, fixture, npcWeapons, EARTH_ARMOR, econtainer, earth, computerCollisionBehavior) {
 			
 			private final Texture texture = engine.getResources().getTexture(TextureLoader.EARTH_SPECIAL);
 			private final float VARX = engine.getConverter().toMeterY(10);
@@ -576,9 +579,8 @@ public class ShipFactory {
 			@Override
 			public void moveShot(float x, float y) {
 				if(specialShot != null) {					
-					Body speBody = specialShot.getBody();
-					if(speBody != null) {
-						speBody.setTransform(new Vec2(x - VARX, y + VARY), 0.0f);
+					if(specialShot.getBody() != null) {
+						Entities.teleport(specialShot, x - VARX, y + VARY, 0.0f);
 					}
 				}
 			}
@@ -671,7 +673,7 @@ public class ShipFactory {
 		Objects.requireNonNull(fixture);
 		Objects.requireNonNull(drawable);
 		
-		return new AbstractShip(engine, bodyDef, fixture, npcWeapons, DEFAULT_ARMOR, econtainer, drawable, COMPUTER_COLLISION_BEHAVIOR) {
+		return new AbstractShip(engine, bodyDef, fixture, npcWeapons, DEFAULT_ARMOR, econtainer, drawable, computerCollisionBehavior) {
 			
 			@Override
 			public void toDestroy() {
@@ -14,16 +14,17 @@ package fr.escape.game.entity.weapons.shot;
 import org.jbox2d.common.Vec2;
 import org.jbox2d.dynamics.Body;
 
-import android.graphics.Rect;
-
 import fr.escape.Objects;
 import fr.escape.app.Engine;
+import fr.escape.app.Graphics;
 import fr.escape.game.User;
 import fr.escape.game.entity.CollisionBehavior;
+import fr.escape.game.entity.Entities;
 import fr.escape.game.entity.Entity;
 import fr.escape.game.entity.EntityContainer;
 import fr.escape.game.entity.notifier.EdgeNotifier;
 import fr.escape.game.entity.notifier.KillNotifier;
+import fr.escape.graphics.Rectangle;
 
 /**
  * This class provide a skeletal implementation of any {@link Shot} in the game.
@@ -41,6 +42,7 @@ public abstract class AbstractShot implements Shot {
 	private CollisionBehavior collisionBehavior;
 	
 	private Body body;
+	private final Vec2 previous;
 	
 	private int angle;
 	private int damage;
@@ -68,6 +70,7 @@ public abstract class AbstractShot implements Shot {
 		
 		this.angle = 0;
 		this.damage = defaultDamage;
+		this.previous = new Vec2(Float.NaN, Float.NaN);
 	}
 
 	@Override
@@ -77,7 +80,7 @@ public abstract class AbstractShot implements Shot {
 	
 	@Override
 	public void setPosition(float x, float y) {
-		getBody().setTransform(new Vec2(x, y), getBody().getAngle());
+		Entities.teleport(this, x, y, getBody().getAngle());
 	}
 	
 	@Override
@@ -106,6 +109,12 @@ public abstract class AbstractShot implements Shot {
 	@Override
 	public void setBody(Body body) {
 		this.body = body;
+		this.previous.set(Float.NaN, Float.NaN);
+	}
+	
+	@Override
+	public Vec2 getPreviousPosition() {
+		return previous;
 	}
 	
 	/**
@@ -126,6 +135,26 @@ public abstract class AbstractShot implements Shot {
 		return getBody().getPosition().y;
 	}
 	
+	/**
+	 * Get {@link Body} coordinate on X axis in pixels, interpolated for rendering.
+	 * 
+	 * @param graphics : {@link Graphics} which provide the interpolation factor.
+	 * @return Return the X coordinate.
+	 */
+	protected int getDrawX(Graphics graphics) {
+		return engine.getConverter().toPixelX(this, graphics.getInterpolation());
+	}
+	
+	/**
+	 * Get {@link Body} coordinate on Y axis in pixels, interpolated for rendering.
+	 * 
+	 * @param graphics : {@link Graphics} which provide the interpolation factor.
+	 * @return Return the Y coordinate.
+	 */
+	protected int getDrawY(Graphics graphics) {
+		return engine.getConverter().toPixelY(this, graphics.getInterpolation());
+	}
+	
 	/**
 	 * Get the {@link Shot} rotation angle.
 	 * 
@@ -145,8 +174,8 @@ public abstract class AbstractShot implements Shot {
 	 * 
 	 * @return Return the {@link Rectangle} that contains the {@link Shot} {@link Body}.
 	 */
-	protected abstract Rect getEdge();
-
+	protected abstract Rectangle getEdge();
+	
 	/**
 	 * Get EdgeNotifier
 	 * 
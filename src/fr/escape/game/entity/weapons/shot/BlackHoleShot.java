@@ -16,13 +16,13 @@ import org.jbox2d.common.Vec2;
 import org.jbox2d.dynamics.Body;
 import org.jbox2d.dynamics.BodyType;
 
-import android.graphics.Rect;
-
 import fr.escape.Objects;
 import fr.escape.app.Engine;
+import fr.escape.app.FrameProfiler;
 import fr.escape.app.Graphics;
 import fr.escape.game.entity.CollisionBehavior;
 import fr.escape.game.entity.EntityContainer;
+import fr.escape.graphics.Rectangle;
 import fr.escape.graphics.Texture;
 import fr.escape.resources.TextureLoader;
 
@@ -147,7 +147,9 @@ public final class BlackHoleShot extends AbstractShot {
 		Objects.requireNonNull(graphics);
 		
 		timer += delta;
+		graphics.getProfiler().begin(FrameProfiler.ENTITY_DRAW);
 		draw(graphics);
+		graphics.getProfiler().end(FrameProfiler.ENTITY_DRAW);
 		
 		if(!getEdgeNotifier().isInside(getEdge())) {
 			getEdgeNotifier().edgeReached(this);
@@ -185,8 +187,8 @@ public final class BlackHoleShot extends AbstractShot {
 	private void drawCoreHelix(Graphics graphics) {
 		Objects.requireNonNull(graphics);
 		
-		int x = getEngine().getConverter().toPixelX(getBody().getPosition().x) - coreHelix.getWidth() / 2;
-		int y = getEngine().getConverter().toPixelY(getBody().getPosition().y) - coreHelix.getHeight() / 2;
+		int x = getDrawX(graphics) - coreHelix.getWidth() / 2;
+		int y = getDrawY(graphics) - coreHelix.getHeight() / 2;
 		
 		graphics.draw(coreHelix, x, y, getAngle());
 	}
@@ -199,8 +201,8 @@ public final class BlackHoleShot extends AbstractShot {
 	private void drawLeftAndRightHelix(Graphics graphics) {
 		Objects.requireNonNull(graphics);
 		
-		int centerX = getEngine().getConverter().toPixelX(getBody().getPosition().x);
-		int centerY = getEngine().getConverter().toPixelY(getBody().getPosition().y);
+		int centerX = getDrawX(graphics);
+		int centerY = getDrawY(graphics);
 		
 		int x = centerX - (leftHelix.getWidth() / 2);
 		int y = centerY - (leftHelix.getHeight() / 2);
@@ -225,8 +227,8 @@ public final class BlackHoleShot extends AbstractShot {
 
 		float size = getEventHorizonSize();
 		
-		int centerX = getEngine().getConverter().toPixelX(getBody().getPosition().x);
-		int centerY = getEngine().getConverter().toPixelY(getBody().getPosition().y);
+		int centerX = getDrawX(graphics);
+		int centerY = getDrawY(graphics);
 
 		int width = (int) (eventHorizon.getWidth() * size);
 		int height = (int) (eventHorizon.getHeight() * size);
@@ -263,13 +265,13 @@ public final class BlackHoleShot extends AbstractShot {
 	}
 
 	@Override
-	protected Rect getEdge() {
+	protected Rectangle getEdge() {
 		
 		int x = getEngine().getConverter().toPixelX(getX());
 		int y = getEngine().getConverter().toPixelY(getY());
 		
 		if(drawEventHorizon) {
-			return new Rect(x - (eventHorizon.getWidth() / 2), y - (eventHorizon.getHeight() / 2), x + (eventHorizon.getWidth() / 2), y + (eventHorizon.getHeight() / 2));
+			return new Rectangle(x - (eventHorizon.getWidth() / 2), y - (eventHorizon.getHeight() / 2), x + (eventHorizon.getWidth() / 2), y + (eventHorizon.getHeight() / 2));
 		} else if(drawLeftAndRightHelix) {
 			
 			int offset = leftHelix.getWidth();
@@ -277,11 +279,11 @@ public final class BlackHoleShot extends AbstractShot {
 			offset = Math.max(rightHelix.getWidth(), offset);
 			offset = Math.max(rightHelix.getHeight(), offset);
 			
-			return new Rect(x - (offset / 2), y - (offset / 2), x + (offset / 2), y + (offset / 2));
+			return new Rectangle(x - (offset / 2), y - (offset / 2), x + (offset / 2), y + (offset / 2));
 			
 		}
 		
-		return new Rect(x - (coreHelix.getWidth() / 2), y - (coreHelix.getHeight() / 2), x + (coreHelix.getWidth() / 2), y + (coreHelix.getHeight() / 2));
+		return new Rectangle(x - (coreHelix.getWidth() / 2), y - (coreHelix.getHeight() / 2), x + (coreHelix.getWidth() / 2), y + (coreHelix.getHeight() / 2));
 	}
 	
 }
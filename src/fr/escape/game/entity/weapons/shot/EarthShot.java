@@ -13,13 +13,13 @@ package fr.escape.game.entity.weapons.shot;
 
 import org.jbox2d.dynamics.Body;
 
-import android.graphics.Rect;
-
 import fr.escape.Objects;
 import fr.escape.app.Engine;
+import fr.escape.app.FrameProfiler;
 import fr.escape.app.Graphics;
 import fr.escape.game.entity.CollisionBehavior;
 import fr.escape.game.entity.EntityContainer;
+import fr.escape.graphics.Rectangle;
 import fr.escape.graphics.Texture;
 import fr.escape.resources.TextureLoader;
 
@@ -92,8 +92,11 @@ public class EarthShot extends AbstractShot {
 		Objects.requireNonNull(graphics);
 		
 		if(isVisible) {
-			Rect area = getEdge();
-			graphics.draw(coreEarthShot, area.left, area.top, area.right, graphics.getHeight());
+			
+			int x = getDrawX(graphics);
+			int y = getDrawY(graphics);
+			
+			graphics.draw(coreEarthShot, x - (coreEarthShot.getWidth() / 2), y - (coreEarthShot.getHeight() / 2), x + (coreEarthShot.getWidth() / 2), graphics.getHeight());
 		}
 		
 	}
@@ -101,7 +104,9 @@ public class EarthShot extends AbstractShot {
 	@Override
 	public void update(Graphics graphics, long delta) {
 		Objects.requireNonNull(graphics);
+		graphics.getProfiler().begin(FrameProfiler.ENTITY_DRAW);
 		draw(graphics);
+		graphics.getProfiler().end(FrameProfiler.ENTITY_DRAW);
 		
 		if(!getEdgeNotifier().isInside(getEdge())) {
 			getEdgeNotifier().edgeReached(this);
@@ -109,12 +114,12 @@ public class EarthShot extends AbstractShot {
 	}
 
 	@Override
-	protected Rect getEdge() {
+	protected Rectangle getEdge() {
 		
 		int x = getEngine().getConverter().toPixelX(getX());
 		int y = getEngine().getConverter().toPixelY(getY());
 		
-		return new Rect(x - (coreEarthShot.getWidth() / 2), y - (coreEarthShot.getHeight() / 2), x + (coreEarthShot.getWidth() / 2), y + (coreEarthShot.getHeight() / 2));
+		return new Rectangle(x - (coreEarthShot.getWidth() / 2), y - (coreEarthShot.getHeight() / 2), x + (coreEarthShot.getWidth() / 2), y + (coreEarthShot.getHeight() / 2));
 	}
 	
 	
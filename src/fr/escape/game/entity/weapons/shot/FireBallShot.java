@@ -16,13 +16,13 @@ import org.jbox2d.common.Vec2;
 import org.jbox2d.dynamics.Body;
 import org.jbox2d.dynamics.BodyType;
 
-import android.graphics.Rect;
-
 import fr.escape.Objects;
 import fr.escape.app.Engine;
+import fr.escape.app.FrameProfiler;
 import fr.escape.app.Graphics;
 import fr.escape.game.entity.CollisionBehavior;
 import fr.escape.game.entity.EntityContainer;
+import fr.escape.graphics.Rectangle;
 import fr.escape.graphics.Texture;
 import fr.escape.resources.TextureLoader;
 
@@ -76,7 +76,9 @@ public final class FireBallShot extends AbstractShot {
 		Objects.requireNonNull(graphics);
 		
 		timer += delta;
+		graphics.getProfiler().begin(FrameProfiler.ENTITY_DRAW);
 		draw(graphics);
+		graphics.getProfiler().end(FrameProfiler.ENTITY_DRAW);
 		
 		if(radiusGrown) {
 			radiusSize = getRadiusEffectSize();
@@ -134,7 +136,7 @@ public final class FireBallShot extends AbstractShot {
 	}
 
 	@Override
-	protected Rect getEdge() {
+	protected Rectangle getEdge() {
 		
 		int x = getEngine().getConverter().toPixelX(getX());
 		int y = getEngine().getConverter().toPixelY(getY());
@@ -146,7 +148,7 @@ public final class FireBallShot extends AbstractShot {
 		width = Math.max(width, coreBall.getWidth());
 		height = Math.max(height, coreBall.getHeight());
 		
-		return new Rect(x - (width / 2), y - (height / 2), x + (width / 2), y + (height / 2));
+		return new Rectangle(x - (width / 2), y - (height / 2), x + (width / 2), y + (height / 2));
 	}
 
 	/**
@@ -157,8 +159,8 @@ public final class FireBallShot extends AbstractShot {
 	private void drawCoreBall(Graphics graphics) {
 		Objects.requireNonNull(graphics);
 		
-		int x = getEngine().getConverter().toPixelX(getBody().getPosition().x) - coreBall.getWidth() / 2;
-		int y = getEngine().getConverter().toPixelY(getBody().getPosition().y) - coreBall.getHeight() / 2;
+		int x = getDrawX(graphics) - coreBall.getWidth() / 2;
+		int y = getDrawY(graphics) - coreBall.getHeight() / 2;
 		
 		graphics.draw(coreBall, x, y, getAngle());
 	}
@@ -175,8 +177,8 @@ public final class FireBallShot extends AbstractShot {
 		int width = (int) (radiusEffect.getWidth() * radiusSize);
 		int height = (int) (radiusEffect.getHeight() * radiusSize);
 		
-		int x = getEngine().getConverter().toPixelX(getBody().getPosition().x) - (width / 2);
-		int y = getEngine().getConverter().toPixelY(getBody().getPosition().y) - (height / 2);
+		int x = getDrawX(graphics) - (width / 2);
+		int y = getDrawY(graphics) - (height / 2);
 		
 		graphics.draw(radiusEffect, x, y, x + width, y + height, random);
 		
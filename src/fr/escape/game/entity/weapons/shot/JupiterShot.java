@@ -15,13 +15,13 @@ import org.jbox2d.common.Vec2;
 import org.jbox2d.dynamics.Body;
 import org.jbox2d.dynamics.BodyType;
 
-import android.graphics.Rect;
-
 import fr.escape.Objects;
 import fr.escape.app.Engine;
+import fr.escape.app.FrameProfiler;
 import fr.escape.app.Graphics;
 import fr.escape.game.entity.CollisionBehavior;
 import fr.escape.game.entity.EntityContainer;
+import fr.escape.graphics.Rectangle;
 import fr.escape.graphics.Texture;
 import fr.escape.resources.TextureLoader;
 
@@ -92,8 +92,11 @@ public class JupiterShot extends AbstractShot {
 		Objects.requireNonNull(graphics);
 		
 		if(isVisible) {
-			Rect area = getEdge();
-			graphics.draw(coreJupiterShot, area.left, area.top, area.right, area.bottom, getAngle());
+			
+			int x = getDrawX(graphics);
+			int y = getDrawY(graphics);
+			
+			graphics.draw(coreJupiterShot, x - (coreJupiterShot.getWidth() / 2), y - (coreJupiterShot.getHeight() / 2), x + (coreJupiterShot.getWidth() / 2), y + (coreJupiterShot.getHeight() / 2), getAngle());
 		}
 	}
 
@@ -101,7 +104,9 @@ public class JupiterShot extends AbstractShot {
 	public void update(Graphics graphics, long delta) {
 		Objects.requireNonNull(graphics);
 		
+		graphics.getProfiler().begin(FrameProfiler.ENTITY_DRAW);
 		draw(graphics);
+		graphics.getProfiler().end(FrameProfiler.ENTITY_DRAW);
 		
 		if(!getEdgeNotifier().isInside(getEdge())) {
 			getEdgeNotifier().edgeReached(this);
@@ -109,11 +114,11 @@ public class JupiterShot extends AbstractShot {
 	}
 
 	@Override
-	protected Rect getEdge() {
+	protected Rectangle getEdge() {
 		int x = getEngine().getConverter().toPixelX(getX());
 		int y = getEngine().getConverter().toPixelY(getY());
 		
-		return new Rect(x - (coreJupiterShot.getWidth() / 2), y - (coreJupiterShot.getHeight() / 2),x + (coreJupiterShot.getWidth() / 2), y + (coreJupiterShot.getHeight() / 2));
+		return new Rectangle(x - (coreJupiterShot.getWidth() / 2), y - (coreJupiterShot.getHeight() / 2),x + (coreJupiterShot.getWidth() / 2), y + (coreJupiterShot.getHeight() / 2));
 	}
 
 }
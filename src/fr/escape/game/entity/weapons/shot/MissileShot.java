@@ -15,13 +15,12 @@ import org.jbox2d.common.Vec2;
 import org.jbox2d.dynamics.Body;
 import org.jbox2d.dynamics.BodyType;
 
-import android.graphics.Rect;
-
 import fr.escape.Objects;
 import fr.escape.app.Engine;
 import fr.escape.app.Graphics;
 import fr.escape.game.entity.CollisionBehavior;
 import fr.escape.game.entity.EntityContainer;
+import fr.escape.graphics.Rectangle;
 import fr.escape.graphics.Texture;
 import fr.escape.resources.TextureLoader;
 
@@ -101,8 +100,8 @@ public class MissileShot extends AbstractShot {
 	private void drawCoreMissile(Graphics graphics) {
 		Objects.requireNonNull(graphics);
 		
-		int x = getEngine().getConverter().toPixelX(getBody().getPosition().x) - coreMissile.getWidth() / 2;
-		int y = getEngine().getConverter().toPixelY(getBody().getPosition().y) - coreMissile.getHeight() / 2;
+		int x = getDrawX(graphics) - coreMissile.getWidth() / 2;
+		int y = getDrawY(graphics) - coreMissile.getHeight() / 2;
 		
 		graphics.draw(coreMissile, x, y, getAngle());
 	}
@@ -119,12 +118,12 @@ public class MissileShot extends AbstractShot {
 	}
 
 	@Override
-	protected Rect getEdge() {
+	protected Rectangle getEdge() {
 		
 		int x = getEngine().getConverter().toPixelX(getX());
 		int y = getEngine().getConverter().toPixelY(getY());
 		
-		return new Rect(x - (coreMissile.getWidth() / 2), y - (coreMissile.getHeight() / 2), x + (coreMissile.getWidth() / 2), y + (coreMissile.getHeight() / 2));
+		return new Rectangle(x - (coreMissile.getWidth() / 2), y - (coreMissile.getHeight() / 2), x + (coreMissile.getWidth() / 2), y + (coreMissile.getHeight() / 2));
 	}
 
 }
@@ -15,13 +15,14 @@ import org.jbox2d.common.Vec2;
 import org.jbox2d.dynamics.Body;
 import org.jbox2d.dynamics.BodyType;
 
-import android.graphics.Rect;
-
 import fr.escape.Objects;
 import fr.escape.app.Engine;
+import fr.escape.app.FrameProfiler;
 import fr.escape.app.Graphics;
 import fr.escape.game.entity.CollisionBehavior;
+import fr.escape.game.entity.Entities;
 import fr.escape.game.entity.EntityContainer;
+import fr.escape.graphics.Rectangle;
 import fr.escape.graphics.Texture;
 import fr.escape.resources.TextureLoader;
 
@@ -64,7 +65,7 @@ public final class ShiboleetShot extends AbstractShot {
 	public void setPosition(float x, float y) {
 		
 		float size = getEngine().getConverter().toMeterY(Math.max(getHeight(), getWidth()));
-		getBody().setTransform(new Vec2(x, y + size), getBody().getAngle());
+		Entities.teleport(this, x, y + size, getBody().getAngle());
 		
 	}
 
@@ -156,9 +157,17 @@ public final class ShiboleetShot extends AbstractShot {
 		
 		if(isVisible) {
 			
-			Rect area = getEdge();
+			int x = getDrawX(graphics);
+			int y = getDrawY(graphics);
+			int width = coreShiboleet.getWidth();
+			int height = coreShiboleet.getHeight();
+			
+			if(isChild) {
+				width = (int) (width * CHILD_RADIUS);
+				height = (int) (height * CHILD_RADIUS);
+			}
 			
-			graphics.draw(coreShiboleet, area.left, area.top, area.right, area.bottom, getAngle());
+			graphics.draw(coreShiboleet, x - (width / 2), y - (height / 2), x + (width / 2), y + (height / 2), getAngle());
 		}
 	}
 	
@@ -166,7 +175,9 @@ public final class ShiboleetShot extends AbstractShot {
 	public void update(Graphics graphics, long delta) {
 		Objects.requireNonNull(graphics);
 		
+		graphics.getProfiler().begin(FrameProfiler.ENTITY_DRAW);
 		draw(graphics);
+		graphics.getProfiler().end(FrameProfiler.ENTITY_DRAW);
 		
 		if(!getEdgeNotifier().isInside(getEdge())) {
 			getEdgeNotifier().edgeReached(this);
@@ -174,7 +185,7 @@ public final class ShiboleetShot extends AbstractShot {
 	}
 
 	@Override
-	protected Rect getEdge() {
+	protected Rectangle getEdge() {
 		
 		int cx = getEngine().getConverter().toPixelX(getX());
 		int cy = getEngine().getConverter().toPixelY(getY());
@@ -204,7 +215,7 @@ public final class ShiboleetShot extends AbstractShot {
 			height = cy + (coreShiboleet.getHeight() / 2);
 		}
 		
-		return new Rect(x, y, width, height);
+		return new Rectangle(x, y, width, height);
 	}
 
 }
@@ -17,15 +17,31 @@ import fr.escape.game.User;
 import fr.escape.game.entity.CollisionBehavior;
 import fr.escape.game.entity.Collisionable;
 import fr.escape.game.entity.Entity;
+import fr.escape.game.entity.ParticleSystem;
 import fr.escape.game.entity.ships.Ship;
 
 /**
+ * <p>
  * This class implement the {@link CollisionBehavior} for any {@link Shot}.
+ * 
+ * <p>
+ * Hits and destructions emit particles in the given {@link ParticleSystem}.
  */
 public final class ShotCollisionBehavior implements CollisionBehavior {
 
 	private static final String TAG = ShotCollisionBehavior.class.getSimpleName();
 	
+	private final ParticleSystem particles;
+	
+	/**
+	 * Default Constructor
+	 * 
+	 * @param particles Particles for hit effects
+	 */
+	public ShotCollisionBehavior(ParticleSystem particles) {
+		this.particles = Objects.requireNonNull(particles);
+	}
+	
 	@Override
 	public void applyCollision(User user, Entity handler, Entity other, int type) {
 		
@@ -33,6 +49,7 @@ public final class ShotCollisionBehavior implements CollisionBehavior {
 		Objects.requireNonNull(other);
 		
 		Shot shot = (Shot) Objects.requireNonNull(handler);
+		particles.impact(shot);
 		shot.receive(Shot.MESSAGE_HIT);
 		
 		switch(type) {
@@ -53,6 +70,7 @@ public final class ShotCollisionBehavior implements CollisionBehavior {
 				Ship ship = (Ship) other;
 				
 				if(ship.damage(shot.getDamage())) {
+					particles.explode(ship);
 					ship.toDestroy();
 				}
 
@@ -31,12 +31,12 @@ import fr.escape.resources.TextureLoader;
 public final class ShotFactory {
 	
 	private static final int MASK = 0x0001;
-	private static final ShotCollisionBehavior COLLISION_BEHAVIOR = new ShotCollisionBehavior();
 	
 	private final Engine engine;
 	private final Resources resources;
 	private final World world;
 	private final EntityContainer entityContainer;
+	private final ShotCollisionBehavior collisionBehavior;
 
 	/**
 	 * {@link ShotFactory} constructor.
@@ -49,6 +49,7 @@ public final class ShotFactory {
 		this.resources = engine.getResources();
 		this.world = Objects.requireNonNull(world);
 		this.entityContainer = Objects.requireNonNull(entityContainer);
+		this.collisionBehavior = new ShotCollisionBehavior(entityContainer.getParticles());
 	}
 
 	/**
@@ -83,7 +84,7 @@ public final class ShotFactory {
 		while((body = world.createBody(bodyDef)) == null);
 		body.createFixture(fixture);
 		
-		Shot shot = new BlackHoleShot(engine, body, entityContainer, COLLISION_BEHAVIOR);
+		Shot shot = new BlackHoleShot(engine, body, entityContainer, collisionBehavior);
 		
 		body.setUserData(shot);
 		
@@ -122,7 +123,7 @@ public final class ShotFactory {
 		while((body = world.createBody(bodyDef)) == null);
 		body.createFixture(fixture);
 
-		Shot shot = new FireBallShot(engine, body, entityContainer, COLLISION_BEHAVIOR);
+		Shot shot = new FireBallShot(engine, body, entityContainer, collisionBehavior);
 		
 		body.setUserData(shot);
 		
@@ -161,7 +162,7 @@ public final class ShotFactory {
 		while((body = world.createBody(bodyDef)) == null);
 		body.createFixture(fixture);
 
-		Shot shot = new MissileShot(engine, body, entityContainer, COLLISION_BEHAVIOR);
+		Shot shot = new MissileShot(engine, body, entityContainer, collisionBehavior);
 		
 		body.setUserData(shot);
 		
@@ -208,7 +209,7 @@ public final class ShotFactory {
 		while((body = world.createBody(bodyDef)) == null);
 		body.createFixture(fixture);
 
-		Shot shot = new ShiboleetShot(engine, body, isChild, entityContainer, COLLISION_BEHAVIOR, this);
+		Shot shot = new ShiboleetShot(engine, body, isChild, entityContainer, collisionBehavior, this);
 		
 		body.setUserData(shot);
 		
@@ -246,7 +247,7 @@ public final class ShotFactory {
 		while((body = world.createBody(bodyDef)) == null);
 		body.createFixture(fixture);
 
-		Shot shot = new JupiterShot(engine, body, entityContainer, COLLISION_BEHAVIOR);
+		Shot shot = new JupiterShot(engine, body, entityContainer, collisionBehavior);
 		
 		body.setUserData(shot);
 		
@@ -284,7 +285,7 @@ public final class ShotFactory {
 		while((body = world.createBody(bodyDef)) == null);
 		body.createFixture(fixture);
 
-		Shot shot = new MoonShot(engine, body, entityContainer, COLLISION_BEHAVIOR);
+		Shot shot = new MoonShot(engine, body, entityContainer, collisionBehavior);
 		
 		body.setUserData(shot);
 		
@@ -322,7 +323,7 @@ public final class ShotFactory {
 		while((body = world.createBody(bodyDef)) == null);
 		body.createFixture(fixture);
 
-		Shot shot = new EarthShot(engine, body, entityContainer, COLLISION_BEHAVIOR);
+		Shot shot = new EarthShot(engine, body, entityContainer, collisionBehavior);
 		
 		body.setUserData(shot);
 		
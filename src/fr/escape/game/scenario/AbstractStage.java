@@ -15,6 +15,7 @@ import org.jbox2d.dynamics.World;
 
 import fr.escape.Objects;
 import fr.escape.app.Engine;
+import fr.escape.app.FrameProfiler;
 import fr.escape.game.entity.EntityContainer;
 import fr.escape.game.entity.ships.Boss;
 import fr.escape.game.entity.ships.Ship;
@@ -31,6 +32,7 @@ public abstract class AbstractStage implements Stage {
 	private final Boss boss;
 	
 	private final Scenario scenario;
+	private final String name;
 	
 	private final Engine engine;
 	private final EntityContainer container;
@@ -45,6 +47,7 @@ public abstract class AbstractStage implements Stage {
 		this.world = Objects.requireNonNull(world);
 		this.container = Objects.requireNonNull(container);
 		this.scenario = engine.getResources().getScenario(scenario, factory, history);
+		this.name = scenario;
 		this.boss = Objects.requireNonNull(factory.createBoss(BOSS_SPAWN_X, BOSS_SPAWN_Y, this.scenario.getBossID()));
 		this.scenario.getBackgroundID();
 		this.duration = this.scenario.getDuration();
@@ -74,13 +77,19 @@ public abstract class AbstractStage implements Stage {
 	public void start() {
 		Engine.log("AbstractStage", "Load Container");
 		this.scenario.setContainer(container);
+		this.engine.recordScenario(name);
 	}
 	
 	@Override
 	public void update(int time) {
 		if(time != getLastUpdateTime()) {
 			if(!scenario.hasFinished()) {
+				
+				FrameProfiler profiler = engine.getGraphics().getProfiler();
+				
+				profiler.begin(FrameProfiler.SCENARIO);
 				scenario.action(time);
+				profiler.end(FrameProfiler.SCENARIO);
 			}
 			
 			if((time >= getEstimatedScenarioTime()) && !spawn) {
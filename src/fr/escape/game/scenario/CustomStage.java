@@ -5,14 +5,12 @@ import java.util.NoSuchElementException;
 
 import org.jbox2d.dynamics.World;
 
-import android.graphics.Bitmap;
-import android.graphics.BitmapFactory;
-
 import fr.escape.app.Engine;
 import fr.escape.game.entity.Entity;
 import fr.escape.game.entity.EntityContainer;
 import fr.escape.game.entity.ships.Ship;
 import fr.escape.game.entity.ships.ShipFactory;
+import fr.escape.graphics.Image;
 import fr.escape.graphics.Texture;
 
 public class CustomStage extends AbstractStage {
@@ -49,11 +47,11 @@ public class CustomStage extends AbstractStage {
 		
 		try {
 			
-			String path = getCustomBackgroundPath();
+			File path = getCustomBackgroundPath();
 			
-			Engine.debug(TAG, "Trying to decode: "+path+" as Bitmap");
+			Engine.debug(TAG, "Trying to decode: "+path+" as Image");
 			
-			Bitmap drawable = BitmapFactory.decodeFile(path);
+			Image drawable = getEngine().getPlatform().getToolkit().loadImage(path);
 			
 			if(drawable == null) {
 				Engine.error(TAG, "Cannot decode the given file");
@@ -68,8 +66,8 @@ public class CustomStage extends AbstractStage {
 		}
 	}
 	
-	private String getCustomBackgroundPath() {
-		return new File(Engine.getImageStorage(), getScenario().getBackgroundID()).getAbsolutePath();
+	private File getCustomBackgroundPath() {
+		return new File(getEngine().getPlatform().getStorage().getImageStorage(), getScenario().getBackgroundID());
 	}
 	
 }
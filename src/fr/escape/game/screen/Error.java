@@ -4,12 +4,11 @@ import java.util.ArrayList;
 import java.util.NoSuchElementException;
 import java.util.Random;
 
-import android.graphics.Color;
-
 import fr.escape.app.Engine;
 import fr.escape.app.Input;
 import fr.escape.app.Screen;
 import fr.escape.game.Escape;
+import fr.escape.graphics.Color;
 import fr.escape.graphics.Font;
 import fr.escape.graphics.RepeatableScrollingTexture;
 import fr.escape.resources.FontLoader;
@@ -53,7 +52,7 @@ public class Error implements Screen {
 		}
 		
 		try {
-			background = new RepeatableScrollingTexture(game.getResources().getTexture(TextureLoader.BACKGROUND_ERROR));
+			background = new RepeatableScrollingTexture(game.getResources().getTexture(TextureLoader.BACKGROUND_ERROR), false, game.getEngine().getPlatform().getToolkit());
 			fallbackBackground = false;
 		} catch(NoSuchElementException e) {
 			fallbackBackground = true;
@@ -95,8 +94,9 @@ public class Error implements Screen {
 			draw(25, 20, 20, false, color);
 		}
 
-
-		game.getGraphics().draw("Time: "+System.currentTimeMillis(), 10, 10, font, color);
+		// Drawn as a counter: a new String each frame would be rasterized again. Wraps after 24 days.
+		int time = (int) ((game.getEngine().getClock().nanoTime() / 1000000L) & Integer.MAX_VALUE);
+		game.getGraphics().draw("Time: ", time, "", 10, 10, font, color);
 		
 		
 	}
@@ -17,6 +17,8 @@ import java.util.List;
 
 import fr.escape.Objects;
 import fr.escape.app.Engine;
+import fr.escape.app.FrameProfiler;
+import fr.escape.app.Graphics;
 import fr.escape.app.Input;
 import fr.escape.app.Input.Action;
 import fr.escape.app.Screen;
@@ -24,11 +26,10 @@ import fr.escape.game.Escape;
 import fr.escape.game.entity.CoordinateConverter;
 import fr.escape.game.entity.ships.Ship;
 import fr.escape.game.scenario.Stage;
-import fr.escape.graphics.RepeatableScrollingTexture;
 import fr.escape.graphics.ScrollingTexture;
+import fr.escape.graphics.Starfield;
 import fr.escape.input.Gesture;
 import fr.escape.input.WeaponGesture;
-import fr.escape.resources.TextureLoader;
 
 /**
  * <p>
@@ -43,9 +44,10 @@ public final class Level implements Screen {
 	private final static String TAG = Level.class.getSimpleName();
 	
 	private final static long STAR_SPEED = 5000;
+	private final static long STAR_SEED = 0x53544152;
 	
 	private final Escape game;
-	private final ScrollingTexture star;
+	private final Starfield star;
 	private final ArrayList<Input> events;
 	
 	private final Stage stage;
@@ -83,7 +85,7 @@ public final class Level implements Screen {
 	public Level(Escape game, Stage stage, ScrollingTexture background, int intro, int next) {
 		
 		this.game = Objects.requireNonNull(game);
-		this.star = new RepeatableScrollingTexture(game.getResources().getTexture(TextureLoader.OVERLAY_STAR), true);
+		this.star = new Starfield(game.getEngine().getConfiguration().getStarDensity(), STAR_SPEED, STAR_SEED);
         this.events = new ArrayList<Input>();
         this.stage = Objects.requireNonNull(stage);
         this.background = Objects.requireNonNull(background);
@@ -112,12 +114,20 @@ public final class Level implements Screen {
 		}
 		
 		getBackground().setYPercent(percent);
+		game.getGraphics().setLayer(Graphics.LAYER_BACKGROUND);
 		game.getGraphics().draw(getBackground(), 0, 0, game.getGraphics().getWidth(), game.getGraphics().getHeight());
 		
-		star.setYPercent(((float) time) / STAR_SPEED);
-		game.getGraphics().draw(star, 0, 0, game.getGraphics().getWidth(), game.getGraphics().getHeight());
+		game.getGraphics().setLayer(Graphics.LAYER_SCENERY, true);
+		star.draw(game.getGraphics(), time);
 		
+		FrameProfiler profiler = game.getGraphics().getProfiler();
+		
+		// The EntityContainer draws each kind of Entity in its own layer
+		game.getGraphics().setLayer(Graphics.LAYER_PLAYER, true);
+		
+		profiler.begin(FrameProfiler.ENTITY_UPDATE);
 		game.getUser().getShip().update(game.getGraphics(), delta);
+		profiler.end(FrameProfiler.ENTITY_UPDATE);
 		
 		if(accepted) {
 			if(stop) accepted = false;
@@ -127,8 +137,20 @@ public final class Level implements Screen {
 		
 		getStage().update((int) (time / 1000));
 		
+		profiler.begin(FrameProfiler.ENTITY_UPDATE);
 		game.getEntityContainer().update(game.getGraphics(), delta);
+		profiler.end(FrameProfiler.ENTITY_UPDATE);
+		
+		profiler.begin(FrameProfiler.ENTITY_FLUSH);
 		game.getEntityContainer().flush();
+		profiler.end(FrameProfiler.ENTITY_FLUSH);
+		
+		// Particles are moved outside of the World
+		game.getGraphics().setLayer(Graphics.LAYER_EFFECT, true);
+		
+		profiler.begin(FrameProfiler.ENTITY_UPDATE);
+		game.getEntityContainer().getParticles().update(game.getGraphics(), delta);
+		profiler.end(FrameProfiler.ENTITY_UPDATE);
 		
 		/**
 		 * Does the game is finished ?
@@ -186,6 +208,7 @@ public final class Level implements Screen {
 		game.getUser().getShip().reset(x, y);
 		
 		getStage().reset();
+		getBackground().release();
 	}
 
 	@Override
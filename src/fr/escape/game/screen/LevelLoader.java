@@ -4,15 +4,15 @@ import java.io.File;
 import java.util.LinkedList;
 import java.util.List;
 
-import android.graphics.Color;
-import android.graphics.Rect;
 import fr.escape.Objects;
 import fr.escape.app.Engine;
 import fr.escape.app.Input;
 import fr.escape.app.Screen;
 import fr.escape.game.Escape;
 import fr.escape.game.scenario.CustomStage;
+import fr.escape.graphics.Color;
 import fr.escape.graphics.Font;
+import fr.escape.graphics.Rectangle;
 import fr.escape.graphics.ScrollingTexture;
 import fr.escape.graphics.Texture;
 import fr.escape.resources.FontLoader;
@@ -39,8 +39,8 @@ public final class LevelLoader implements Screen {
 	private final Texture background;
 	private final Texture item;
 	
-	private final Rect back;
-	private final Rect display;
+	private final Rectangle back;
+	private final Rectangle display;
 	
 	private final List<Item> items;
 	
@@ -60,9 +60,9 @@ public final class LevelLoader implements Screen {
 		this.background = game.getResources().getTexture(TextureLoader.BACKGROUND_MENU);
 		this.item = game.getResources().getTexture(TextureLoader.MENU_UI_LIST_ITEM);
 		
-		this.back = new Rect(0, game.getGraphics().getHeight() - FOOTER_MARGING, game.getGraphics().getWidth(), game.getGraphics().getHeight());
+		this.back = new Rectangle(0, game.getGraphics().getHeight() - FOOTER_MARGING, game.getGraphics().getWidth(), game.getGraphics().getHeight());
 		int itemsX = (game.getGraphics().getWidth() / 2) - (item.getWidth() / 2);
-		this.display = new Rect(itemsX, HEADER_MARGING + ITEMS_MARGING, itemsX + item.getWidth(), back.top - ITEMS_MARGING);
+		this.display = new Rectangle(itemsX, HEADER_MARGING + ITEMS_MARGING, itemsX + item.getWidth(), back.top - ITEMS_MARGING);
 		
 		this.items = new LinkedList<Item>();
 		
@@ -91,7 +91,7 @@ public final class LevelLoader implements Screen {
 			
 			for(Item item : items) {
 				
-				Rect area = item.getArea();
+				Rectangle area = item.getArea();
 				
 				if(area.contains(i.getX(), i.getY())) {
 					
@@ -116,7 +116,7 @@ public final class LevelLoader implements Screen {
 						
 						game.getUser().setOneLife();
 						
-						Level level = new Level(game, stage, new ScrollingTexture(texture, true), Escape.SCREEN_LEVEL_LOADER, Escape.SCREEN_VICTORY);
+						Level level = new Level(game, stage, new ScrollingTexture(texture, true, game.getEngine().getPlatform().getToolkit()), Escape.SCREEN_LEVEL_LOADER, Escape.SCREEN_VICTORY);
 						game.setScreen(level);
 						return true;
 						
@@ -183,7 +183,7 @@ public final class LevelLoader implements Screen {
 		
 		for(Item i : items) {
 			
-			Rect area = i.getArea();
+			Rectangle area = i.getArea();
 			
 			if(area.bottom > display.bottom) {
 				break;
@@ -220,7 +220,7 @@ public final class LevelLoader implements Screen {
 				
 				int y = (i * item.getHeight()) + display.top;
 				
-				Rect area = new Rect(display.left, y, display.right, y + item.getHeight());
+				Rectangle area = new Rectangle(display.left, y, display.right, y + item.getHeight());
 				
 				items.add(new Item(area, files[i]));
 				
@@ -231,15 +231,15 @@ public final class LevelLoader implements Screen {
 	
 	private static class Item {
 		
-		private final Rect area;
+		private final Rectangle area;
 		private final File file;
 		
-		public Item(Rect area, File file) {
+		public Item(Rectangle area, File file) {
 			this.area = area;
 			this.file = file;
 		}
 		
-		public Rect getArea() {
+		public Rectangle getArea() {
 			return area;
 		}
 		
@@ -1,11 +1,11 @@
 package fr.escape.game.screen;
 
-import android.graphics.Color;
 import fr.escape.Objects;
 import fr.escape.app.Engine;
 import fr.escape.app.Input;
 import fr.escape.app.Screen;
 import fr.escape.game.Escape;
+import fr.escape.graphics.Color;
 import fr.escape.graphics.Font;
 import fr.escape.graphics.Texture;
 import fr.escape.resources.FontLoader;
@@ -14,7 +14,7 @@ import fr.escape.resources.TextureLoader;
 /**
  * <p>
  * Display a screen when the User lose the Game. 
- *
+ * 
  * <p>
  * Behavior: Click/Touch on Screen to close and return in Main {@link Menu}.
  */
@@ -1,14 +1,13 @@
 package fr.escape.game.screen;
 
-import android.graphics.Color;
-import android.graphics.Rect;
 import fr.escape.Objects;
-import fr.escape.android.EscapeApplication;
 import fr.escape.app.Engine;
 import fr.escape.app.Input;
 import fr.escape.app.Screen;
 import fr.escape.game.Escape;
+import fr.escape.graphics.Color;
 import fr.escape.graphics.Font;
+import fr.escape.graphics.Rectangle;
 import fr.escape.graphics.Texture;
 import fr.escape.resources.FontLoader;
 import fr.escape.resources.TextureLoader;
@@ -40,9 +39,9 @@ public final class Menu implements Screen {
 	private final Texture custom;
 	private final Texture builder;
 	
-	private final Rect touchHistory;
-	private final Rect touchCustom;
-	private final Rect touchBuilder;
+	private final Rectangle touchHistory;
+	private final Rectangle touchCustom;
+	private final Rectangle touchBuilder;
 	
 	/**
 	 * Default Constructor
@@ -168,12 +167,12 @@ public final class Menu implements Screen {
 	 * @param height Components Height
 	 * @return
 	 */
-	private static Rect createTouch(int position, int y, int x1, int x2, int height) {
+	private static Rectangle createTouch(int position, int y, int x1, int x2, int height) {
 	
 		int y1 = y + (position * height);
 		int y2 = y1 + height;
 		
-		return new Rect(x1, y1, x2, y2);
+		return new Rectangle(x1, y1, x2, y2);
 	}
 	
 	/**
@@ -194,8 +193,7 @@ public final class Menu implements Screen {
 	 * Launch Builder Activity
 	 */
 	public void builder() {
-		EscapeApplication app = (EscapeApplication) game.getEngine().getResources().getContext();
-		app.startBuilderActivity();
+		game.getEngine().getPlatform().launchBuilder();
 	}
 	
 }
@@ -15,11 +15,10 @@ import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
 
-import android.graphics.Color;
-
 import fr.escape.Objects;
 import fr.escape.app.Graphics;
 import fr.escape.app.Input;
+import fr.escape.graphics.Color;
 import fr.escape.graphics.Font;
 import fr.escape.graphics.Shapes;
 
@@ -50,6 +49,35 @@ public final class Screens {
 				(int) (y + (font.getSize() / 4)), font, color);
 		
 	}
+	
+	/**
+	 * <p>
+	 * Draw a number between a prefix and a suffix in the given position with a center effect.
+	 * 
+	 * @param graphics {@link Graphics} to use
+	 * @param prefix String displayed before the number
+	 * @param value Number to display
+	 * @param suffix String displayed after the number
+	 * @param x Position X
+	 * @param y Position Y
+	 * @param font Font to use
+	 * @param color Color to use
+	 * @see Graphics#draw(String, int, String, int, int, Font, int)
+	 */
+	public static void drawNumberInCenterPosition(Graphics graphics, String prefix, int value, String suffix, int x, int y, Font font, int color) {
+		
+		int length = prefix.length() + suffix.length() + ((value < 0) ? 1 : 0);
+		int rest = value;
+		
+		do {
+			length++;
+			rest /= 10;
+		} while(rest != 0);
+		
+		Objects.requireNonNull(graphics).draw(prefix, value, suffix, (int) (x - ((length / 2) * (font.getSize() / 2))), 
+				(int) (y + (font.getSize() / 4)), font, color);
+		
+	}
 
 	/**
 	 * Draw a list of events on the screen.
@@ -1,11 +1,11 @@
 package fr.escape.game.screen;
 
-import android.graphics.Color;
 import fr.escape.Objects;
 import fr.escape.app.Engine;
 import fr.escape.app.Input;
 import fr.escape.app.Screen;
 import fr.escape.game.Escape;
+import fr.escape.graphics.Color;
 import fr.escape.graphics.Font;
 import fr.escape.graphics.Texture;
 import fr.escape.resources.FontLoader;
@@ -80,7 +80,7 @@ public final class Victory implements Screen {
 		int x = (game.getGraphics().getWidth() / 2);
 		int y = (game.getGraphics().getHeight() / 4) + (int) (font.getSize() * 1.4);
 		
-		Screens.drawStringInCenterPosition(game.getGraphics(), "Highscore: "+game.getUser().getHighscore(), x, y, font, Color.WHITE);
+		Screens.drawNumberInCenterPosition(game.getGraphics(), "Highscore: ", game.getUser().getHighscore(), "", x, y, font, Color.WHITE);
 		
 		x = (game.getGraphics().getWidth() / 2) - (user.getWidth() / 2);
 		y = (game.getGraphics().getHeight() / 2) - (user.getWidth() / 2);
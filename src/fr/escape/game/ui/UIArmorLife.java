@@ -11,11 +11,11 @@
 
 package fr.escape.game.ui;
 
-import android.graphics.Color;
 import fr.escape.Objects;
 import fr.escape.game.Escape;
 import fr.escape.game.User;
 import fr.escape.game.entity.ships.Ship;
+import fr.escape.graphics.Color;
 import fr.escape.graphics.Font;
 import fr.escape.resources.FontLoader;
 
@@ -58,8 +58,8 @@ public final class UIArmorLife extends AbstractOverlay {
 	@Override
 	public void render(long delta) {
 		if(isVisible()) {
-			game.getGraphics().draw("Armor: "+getArmor()+"%", LEFT_MARGIN, TOP_PADDING, font, color);
-			game.getGraphics().draw("Life: "+getLife(), LEFT_MARGIN, TOP_PADDING + 15, font, color);
+			game.getGraphics().draw("Armor: ", getArmor(), "%", LEFT_MARGIN, TOP_PADDING, font, color);
+			game.getGraphics().draw("Life: ", getLife(), "", LEFT_MARGIN, TOP_PADDING + 15, font, color);
 		}
 	}
 	
@@ -11,11 +11,11 @@
 
 package fr.escape.game.ui;
 
-import android.graphics.Color;
 import fr.escape.Objects;
 import fr.escape.game.Escape;
 import fr.escape.game.User;
 import fr.escape.game.message.Receiver;
+import fr.escape.graphics.Color;
 import fr.escape.graphics.Font;
 import fr.escape.resources.FontLoader;
 
@@ -58,7 +58,7 @@ public final class UIHighscore extends AbstractOverlay implements Receiver {
 	@Override
 	public void render(long delta) {
 		if(isVisible()) {
-			game.getGraphics().draw("Highscore: "+highscore, LEFT_MARGIN, TOP_PADDING, font, color);
+			game.getGraphics().draw("Highscore: ", highscore, "", LEFT_MARGIN, TOP_PADDING, font, color);
 		}
 	}
 
@@ -14,9 +14,6 @@ package fr.escape.game.ui;
 import java.util.ArrayList;
 import java.util.List;
 
-import android.graphics.Color;
-import android.graphics.Rect;
-
 import fr.escape.Objects;
 import fr.escape.app.Input;
 import fr.escape.game.Escape;
@@ -24,7 +21,9 @@ import fr.escape.game.entity.weapons.Weapon;
 import fr.escape.game.entity.weapons.Weapons;
 import fr.escape.game.message.Receiver;
 import fr.escape.game.message.Sender;
+import fr.escape.graphics.Color;
 import fr.escape.graphics.Font;
+import fr.escape.graphics.Rectangle;
 import fr.escape.graphics.Texture;
 import fr.escape.resources.FontLoader;
 import fr.escape.resources.TextureLoader;
@@ -50,7 +49,7 @@ public final class UIWeapons extends AbstractOverlay implements Sender {
 	private final Escape game;
 	private final Font font;
 	private final List<Weapon> weapons;
-	private final List<Rect> touchArea;
+	private final List<Rectangle> touchArea;
 	private final Receiver receiver;
 	private final Texture active;
 	private final Texture disable;
@@ -93,7 +92,7 @@ public final class UIWeapons extends AbstractOverlay implements Sender {
 		this.y = OVERLAY_TOP_MARGING;
 		this.x = this.width - (Weapons.getDrawableWidth() + ITEM_LEFT_MARGING + ITEM_RIGHT_MARGING);
 		
-		this.touchArea = new ArrayList<Rect>();
+		this.touchArea = new ArrayList<Rectangle>();
 		
 		int offset = this.y;
 		int gridWidth = Weapons.getDrawableWidth() + ITEM_RIGHT_MARGING;
@@ -106,7 +105,7 @@ public final class UIWeapons extends AbstractOverlay implements Sender {
 			
 			offset = gridY + gridHeight;
 			
-			Rect rectangle = new Rect(gridX, gridY, gridX + gridWidth, offset);
+			Rectangle rectangle = new Rectangle(gridX, gridY, gridX + gridWidth, offset);
 			
 			touchArea.add(rectangle);
 			
@@ -125,7 +124,7 @@ public final class UIWeapons extends AbstractOverlay implements Sender {
 			offset += ITEM_TOP_MARGING;
 			
 			renderWeaponDrawable(w.getDrawable(), this.x + ITEM_LEFT_MARGING, offset);
-			renderWeaponAmmunition(String.valueOf(w.getAmmunition()), this.x + ITEM_LEFT_MARGING, (offset + Weapons.getDrawableHeight()), ITEM_LEFT_MARGING);
+			renderWeaponAmmunition(w.getAmmunition(), this.x + ITEM_LEFT_MARGING, (offset + Weapons.getDrawableHeight()), ITEM_LEFT_MARGING);
 			renderWeaponOverlay(this.x + ITEM_LEFT_MARGING, offset, w.equals(activeWeapon), w.isEmpty());
 			
 			offset += (Weapons.getDrawableHeight() + ITEM_BOTTOM_MARGING);
@@ -150,7 +149,7 @@ public final class UIWeapons extends AbstractOverlay implements Sender {
 		
 		for(int i = 0; i < touchArea.size(); i++) {
 			
-			Rect rectangle = touchArea.get(i);
+			Rectangle rectangle = touchArea.get(i);
 			
 			if(rectangle.contains(touch.getX(), touch.getY())) {
 				
@@ -192,8 +191,8 @@ public final class UIWeapons extends AbstractOverlay implements Sender {
 	 * @param y Position in Y Axis
 	 * @param offset Use a offset (Font Size)
 	 */
-	private void renderWeaponAmmunition(String ammunition, int x, int y, int offset) {
-		game.getGraphics().draw(ammunition, x + offset, y - offset, font, FONT_COLOR);
+	private void renderWeaponAmmunition(int ammunition, int x, int y, int offset) {
+		game.getGraphics().draw("", ammunition, "", x + offset, y - offset, font, FONT_COLOR);
 	}
 	
 	/**
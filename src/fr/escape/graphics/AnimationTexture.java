@@ -13,10 +13,8 @@ package fr.escape.graphics;
 
 import java.util.NoSuchElementException;
 
-import android.graphics.Canvas;
-import android.graphics.Paint;
-
 import fr.escape.Objects;
+import fr.escape.app.Graphics;
 
 /**
  * <p>
@@ -128,10 +126,9 @@ public final class AnimationTexture implements TextureOperator {
 	}
 	
 	@Override
-	public void draw(Canvas canvas, Paint paint, int x, int y, int width, int height, float angle) {
+	public void draw(Graphics graphics, int x, int y, int width, int height, float angle) {
 	
-		Texture texture = textures[index];
-		texture.draw(Objects.requireNonNull(canvas), Objects.requireNonNull(paint), x, y, width, height, 0, 0, texture.getWidth(), texture.getHeight(), angle);
+		Objects.requireNonNull(graphics).draw(textures[index], x, y, width, height, angle);
 		
 	}
 
@@ -0,0 +1,31 @@
+/*****************************************************************************
+ * 
+ * Copyright 2012-2013 See AUTHORS file.
+ * 
+ * This file is part of Escape-IR.
+ * 
+ * Escape-IR is free software: you can redistribute it and/or modify
+ * it under the terms of the zlib license. See the COPYING file.
+ * 
+ *****************************************************************************/
+
+package fr.escape.graphics;
+
+/**
+ * <p>
+ * A static class for Colors used in the game.
+ * 
+ * <p>
+ * Colors are packed as 32 bits ARGB integer.
+ * 
+ */
+public final class Color {
+	
+	public static final int BLACK = 0xFF000000;
+	public static final int WHITE = 0xFFFFFFFF;
+	public static final int TRANSPARENT = 0x00000000;
+	
+	private Color() {
+	}
+
+}
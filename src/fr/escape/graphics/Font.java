@@ -11,8 +11,6 @@
 
 package fr.escape.graphics;
 
-import android.graphics.Typeface;
-
 /**
  * <p>
  * A wrapper class which handle a Typeface with a Size.
@@ -27,16 +25,16 @@ public final class Font {
 	private final float size;
 	
 	/**
-	 * Default Constructor
+	 * Default Constructor with the platform default Typeface
 	 */
 	public Font() {
-		this(Typeface.create("Arial", Typeface.NORMAL));
+		this(null);
 	}
 	
 	/**
 	 * Constructor with a Typeface
 	 * 
-	 * @param typeface Typeface of the Font
+	 * @param typeface Typeface of the Font (null for the platform default)
 	 */
 	public Font(Typeface typeface) {
 		this(typeface, 14.0f);
@@ -56,7 +54,7 @@ public final class Font {
 	/**
 	 * Return the Typeface of this Font
 	 * 
-	 * @return The Typeface
+	 * @return The Typeface or null for the platform default
 	 */
 	public Typeface getTypeface() {
 		return typeface;
@@ -0,0 +1,35 @@
+/*****************************************************************************
+ * 
+ * Copyright 2012-2013 See AUTHORS file.
+ * 
+ * This file is part of Escape-IR.
+ * 
+ * Escape-IR is free software: you can redistribute it and/or modify
+ * it under the terms of the zlib license. See the COPYING file.
+ * 
+ *****************************************************************************/
+
+package fr.escape.graphics;
+
+/**
+ * <p>
+ * Pixels of a decoded picture, owned by the platform.
+ * 
+ * <p>
+ * Only the {@link Surface} of the same platform knows how to draw it.
+ * 
+ * @see Texture
+ */
+public interface Image {
+	
+	/**
+	 * @return Image width in pixels
+	 */
+	public int getWidth();
+	
+	/**
+	 * @return Image height in pixels
+	 */
+	public int getHeight();
+
+}
@@ -0,0 +1,33 @@
+/*****************************************************************************
+ * 
+ * Copyright 2012-2013 See AUTHORS file.
+ * 
+ * This file is part of Escape-IR.
+ * 
+ * Escape-IR is free software: you can redistribute it and/or modify
+ * it under the terms of the zlib license. See the COPYING file.
+ * 
+ *****************************************************************************/
+
+package fr.escape.graphics;
+
+/**
+ * <p>
+ * An {@link Image} which pixels are owned by a manager: they may be released, and loaded again
+ * when they are needed.
+ * 
+ * <p>
+ * Its size never changes, so it can be used without its pixels.
+ * 
+ * @see Texture#getImage()
+ */
+public interface ManagedImage extends Image {
+	
+	/**
+	 * Get the platform {@link Image} which holds the pixels, loaded again if they have been released.
+	 * 
+	 * @return Platform Image
+	 */
+	public Image getPixels();
+
+}
@@ -0,0 +1,122 @@
+/*****************************************************************************
+ * 
+ * Copyright 2012-2013 See AUTHORS file.
+ * 
+ * This file is part of Escape-IR.
+ * 
+ * Escape-IR is free software: you can redistribute it and/or modify
+ * it under the terms of the zlib license. See the COPYING file.
+ * 
+ *****************************************************************************/
+
+package fr.escape.graphics;
+
+/**
+ * <p>
+ * A Rectangle in Display Screen coordinates, given by its four edges.
+ * 
+ * <p>
+ * The left and top edges are inside the Rectangle, the right and bottom edges are outside.
+ * 
+ * <p>
+ * Like an Android Rect, a Rectangle can be set again: a Rectangle updated every frame is
+ * reused instead of allocated.
+ * 
+ */
+public final class Rectangle {
+	
+	public int left;
+	public int top;
+	public int right;
+	public int bottom;
+	
+	/**
+	 * Create a Rectangle with the given edges.
+	 * 
+	 * @param left Left edge in X axis
+	 * @param top Top edge in Y axis
+	 * @param right Right edge in X axis
+	 * @param bottom Bottom edge in Y axis
+	 */
+	public Rectangle(int left, int top, int right, int bottom) {
+		set(left, top, right, bottom);
+	}
+	
+	/**
+	 * Set the edges of this Rectangle.
+	 * 
+	 * @param left Left edge in X axis
+	 * @param top Top edge in Y axis
+	 * @param right Right edge in X axis
+	 * @param bottom Bottom edge in Y axis
+	 */
+	public void set(int left, int top, int right, int bottom) {
+		this.left = left;
+		this.top = top;
+		this.right = right;
+		this.bottom = bottom;
+	}
+	
+	/**
+	 * @return The Rectangle width
+	 */
+	public int width() {
+		return right - left;
+	}
+	
+	/**
+	 * @return The Rectangle height
+	 */
+	public int height() {
+		return bottom - top;
+	}
+	
+	/**
+	 * @return The Rectangle center in X axis
+	 */
+	public int centerX() {
+		return (left + right) >> 1;
+	}
+	
+	/**
+	 * @return The Rectangle center in Y axis
+	 */
+	public int centerY() {
+		return (top + bottom) >> 1;
+	}
+	
+	/**
+	 * @return True if the Rectangle has no area.
+	 */
+	public boolean isEmpty() {
+		return left >= right || top >= bottom;
+	}
+	
+	/**
+	 * Check if the given point is inside this Rectangle.
+	 * 
+	 * @param x Position X
+	 * @param y Position Y
+	 * @return True if the point is inside.
+	 */
+	public boolean contains(int x, int y) {
+		return !isEmpty() && x >= left && x < right && y >= top && y < bottom;
+	}
+	
+	/**
+	 * Check if the given Rectangle is entirely inside this Rectangle.
+	 * 
+	 * @param rectangle Rectangle to check
+	 * @return True if the given Rectangle is inside.
+	 */
+	public boolean contains(Rectangle rectangle) {
+		return !isEmpty() && left <= rectangle.left && top <= rectangle.top &&
+				right >= rectangle.right && bottom >= rectangle.bottom;
+	}
+	
+	@Override
+	public String toString() {
+		return "Rectangle("+left+", "+top+" - "+right+", "+bottom+")";
+	}
+
+}
@@ -11,9 +11,9 @@
 
 package fr.escape.graphics;
 
-import android.graphics.Canvas;
-import android.graphics.Paint;
 import fr.escape.Objects;
+import fr.escape.app.Graphics;
+import fr.escape.app.Toolkit;
 
 /**
  * <p>
@@ -48,6 +48,18 @@ public final class RepeatableScrollingTexture extends ScrollingTexture {
 		super(texture, reverse);
 	}
 	
+	/**
+	 * A Repeatable ScrollingTexture with a given Texture, scaled once for each drawing size.
+	 * 
+	 * @see ScrollingTexture#ScrollingTexture(Texture, boolean, Toolkit)
+	 * @param texture Texture to use.
+	 * @param reverse Apply a reverse scrolling.
+	 * @param toolkit Toolkit used for scaling the Texture, or null to scale while drawing.
+	 */
+	public RepeatableScrollingTexture(Texture texture, boolean reverse, Toolkit toolkit) {
+		super(texture, reverse, toolkit);
+	}
+	
 	/**
 	 * Draw the RepeatableScrollingTexture in 4 part :
 	 * 
@@ -62,16 +74,17 @@ public final class RepeatableScrollingTexture extends ScrollingTexture {
 	 * Part 3 Beginning of the Texture in Y-axis 
 	 * Part 4 The leftover.
 	 * 
-	 * @see TextureOperator#draw(Graphics2D, int, int, int, int, double);
+	 * @see TextureOperator#draw(Graphics, int, int, int, int, float)
 	 */
 	@Override
-	public void draw(Canvas canvas, Paint paint, int x, int y, int width, int height, float angle) {
+	public void draw(Graphics graphics, int x, int y, int width, int height, float angle) {
 	
 		/**
 		 * Check required Components
 		 */
-		Objects.requireNonNull(canvas);
-		Objects.requireNonNull(paint);
+		Objects.requireNonNull(graphics);
+		
+		prepare(width, height);
 		
 		boolean repeatX = true;
 		boolean repeatY = true;
@@ -151,7 +164,7 @@ public final class RepeatableScrollingTexture extends ScrollingTexture {
 			/**
 			 * Draw the Part 1 Texture.
 			 */
-			getTexture().draw(canvas, paint, x, y, deltaWidth, deltaHeight, srcX, srcY, srcWidth, srcHeight);
+			graphics.draw(getTexture(), x, y, deltaWidth, deltaHeight, srcX, srcY, srcWidth, srcHeight);
 			
 			/**
 			 * Compute Texture Width Area for Part 2
@@ -160,10 +173,10 @@ public final class RepeatableScrollingTexture extends ScrollingTexture {
 			int srcWidth2 = width - deltaWidth;
 			
 			/**
-			 * Draw the Part 2 Texture.
+			 * Draw the Part 2 Texture, if Part 1 does not already fill the width.
 			 */
-			if(repeatX) {
-				getTexture().draw(canvas, paint, deltaWidth, y, width, deltaHeight, srcX2, srcY, srcWidth2, srcHeight);
+			if(repeatX && deltaWidth < width) {
+				graphics.draw(getTexture(), deltaWidth, y, width, deltaHeight, srcX2, srcY, srcWidth2, srcHeight);
 			}
 			
 			
@@ -174,21 +187,21 @@ public final class RepeatableScrollingTexture extends ScrollingTexture {
 			int srcHeight3 = height - deltaHeight;
 			
 			/**
-			 * Draw the Part 3 Texture.
+			 * Draw the Part 3 Texture, if Part 1 does not already fill the height.
 			 */
-			if(repeatY) {
-				getTexture().draw(canvas, paint, x, deltaHeight, deltaWidth, height, srcX, srcY3, srcWidth, srcHeight3);
+			if(repeatY && deltaHeight < height) {
+				graphics.draw(getTexture(), x, deltaHeight, deltaWidth, height, srcX, srcY3, srcWidth, srcHeight3);
 			}
 			
 			/**
 			 * Draw the Final Part, the Part 4 Texture. 
 			 */
-			if(repeatX && repeatY) {
-				getTexture().draw(canvas, paint, deltaWidth, deltaHeight, width, height, srcX2, srcY3, srcWidth2, srcHeight3);
+			if(repeatX && repeatY && deltaWidth < width && deltaHeight < height) {
+				graphics.draw(getTexture(), deltaWidth, deltaHeight, width, height, srcX2, srcY3, srcWidth2, srcHeight3);
 			}
 			
 		} else {
-			super.draw(canvas, paint, x, y, width, height, 0);
+			super.draw(graphics, x, y, width, height, 0);
 		}
 		
 	}
@@ -11,9 +11,12 @@
 
 package fr.escape.graphics;
 
-import android.graphics.Canvas;
-import android.graphics.Paint;
+import java.io.IOException;
+
 import fr.escape.Objects;
+import fr.escape.app.Engine;
+import fr.escape.app.Graphics;
+import fr.escape.app.Toolkit;
 
 /**
  * <p>
@@ -23,15 +26,33 @@ import fr.escape.Objects;
  * For scrolling, use {@link ScrollingTexture#setXPercent(float)} or {@link ScrollingTexture#setYPercent(float)}
  * for X or Y axis. Percent must be between 0 and 1. If you want to progress by 1%, call these with lastPercent+0.01.
  * 
+ * <p>
+ * When a {@link Toolkit} is given, a Texture smaller than the drawing area is scaled once for each drawing
+ * size, so every frame only copies a part of it without scaling.
+ * 
  * @see TextureOperator
  */
 public class ScrollingTexture implements TextureOperator {
+	
+	private static final String TAG = ScrollingTexture.class.getSimpleName();
 
 	/**
 	 * Texture used for rendering
 	 */
 	private final Texture texture;
 	
+	/**
+	 * Toolkit used for scaling the Texture (Optional)
+	 */
+	private final Toolkit toolkit;
+	
+	/**
+	 * Texture scaled for the last drawing size
+	 */
+	private Texture scaled;
+	private int scaledWidth;
+	private int scaledHeight;
+	
 	/**
 	 * Percent of scrolling in X axis.
 	 */
@@ -63,7 +84,19 @@ public class ScrollingTexture implements TextureOperator {
 	 * @param reverse Apply a reverse scrolling.
 	 */
 	public ScrollingTexture(Texture texture, boolean reverse) {
+		this(texture, reverse, null);
+	}
+	
+	/**
+	 * A Scrolling Texture with a given Texture, scaled once for each drawing size.
+	 * 
+	 * @param texture Texture to use.
+	 * @param reverse Apply a reverse scrolling.
+	 * @param toolkit Toolkit used for scaling the Texture, or null to scale while drawing.
+	 */
+	public ScrollingTexture(Texture texture, boolean reverse, Toolkit toolkit) {
 		this.texture = Objects.requireNonNull(texture);
+		this.toolkit = toolkit;
 		this.percentX = 0;
 		this.percentY = 0;
 		this.reverse = reverse;
@@ -74,16 +107,18 @@ public class ScrollingTexture implements TextureOperator {
 	 * Draw a Scrollable Texture defined by {@link ScrollingTexture#setXPercent(float)} 
 	 * and {@link ScrollingTexture#setYPercent(float)}
 	 * 
-	 * @see TextureOperator#draw(Graphics2D, int, int, int, int, double);
+	 * @see TextureOperator#draw(Graphics, int, int, int, int, float)
 	 */
 	@Override
-	public void draw(Canvas canvas, Paint paint, int x, int y, int width, int height, float angle) {
+	public void draw(Graphics graphics, int x, int y, int width, int height, float angle) {
 		
 		/**
 		 * Check required Components
 		 */
-		Objects.requireNonNull(canvas);
-		Objects.requireNonNull(paint);
+		Objects.requireNonNull(graphics);
+		
+		prepare(width, height);
+		Texture texture = getTexture();
 		
 		/**
 		 * Compute and Check Drawing Area
@@ -142,7 +177,7 @@ public class ScrollingTexture implements TextureOperator {
 		/**
 		 * Draw the Texture.
 		 */
-		getTexture().draw(canvas, paint, x, y, width, height, srcX, srcY, srcWidth, srcHeight);
+		graphics.draw(texture, x, y, width, height, srcX, srcY, srcWidth, srcHeight);
 	}
 	
 	/**
@@ -197,7 +232,57 @@ public class ScrollingTexture implements TextureOperator {
 	 * @return Texture used for Rendering
 	 */
 	protected Texture getTexture() {
-		return texture;
+		return (scaled != null) ? scaled : texture;
+	}
+	
+	/**
+	 * <p>
+	 * Scale the Texture to cover the given drawing size, if it is smaller.
+	 * 
+	 * <p>
+	 * Nothing is done if the size did not change since the last call, or without {@link Toolkit}.
+	 * The original Texture is used if it cannot be scaled.
+	 * 
+	 * @param width Drawing width
+	 * @param height Drawing height
+	 */
+	protected void prepare(int width, int height) {
+		
+		if(toolkit == null || (width == scaledWidth && height == scaledHeight)) {
+			return;
+		}
+		
+		scaled = null;
+		scaledWidth = width;
+		scaledHeight = height;
+		
+		int targetWidth = Math.max(texture.getWidth(), width);
+		int targetHeight = Math.max(texture.getHeight(), height);
+		
+		// Already drawn without scaling
+		if(targetWidth == texture.getWidth() && targetHeight == texture.getHeight()) {
+			return;
+		}
+		
+		// Only a whole Image can be scaled
+		if(texture.getWidth() != texture.getImage().getWidth() || texture.getHeight() != texture.getImage().getHeight()) {
+			return;
+		}
+		
+		try {
+			scaled = new Texture(toolkit.createScaledImage(texture.getImage(), targetWidth, targetHeight));
+		} catch(IOException e) {
+			Engine.error(TAG, "Cannot scale the Texture to "+targetWidth+"x"+targetHeight, e);
+		}
+	}
+	
+	/**
+	 * Release the scaled Texture: it will be scaled again on the next draw.
+	 */
+	public void release() {
+		scaled = null;
+		scaledWidth = 0;
+		scaledHeight = 0;
 	}
 	
 	/**
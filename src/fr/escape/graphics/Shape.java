@@ -11,9 +11,6 @@
 
 package fr.escape.graphics;
 
-import android.graphics.Canvas;
-import android.graphics.Paint;
-
 /**
  * <p>
  * Shape used for drawing geometric objects.
@@ -25,11 +22,12 @@ import android.graphics.Paint;
 public abstract class Shape {
 
 	/**
-	 * Draw the Shape on the given {@link Canvas} with the given {@link Paint}.
+	 * Draw the Shape on the given {@link Surface} with the given Color and {@link Stroke}.
 	 * 
-	 * @param canvas Canvas used drawing
-	 * @param paint Paint used for drawing
+	 * @param surface Surface used for drawing
+	 * @param color Color used for drawing
+	 * @param stroke Stroke used for drawing
 	 */
-	public abstract void draw(Canvas canvas, Paint paint);
+	public abstract void draw(Surface surface, int color, Stroke stroke);
 	
 }
@@ -11,9 +11,6 @@
 
 package fr.escape.graphics;
 
-import android.graphics.Canvas;
-import android.graphics.Paint;
-
 /**
  * <p>
  * A static class that help to create simple Shape
@@ -33,8 +30,8 @@ public final class Shapes {
 		return new Shape() {
 			
 			@Override
-			public void draw(Canvas canvas, Paint paint) {
-				canvas.drawCircle(centerX, centerY, radius, paint);
+			public void draw(Surface surface, int color, Stroke stroke) {
+				surface.drawCircle(centerX, centerY, radius, color, stroke);
 			}
 			
 		};
@@ -64,8 +61,8 @@ public final class Shapes {
 		return new Shape() {
 			
 			@Override
-			public void draw(Canvas canvas, Paint paint) {
-				canvas.drawRect(x, y, width, height, paint);
+			public void draw(Surface surface, int color, Stroke stroke) {
+				surface.drawRectangle(x, y, width, height, color, stroke);
 			}
 			
 		};
@@ -84,8 +81,8 @@ public final class Shapes {
 		return new Shape() {
 			
 			@Override
-			public void draw(Canvas canvas, Paint paint) {
-				canvas.drawLine(x1, y1, x2, y2, paint);
+			public void draw(Surface surface, int color, Stroke stroke) {
+				surface.drawLine(x1, y1, x2, y2, color, stroke);
 			}
 			
 		};
@@ -0,0 +1,201 @@
+/*****************************************************************************
+ * 
+ * Copyright 2012-2013 See AUTHORS file.
+ * 
+ * This file is part of Escape-IR.
+ * 
+ * Escape-IR is free software: you can redistribute it and/or modify
+ * it under the terms of the zlib license. See the COPYING file.
+ * 
+ *****************************************************************************/
+
+package fr.escape.graphics;
+
+import java.util.Random;
+
+import fr.escape.Objects;
+import fr.escape.app.Graphics;
+
+/**
+ * <p>
+ * A field of stars scrolling down the Display Screen, in a few depths for a parallax effect.
+ * 
+ * <p>
+ * Stars are generated from a seed into parallel arrays (position, depth and brightness), so the
+ * same seed always gives the same sky. They are sorted by depth and brightness: each depth is drawn
+ * with a few Points drawings, and drawing never allocates.
+ * 
+ * <p>
+ * Stars are generated again only when the Display Screen size changes.
+ * 
+ * @see Graphics#draw(float[], int, int, int, int)
+ */
+public final class Starfield {
+	
+	/**
+	 * Depths: share of the stars, scrolling speed relative to the nearest depth and point size.
+	 * The farthest depth comes first.
+	 */
+	private static final float[] SHARES = {0.5f, 0.3f, 0.2f};
+	private static final float[] SPEEDS = {0.25f, 0.5f, 1.0f};
+	private static final int[] SIZES = {1, 2, 3};
+	
+	/**
+	 * Brightness of a star: alpha of a white point, from the dimmest to the brightest
+	 */
+	private static final int[] BRIGHTNESS = {0x60, 0xA0, 0xFF};
+	
+	private final int density;
+	private final long period;
+	private final long seed;
+	
+	/**
+	 * Star Properties (Struct of Arrays), position in [0, 1)
+	 */
+	private float[] x;
+	private float[] y;
+	private int[] depths;
+	private int[] colors;
+	
+	/**
+	 * Point coordinates of the current drawing
+	 */
+	private float[] points;
+	
+	private final float[] shifts;
+	
+	private int size;
+	private int width;
+	private int height;
+	
+	/**
+	 * Default Constructor
+	 * 
+	 * @param density Number of stars per million pixels of the Display Screen
+	 * @param period Time in milliseconds for the nearest stars to cross the Display Screen
+	 * @param seed Seed of the generated stars
+	 */
+	public Starfield(int density, long period, long seed) {
+		
+		if(density < 0) {
+			throw new IllegalArgumentException("Density must be positive");
+		}
+		
+		if(period <= 0) {
+			throw new IllegalArgumentException("Period must be positive");
+		}
+		
+		this.density = density;
+		this.period = period;
+		this.seed = seed;
+		this.x = new float[0];
+		this.y = new float[0];
+		this.depths = new int[0];
+		this.colors = new int[0];
+		this.points = new float[0];
+		this.shifts = new float[SPEEDS.length];
+		this.size = 0;
+		this.width = 0;
+		this.height = 0;
+	}
+	
+	/**
+	 * Draw the stars on the whole Display Screen.
+	 * 
+	 * @param graphics Graphics used for drawing
+	 * @param time Time elapsed since the start of the scrolling in milliseconds
+	 */
+	public void draw(Graphics graphics, long time) {
+		
+		Objects.requireNonNull(graphics);
+		
+		if(graphics.getWidth() != width || graphics.getHeight() != height) {
+			generate(graphics.getWidth(), graphics.getHeight());
+		}
+		
+		for(int d = 0; d < shifts.length; d++) {
+			long crossing = (long) (period / SPEEDS[d]);
+			shifts[d] = (float) (time % crossing) / crossing;
+		}
+		
+		int first = 0;
+		
+		for(int i = 0; i < size; i++) {
+			
+			if(i > first && (depths[i] != depths[first] || colors[i] != colors[first])) {
+				graphics.draw(points, first, i - first, SIZES[depths[first]], colors[first]);
+				first = i;
+			}
+			
+			float position = y[i] + shifts[depths[i]];
+			
+			if(position >= 1.0f) {
+				position -= 1.0f;
+			}
+			
+			points[i * 2] = x[i] * width;
+			points[i * 2 + 1] = position * height;
+		}
+		
+		if(size > first) {
+			graphics.draw(points, first, size - first, SIZES[depths[first]], colors[first]);
+		}
+	}
+	
+	/**
+	 * Generate the stars for a Display Screen of the given size.
+	 * 
+	 * @param width Display Screen width
+	 * @param height Display Screen height
+	 */
+	private void generate(int width, int height) {
+		
+		int count = (int) ((long) width * height * density / 1000000);
+		
+		if(count > x.length) {
+			x = new float[count];
+			y = new float[count];
+			depths = new int[count];
+			colors = new int[count];
+			points = new float[count * 2];
+		}
+		
+		Random random = new Random(seed);
+		
+		this.size = 0;
+		this.width = width;
+		this.height = height;
+		
+		for(int d = 0; d < SHARES.length; d++) {
+			
+			int stars = (d == SHARES.length - 1) ? count - size : (int) (count * SHARES[d]);
+			int left = stars;
+			
+			for(int b = 0; b < BRIGHTNESS.length; b++) {
+				
+				int bright = (b == BRIGHTNESS.length - 1) ? left : stars / BRIGHTNESS.length;
+				left -= bright;
+				
+				for(int n = 0; n < bright; n++) {
+					
+					int i = size++;
+					
+					x[i] = random.nextFloat();
+					y[i] = random.nextFloat();
+					depths[i] = d;
+					colors[i] = (BRIGHTNESS[b] << 24) | 0x00FFFFFF;
+				}
+			}
+		}
+	}
+	
+	/**
+	 * Get the number of stars of the last drawing.
+	 * 
+	 * @return Number of stars
+	 */
+	public int size() {
+		return size;
+	}
+
+}
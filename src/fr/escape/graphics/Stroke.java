@@ -12,9 +12,6 @@
 package fr.escape.graphics;
 
 import fr.escape.Objects;
-import android.graphics.Paint.Cap;
-import android.graphics.Paint.Join;
-import android.graphics.Paint.Style;
 
 /**
  * <p>
@@ -71,4 +68,25 @@ public final class Stroke {
 		return join;
 	}
 	
+	/**
+	 * Fill the inside of a {@link Shape}, draw its outline or both.
+	 */
+	public enum Style {
+		FILL, STROKE, FILL_AND_STROKE
+	}
+
+	/**
+	 * Shape of the corners of a stroked {@link Shape}.
+	 */
+	public enum Join {
+		MITER, ROUND, BEVEL
+	}
+	
+	/**
+	 * Shape of the ends of a stroked Line.
+	 */
+	public enum Cap {
+		BUTT, ROUND, SQUARE
+	}
+	
 }
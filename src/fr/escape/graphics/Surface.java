@@ -0,0 +1,128 @@
+/*****************************************************************************
+ * 
+ * Copyright 2012-2013 See AUTHORS file.
+ * 
+ * This file is part of Escape-IR.
+ * 
+ * Escape-IR is free software: you can redistribute it and/or modify
+ * it under the terms of the zlib license. See the COPYING file.
+ * 
+ *****************************************************************************/
+
+package fr.escape.graphics;
+
+/**
+ * <p>
+ * A platform drawing target for one frame.
+ * 
+ * <p>
+ * All coordinates are given in Display Screen pixels.
+ * 
+ */
+public interface Surface {
+	
+	/**
+	 * Fill the whole Surface with the given Color.
+	 * 
+	 * @param color Color to use
+	 */
+	public void clear(int color);
+	
+	/**
+	 * <p>
+	 * Draw the rectangle located from the top left corner at srcX,srcY to the bottom right corner
+	 * at srcWidth,srcHeight in the {@link Image}, into the rectangle located from the top left corner
+	 * at x,y to the bottom right corner at width,height in the Surface.
+	 * 
+	 * <p>
+	 * Apply a rotation around the destination center with the given Angle in Degree.
+	 * 
+	 * @param image Image to draw
+	 * @param x Starting Position X in Surface
+	 * @param y Starting Position Y in Surface
+	 * @param width Ending Position X in Surface
+	 * @param height Ending Position Y in Surface
+	 * @param srcX Starting Position X in Image
+	 * @param srcY Starting Position Y in Image
+	 * @param srcWidth Ending Position X in Image
+	 * @param srcHeight Ending Position Y in Image
+	 * @param angle Rotation to apply in Degree
+	 */
+	public void drawImage(Image image, int x, int y, int width, int height, int srcX, int srcY, int srcWidth, int srcHeight, float angle);
+	
+	/**
+	 * Draw a String with the left bottom corner at x,y.
+	 * 
+	 * @param message String to display
+	 * @param x Left Position X
+	 * @param y Bottom Position Y
+	 * @param font Font to use
+	 * @param color Color to use
+	 */
+	public void drawText(String message, int x, int y, Font font, int color);
+	
+	/**
+	 * <p>
+	 * Draw a number between a prefix and a suffix, with the left bottom corner at x,y.
+	 * 
+	 * <p>
+	 * Looks exactly like {@link Surface#drawText(String, int, int, Font, int)} with the
+	 * concatenated String, which does not need to be built.
+	 * 
+	 * @param prefix String displayed before the number
+	 * @param value Number to display
+	 * @param suffix String displayed after the number
+	 * @param x Left Position X
+	 * @param y Bottom Position Y
+	 * @param font Font to use
+	 * @param color Color to use
+	 */
+	public void drawNumber(String prefix, int value, String suffix, int x, int y, Font font, int color);
+	
+	/**
+	 * Draw square points centered on the given coordinates.
+	 * 
+	 * @param points Point coordinates: x,y pairs
+	 * @param offset First point
+	 * @param count Number of points
+	 * @param size Size of a point side
+	 * @param color Color to use
+	 */
+	public void drawPoints(float[] points, int offset, int count, int size, int color);
+	
+	/**
+	 * Draw a Line between two points.
+	 * 
+	 * @param x1 X Axis for Point A
+	 * @param y1 Y Axis for Point A
+	 * @param x2 X Axis for Point B
+	 * @param y2 Y Axis for Point B
+	 * @param color Color to use
+	 * @param stroke Stroke to use
+	 */
+	public void drawLine(int x1, int y1, int x2, int y2, int color, Stroke stroke);
+	
+	/**
+	 * Draw a Rectangle.
+	 * 
+	 * @param x Top Left Corner in X Axis
+	 * @param y Top Left Corner in Y Axis
+	 * @param width Bottom Right Corner in X Axis
+	 * @param height Bottom Right Corner in Y Axis
+	 * @param color Color to use
+	 * @param stroke Stroke to use
+	 */
+	public void drawRectangle(int x, int y, int width, int height, int color, Stroke stroke);
+	
+	/**
+	 * Draw a Circle.
+	 * 
+	 * @param centerX Center in X axis
+	 * @param centerY Center in Y axis
+	 * @param radius Radius of the Circle
+	 * @param color Color to use
+	 * @param stroke Stroke to use
+	 */
+	public void drawCircle(int centerX, int centerY, float radius, int color, Stroke stroke);
+
+}
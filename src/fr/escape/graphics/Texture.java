@@ -11,21 +11,18 @@
 
 package fr.escape.graphics;
 
-import java.io.File;
-import java.io.IOException;
-
 import fr.escape.Objects;
 
-import android.content.res.Resources;
-import android.graphics.Bitmap;
-import android.graphics.BitmapFactory;
-import android.graphics.Canvas;
-import android.graphics.Paint;
-import android.graphics.Rect;
-
 /**
  * <p>
- * A wrapper for {@link Bitmap} which represent a drawable texture.
+ * A wrapper for {@link Image} which represent a drawable texture.
+ * 
+ * <p>
+ * A Texture may only be a region of its {@link Image}, for instance a sprite packed
+ * in a texture atlas. Coordinates given to a Texture are always relative to its region.
+ * 
+ * <p>
+ * The Image may be a {@link ManagedImage}, which pixels are only resolved when drawing.
  * 
  * <p>
  * This class is Immutable.
@@ -34,27 +31,50 @@ import android.graphics.Rect;
 public final class Texture {
 
 	/**
-	 * Bitmap used for rendering
+	 * Image used for rendering
 	 */
-	private final Bitmap texture;
+	private final Image texture;
 	
 	/**
-	 * Default Constructor for a Texture
-	 * 
-	 * @param stream Texture file
-	 * @throws IOException If we cannot create a Texture from this {@link File}
+	 * Region of the Image
 	 */
-	public Texture(Resources resources, int drawable) throws IOException {
-		this.texture = BitmapFactory.decodeResource(Objects.requireNonNull(resources), drawable);
-	}
+	private final int left;
+	private final int top;
+	private final int width;
+	private final int height;
 	
 	/**
-	 * Constructor for a Texture with a {@link Bitmap}
+	 * Constructor for a Texture with an {@link Image}
 	 *  
-	 * @param texture The {@link Bitmap} Texture
+	 * @param texture The {@link Image} Texture
 	 */
-	public Texture(Bitmap texture) {
+	public Texture(Image texture) {
+		this(texture, 0, 0, texture.getWidth(), texture.getHeight());
+	}
+	
+	/**
+	 * Constructor for a Texture with a region of an {@link Image}
+	 * 
+	 * @param texture The {@link Image} which contains the Texture
+	 * @param left Left edge of the region in the Image
+	 * @param top Top edge of the region in the Image
+	 * @param width Region width
+	 * @param height Region height
+	 * @throws IllegalArgumentException If the region is not inside the Image
+	 */
+	public Texture(Image texture, int left, int top, int width, int height) {
+		
 		this.texture = Objects.requireNonNull(texture);
+		
+		if(left < 0 || top < 0 || width <= 0 || height <= 0 ||
+				left + width > texture.getWidth() || top + height > texture.getHeight()) {
+			throw new IllegalArgumentException("Region is not inside the Image");
+		}
+		
+		this.left = left;
+		this.top = top;
+		this.width = width;
+		this.height = height;
 	}
 	
 	/**
@@ -63,7 +83,7 @@ public final class Texture {
 	 * @return Texture Width
 	 */
 	public int getWidth() {
-		return texture.getWidth();
+		return width;
 	}
 	
 	/**
@@ -72,100 +92,69 @@ public final class Texture {
 	 * @return Texture Height
 	 */
 	public int getHeight() {
-		return texture.getHeight();
+		return height;
 	}
 	
 	/**
-	 * Return the Bitmap used as Texture
+	 * Return the Image used as Texture
 	 * 
-	 * @return {@link Bitmap} used as Texture
+	 * @return {@link Image} used as Texture, with its pixels loaded
 	 */
-	private Bitmap getBitmap() {
+	public Image getImage() {
+		
+		if(texture instanceof ManagedImage) {
+			return ((ManagedImage) texture).getPixels();
+		}
+		
 		return texture;
 	}
 
 	/**
 	 * <p>
-	 * Draw this Texture on the given {@link Canvas}.
+	 * Draw this Texture on the given {@link Surface}.
 	 * 
 	 * <p>
 	 * Draw from the top left corner at x,y to the bottom right corner at width,height in
-	 * the {@link Canvas}.
+	 * the {@link Surface}.
 	 * 
 	 * <p>
 	 * We use the rectangle in the Texture located from the top left corner at srcX,srcY to
 	 * the bottom right corner at srcWidth,srcHeight.
 	 * 
-	 * @param canvas {@link Canvas} used for drawing.
-	 * @param paint {@link Paint} used for drawing.
-	 * @param x Starting Position X in {@link Canvas}
-	 * @param y Starting Position Y in {@link Canvas}
-	 * @param width Ending Position X in {@link Canvas}
-	 * @param height Ending Position Y in {@link Canvas}
+	 * <p>
+	 * Apply a rotation with the given Angle in Degree.
+	 * 
+	 * @param surface {@link Surface} used for drawing.
+	 * @param x Starting Position X in {@link Surface}
+	 * @param y Starting Position Y in {@link Surface}
+	 * @param width Ending Position X in {@link Surface}
+	 * @param height Ending Position Y in {@link Surface}
 	 * @param srcX Starting Position X in {@link Texture}
 	 * @param srcY Starting Position Y in {@link Texture}
 	 * @param srcWidth Ending Position X in {@link Texture}
 	 * @param srcHeight Ending Position Y in {@link Texture}
+	 * @param angle Rotation to apply on Texture in Degree.
 	 */
-	public void draw(Canvas canvas, Paint paint, int x, int y, int width, int height,
-			int srcX, int srcY, int srcWidth, int srcHeight) {
-		
-		draw(canvas, paint, x, y, width, height, srcX, srcY, srcWidth, srcHeight, 0.0f);
+	public void draw(Surface surface, int x, int y, int width, int height,
+			int srcX, int srcY, int srcWidth, int srcHeight, float angle) {
+		draw(surface, getImage(), x, y, width, height, srcX, srcY, srcWidth, srcHeight, angle);
 	}
 	
 	/**
 	 * <p>
-	 * Draw this Texture on the given {@link Canvas}.
-	 * 
-	 * <p>
-	 * Draw from the top left corner at x,y to the bottom right corner at width,height in
-	 * the {@link Canvas}.
-	 * 
-	 * <p>
-	 * We use the rectangle in the Texture located from the top left corner at srcX,srcY to
-	 * the bottom right corner at srcWidth,srcHeight.
+	 * Draw this Texture on the given {@link Surface}, with pixels already resolved by {@link Texture#getImage()}.
 	 * 
 	 * <p>
-	 * Apply a rotation with the given Angle in Degree.
+	 * Used when the pixels are resolved on another thread than the drawing one.
 	 * 
-	 * @param canvas {@link Canvas} used for drawing.
-	 * @param paint {@link Paint} used for drawing.
-	 * @param x Starting Position X in {@link Canvas}
-	 * @param y Starting Position Y in {@link Canvas}
-	 * @param width Ending Position X in {@link Canvas}
-	 * @param height Ending Position Y in {@link Canvas}
-	 * @param srcX Starting Position X in {@link Texture}
-	 * @param srcY Starting Position Y in {@link Texture}
-	 * @param srcWidth Ending Position X in {@link Texture}
-	 * @param srcHeight Ending Position Y in {@link Texture}
-	 * @param angle Rotation to apply on Texture in Degree.
+	 * @param surface {@link Surface} used for drawing.
+	 * @param image Pixels of this Texture
+	 * @see Texture#draw(Surface, int, int, int, int, int, int, int, int, float)
 	 */
-	public void draw(Canvas canvas, Paint paint, int x, int y, int width, int height,
+	public void draw(Surface surface, Image image, int x, int y, int width, int height,
 			int srcX, int srcY, int srcWidth, int srcHeight, float angle) {
-
-		Objects.requireNonNull(canvas);
-		
-		boolean updateMatrix = false;
-		
-		// Create a Rotation Matrix if we need to apply a rotation on Texture
-		if(angle != 0) {
-			
-			// Save Matrix current state
-			canvas.save();
-			updateMatrix = true;
-			
-			// Apply Rotation Matrix
-			canvas.rotate(angle, (x + width) / 2, (y + height) / 2);
-		}
-        
-		// Draw Texture on Canvas
-		canvas.drawBitmap(getBitmap(), new Rect(srcX, srcY, srcWidth, srcHeight), new Rect(x, y, width, height), paint);
-		
-		// Restore Previous Matrix
-		if(updateMatrix) {
-			canvas.restore();
-		}
-		
+		Objects.requireNonNull(surface).drawImage(Objects.requireNonNull(image), x, y, width, height,
+				left + srcX, top + srcY, left + srcWidth, top + srcHeight, angle);
 	}
 	
 }
@@ -11,8 +11,7 @@
 
 package fr.escape.graphics;
 
-import android.graphics.Canvas;
-import android.graphics.Paint;
+import fr.escape.app.Graphics;
 
 /**
  * <p>
@@ -28,14 +27,16 @@ public interface TextureOperator {
 	 * <p>
 	 * The portion of the Texture is defined by the implementation of this interface.
 	 * 
-	 * @param canvas Use this Canvas for drawing.
-	 * @param paint Use this Paint for drawing.
+	 * <p>
+	 * Implementations resolve themselves into simple {@link Texture} drawing on the given {@link Graphics}.
+	 * 
+	 * @param graphics Use this Graphics for drawing.
 	 * @param x Starting Position X in Display Screen.
 	 * @param y Starting Position Y in Display Screen.
 	 * @param width Ending Position X in Display Screen.
 	 * @param height Ending Position Y in Display Screen.
 	 * @param angle Rotation to apply on Texture in Degree (Optional)
 	 */
-	public void draw(final Canvas canvas, final Paint paint, final int x, final int y, final int width, final int height, final float angle);
+	public void draw(final Graphics graphics, final int x, final int y, final int width, final int height, final float angle);
 	
 }
@@ -0,0 +1,30 @@
+/*****************************************************************************
+ * 
+ * Copyright 2012-2013 See AUTHORS file.
+ * 
+ * This file is part of Escape-IR.
+ * 
+ * Escape-IR is free software: you can redistribute it and/or modify
+ * it under the terms of the zlib license. See the COPYING file.
+ * 
+ *****************************************************************************/
+
+package fr.escape.graphics;
+
+/**
+ * <p>
+ * A loaded font face, owned by the platform.
+ * 
+ * <p>
+ * Only the {@link Surface} of the same platform knows how to draw with it.
+ * 
+ * @see Font
+ */
+public interface Typeface {
+	
+	/**
+	 * @return Name of this Typeface
+	 */
+	public String getName();
+
+}
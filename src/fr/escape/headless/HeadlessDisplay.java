@@ -0,0 +1,52 @@
+/*****************************************************************************
+ * 
+ * Copyright 2012-2013 See AUTHORS file.
+ * 
+ * This file is part of Escape-IR.
+ * 
+ * Escape-IR is free software: you can redistribute it and/or modify
+ * it under the terms of the zlib license. See the COPYING file.
+ * 
+ *****************************************************************************/
+
+package fr.escape.headless;
+
+import fr.escape.Objects;
+import fr.escape.app.Display;
+import fr.escape.app.Graphics;
+import fr.escape.graphics.Rectangle;
+
+/**
+ * <p>
+ * A {@link Display} which flushes every frame into a {@link HeadlessSurface}.
+ * 
+ */
+final class HeadlessDisplay implements Display {
+	
+	private final HeadlessSurface surface;
+	private Graphics graphics;
+	
+	/**
+	 * Default Constructor
+	 * 
+	 * @param graphics Graphics to flush
+	 * @param surface Surface used for every frame
+	 */
+	HeadlessDisplay(Graphics graphics, HeadlessSurface surface) {
+		this.graphics = Objects.requireNonNull(graphics);
+		this.surface = Objects.requireNonNull(surface);
+	}
+	
+	@Override
+	public void setGraphics(Graphics graphics) {
+		this.graphics = graphics;
+	}
+	
+	@Override
+	public void render(Rectangle dirty) {
+		if(graphics != null) {
+			graphics.flush(surface);
+		}
+	}
+
+}
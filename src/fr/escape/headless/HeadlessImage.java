@@ -0,0 +1,61 @@
+/*****************************************************************************
+ * 
+ * Copyright 2012-2013 See AUTHORS file.
+ * 
+ * This file is part of Escape-IR.
+ * 
+ * Escape-IR is free software: you can redistribute it and/or modify
+ * it under the terms of the zlib license. See the COPYING file.
+ * 
+ *****************************************************************************/
+
+package fr.escape.headless;
+
+import fr.escape.Objects;
+import fr.escape.graphics.Image;
+
+/**
+ * <p>
+ * An {@link Image} which only knows its size.
+ * 
+ */
+final class HeadlessImage implements Image {
+	
+	private final String name;
+	private final int width;
+	private final int height;
+	
+	/**
+	 * Default Constructor
+	 * 
+	 * @param name Image name
+	 * @param width Image width
+	 * @param height Image height
+	 */
+	HeadlessImage(String name, int width, int height) {
+		
+		if(width <= 0 || height <= 0) {
+			throw new IllegalArgumentException("Invalid Image size: " + width + "x" + height);
+		}
+		
+		this.name = Objects.requireNonNull(name);
+		this.width = width;
+		this.height = height;
+	}
+	
+	@Override
+	public int getWidth() {
+		return width;
+	}
+	
+	@Override
+	public int getHeight() {
+		return height;
+	}
+	
+	@Override
+	public String toString() {
+		return name + " (" + width + "x" + height + ")";
+	}
+
+}
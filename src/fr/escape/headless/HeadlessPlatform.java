@@ -0,0 +1,106 @@
+/*****************************************************************************
+ * 
+ * Copyright 2012-2013 See AUTHORS file.
+ * 
+ * This file is part of Escape-IR.
+ * 
+ * Escape-IR is free software: you can redistribute it and/or modify
+ * it under the terms of the zlib license. See the COPYING file.
+ * 
+ *****************************************************************************/
+
+package fr.escape.headless;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+import fr.escape.Objects;
+import fr.escape.app.ConsoleLogger;
+import fr.escape.app.Logger;
+import fr.escape.app.Platform;
+import fr.escape.app.Storage;
+import fr.escape.app.Toolkit;
+
+/**
+ * <p>
+ * {@link Platform} implementation without any Display, working on the project directories.
+ * 
+ * <p>
+ * Used by {@link Simulation} to run the Engine on a plain JVM.
+ * 
+ */
+public final class HeadlessPlatform implements Platform, Storage {
+	
+	private final File assets;
+	private final File storage;
+	private final Logger logger;
+	private final Toolkit toolkit;
+	
+	/**
+	 * Default Constructor
+	 * 
+	 * @param project Project root directory (with <code>assets</code> and <code>res</code>)
+	 * @param storage Directory used for Scenario and Image Storage
+	 */
+	public HeadlessPlatform(File project, File storage) {
+		this(project, storage, new ConsoleLogger());
+	}
+	
+	/**
+	 * Constructor with a custom {@link Logger}.
+	 * 
+	 * @param project Project root directory (with <code>assets</code> and <code>res</code>)
+	 * @param storage Directory used for Scenario and Image Storage
+	 * @param logger Logger to use
+	 */
+	public HeadlessPlatform(File project, File storage, Logger logger) {
+		Objects.requireNonNull(project);
+		this.assets = new File(project, "assets");
+		this.storage = Objects.requireNonNull(storage);
+		this.logger = Objects.requireNonNull(logger);
+		this.toolkit = new HeadlessToolkit(new File(project, "res"));
+	}
+	
+	@Override
+	public Logger getLogger() {
+		return logger;
+	}
+	
+	@Override
+	public Storage getStorage() {
+		return this;
+	}
+	
+	@Override
+	public Toolkit getToolkit() {
+		return toolkit;
+	}
+	
+	@Override
+	public void toast(String message) {
+		logger.log("Toast", message, null);
+	}
+	
+	@Override
+	public void launchBuilder() {
+		logger.error("Builder", "No Builder available on this Platform", null);
+	}
+	
+	@Override
+	public File getScenarioStorage() {
+		return new File(storage, "Scenario");
+	}
+	
+	@Override
+	public File getImageStorage() {
+		return new File(storage, "Pictures");
+	}
+	
+	@Override
+	public InputStream openAsset(String path) throws IOException {
+		return new FileInputStream(new File(assets, path));
+	}
+
+}
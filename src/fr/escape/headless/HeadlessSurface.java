@@ -0,0 +1,123 @@
+/*****************************************************************************
+ * 
+ * Copyright 2012-2013 See AUTHORS file.
+ * 
+ * This file is part of Escape-IR.
+ * 
+ * Escape-IR is free software: you can redistribute it and/or modify
+ * it under the terms of the zlib license. See the COPYING file.
+ * 
+ *****************************************************************************/
+
+package fr.escape.headless;
+
+import fr.escape.graphics.Font;
+import fr.escape.graphics.Image;
+import fr.escape.graphics.Stroke;
+import fr.escape.graphics.Surface;
+
+/**
+ * <p>
+ * A {@link Surface} which draws nothing but counts every drawing call.
+ * 
+ */
+public final class HeadlessSurface implements Surface {
+	
+	private int clears;
+	private int images;
+	private int texts;
+	private int shapes;
+	private int points;
+	
+	@Override
+	public void clear(int color) {
+		clears++;
+	}
+	
+	@Override
+	public void drawImage(Image image, int x, int y, int width, int height, int srcX, int srcY, int srcWidth, int srcHeight, float angle) {
+		images++;
+	}
+	
+	@Override
+	public void drawText(String message, int x, int y, Font font, int color) {
+		texts++;
+	}
+	
+	@Override
+	public void drawNumber(String prefix, int value, String suffix, int x, int y, Font font, int color) {
+		texts++;
+	}
+	
+	@Override
+	public void drawPoints(float[] points, int offset, int count, int size, int color) {
+		this.points += count;
+	}
+	
+	@Override
+	public void drawLine(int x1, int y1, int x2, int y2, int color, Stroke stroke) {
+		shapes++;
+	}
+	
+	@Override
+	public void drawRectangle(int x, int y, int width, int height, int color, Stroke stroke) {
+		shapes++;
+	}
+	
+	@Override
+	public void drawCircle(int centerX, int centerY, float radius, int color, Stroke stroke) {
+		shapes++;
+	}
+	
+	/**
+	 * @return Number of frames drawn
+	 */
+	public int getFrames() {
+		return clears;
+	}
+	
+	/**
+	 * @return Number of Image drawn
+	 */
+	public int getImages() {
+		return images;
+	}
+	
+	/**
+	 * @return Number of Text drawn
+	 */
+	public int getTexts() {
+		return texts;
+	}
+	
+	/**
+	 * @return Number of Shape drawn
+	 */
+	public int getShapes() {
+		return shapes;
+	}
+	
+	/**
+	 * @return Number of Points drawn
+	 */
+	public int getPoints() {
+		return points;
+	}
+	
+	/**
+	 * Reset all counters.
+	 */
+	public void reset() {
+		clears = 0;
+		images = 0;
+		texts = 0;
+		shapes = 0;
+		points = 0;
+	}
+	
+	@Override
+	public String toString() {
+		return "Surface(frames: " + clears + ", images: " + images + ", texts: " + texts + ", shapes: " + shapes + ", points: " + points + ")";
+	}
+
+}
@@ -0,0 +1,159 @@
+/*****************************************************************************
+ * 
+ * Copyright 2012-2013 See AUTHORS file.
+ * 
+ * This file is part of Escape-IR.
+ * 
+ * Escape-IR is free software: you can redistribute it and/or modify
+ * it under the terms of the zlib license. See the COPYING file.
+ * 
+ *****************************************************************************/
+
+package fr.escape.headless;
+
+import java.io.DataInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+
+import fr.escape.Objects;
+import fr.escape.android.R;
+import fr.escape.app.DecodeProfile;
+import fr.escape.app.Toolkit;
+import fr.escape.graphics.Image;
+import fr.escape.graphics.Typeface;
+
+/**
+ * <p>
+ * {@link Toolkit} which only reads Image headers: pixels are never decoded.
+ * 
+ * <p>
+ * Resources identifier are resolved through the generated {@link R} class.
+ * 
+ */
+final class HeadlessToolkit implements Toolkit {
+	
+	/**
+	 * PNG Signature followed by the IHDR chunk length and type.
+	 */
+	private static final int PNG_HEADER = 16;
+	
+	private final File res;
+	
+	/**
+	 * Default Constructor
+	 * 
+	 * @param res Android resources directory
+	 */
+	HeadlessToolkit(File res) {
+		this.res = Objects.requireNonNull(res);
+	}
+	
+	@Override
+	public Image loadImage(int id) throws IOException {
+		
+		String name = getName(R.drawable.class, id);
+		File[] directories = res.listFiles();
+		
+		if(directories != null) {
+			
+			// drawable-large < drawable-nodpi < drawable-normal: keep the normal screen first.
+			Arrays.sort(directories);
+			
+			for(int i = directories.length - 1; i >= 0; i--) {
+				
+				File file = new File(directories[i], name + ".png");
+				
+				if(directories[i].getName().startsWith("drawable") && file.isFile()) {
+					return loadImage(file);
+				}
+			}
+		}
+		
+		throw new FileNotFoundException("Cannot find drawable: " + name);
+	}
+	
+	/**
+	 * <p>
+	 * Decode the drawable with the given ID.
+	 * 
+	 * <p>
+	 * Every Image has its full size: there is no Display Screen before a Simulation creates one.
+	 * 
+	 * @see Toolkit#loadImage(int, DecodeProfile)
+	 */
+	@Override
+	public Image loadImage(int id, DecodeProfile profile) throws IOException {
+		Objects.requireNonNull(profile);
+		return loadImage(id);
+	}
+	
+	@Override
+	public Image loadImage(File file) throws IOException {
+		
+		DataInputStream input = new DataInputStream(new FileInputStream(file));
+		
+		try {
+			
+			if(input.skipBytes(PNG_HEADER) != PNG_HEADER) {
+				throw new IOException("Not a PNG file: " + file);
+			}
+			
+			int width = input.readInt();
+			int height = input.readInt();
+			
+			return new HeadlessImage(file.getName(), width, height);
+			
+		} finally {
+			input.close();
+		}
+	}
+	
+	@Override
+	public Image createAtlas(Image[] images, int[] x, int[] y, int width, int height) throws IOException {
+		return new HeadlessImage("atlas", width, height);
+	}
+	
+	@Override
+	public Image createScaledImage(Image image, int width, int height) throws IOException {
+		return new HeadlessImage("scaled", width, height);
+	}
+	
+	@Override
+	public Typeface loadTypeface(int id) throws IOException {
+		return new HeadlessTypeface(getName(R.string.class, id));
+	}
+	
+	/**
+	 * Find the name of a resource identifier in the given {@link R} inner class.
+	 * 
+	 * @param type R inner class (drawable, string, ...)
+	 * @param id Resource identifier
+	 * @return Resource name
+	 * @throws IOException If the identifier is unknown
+	 */
+	private static String getName(Class<?> type, int id) throws IOException {
+		
+		for(Field field : type.getFields()) {
+			
+			if(Modifier.isStatic(field.getModifiers()) && field.getType() == int.class) {
+				try {
+					
+					if(field.getInt(null) == id) {
+						return field.getName();
+					}
+					
+				} catch(IllegalAccessException e) {
+					throw new IOException("Cannot read resource: " + field.getName());
+				}
+			}
+		}
+		
+		throw new FileNotFoundException("Unknown resource: 0x" + Integer.toHexString(id));
+	}
+
+}
@@ -0,0 +1,40 @@
+/*****************************************************************************
+ * 
+ * Copyright 2012-2013 See AUTHORS file.
+ * 
+ * This file is part of Escape-IR.
+ * 
+ * Escape-IR is free software: you can redistribute it and/or modify
+ * it under the terms of the zlib license. See the COPYING file.
+ * 
+ *****************************************************************************/
+
+package fr.escape.headless;
+
+import fr.escape.Objects;
+import fr.escape.graphics.Typeface;
+
+/**
+ * <p>
+ * A {@link Typeface} which only knows its name.
+ * 
+ */
+final class HeadlessTypeface implements Typeface {
+	
+	private final String name;
+	
+	/**
+	 * Default Constructor
+	 * 
+	 * @param name Typeface name
+	 */
+	HeadlessTypeface(String name) {
+		this.name = Objects.requireNonNull(name);
+	}
+	
+	@Override
+	public String getName() {
+		return name;
+	}
+
+}
@@ -0,0 +1,327 @@
+/*****************************************************************************
+ * 
+ * Copyright 2012-2013 See AUTHORS file.
+ * 
+ * This file is part of Escape-IR.
+ * 
+ * Escape-IR is free software: you can redistribute it and/or modify
+ * it under the terms of the zlib license. See the COPYING file.
+ * 
+ *****************************************************************************/
+
+package fr.escape.headless;
+
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+
+import fr.escape.app.ConsoleLogger;
+import fr.escape.app.Engine;
+import fr.escape.app.Logger;
+import fr.escape.app.Screen;
+import fr.escape.app.SessionRecorder;
+import fr.escape.game.Escape;
+import fr.escape.game.screen.Lost;
+
+/**
+ * <p>
+ * Throughput benchmark of whole Levels, played by a {@link ScriptedPlayer} in a {@link Simulation}.
+ * 
+ * <p>
+ * Each Level is loaded through the regular {@link fr.escape.resources.Resources#getScenario} path,
+ * then played until the Boss is defeated, the Player is lost or the frame limit is reached.
+ * Warmup runs are played first and discarded, like JMH does.
+ * 
+ * <p>
+ * Reported for each Level: simulated frames per second, allocated bytes per frame
+ * and step time percentiles.
+ * 
+ * <p>
+ * Every run uses the same random seed. Measured runs can be recorded with a {@link SessionRecorder}
+ * for a later {@link Replay}.
+ * 
+ * <p>
+ * Arguments: <code>[project directory] [warmup runs] [measured runs] [session directory]</code>
+ * 
+ */
+public final class LevelBenchmark {
+	
+	private static final String TAG = LevelBenchmark.class.getSimpleName();
+	
+	/**
+	 * Stop a Level after 20 minutes of game time
+	 */
+	private static final int MAX_FRAMES = 20 * 60 * 60;
+	
+	/**
+	 * Outcome of a run
+	 */
+	private static final String DEFEATED = "defeated";
+	private static final String LOST = "lost";
+	private static final String TIMEOUT = "timeout";
+	
+	private final HeadlessPlatform platform;
+	private final long[] steps;
+	private final AllocationCounter allocations;
+	
+	/**
+	 * Default Constructor
+	 * 
+	 * @param platform Platform used by every Simulation
+	 */
+	public LevelBenchmark(HeadlessPlatform platform) {
+		this.platform = platform;
+		this.steps = new long[MAX_FRAMES];
+		this.allocations = new AllocationCounter();
+	}
+	
+	/**
+	 * Play the given Level once in a new Simulation.
+	 * 
+	 * @param scenario Built-in scenario name
+	 * @param recorder Session Recorder, or null
+	 * @return Result of the run
+	 * @throws IOException If Resources cannot be loaded
+	 */
+	public Result run(String scenario, SessionRecorder recorder) throws IOException {
+		
+		Simulation simulation = new Simulation(platform, Simulation.WIDTH, Simulation.HEIGHT, Simulation.DEFAULT_SEED, recorder);
+		ScriptedPlayer player = new ScriptedPlayer(simulation);
+		Escape game = simulation.getGame();
+		
+		if(!simulation.start(scenario)) {
+			throw new IllegalArgumentException("Unknown scenario: "+scenario);
+		}
+		
+		Screen screen = game.getScreen();
+		
+		int frames = 0;
+		long allocated = allocations.get();
+		long start = System.nanoTime();
+		
+		while(frames < MAX_FRAMES && game.getScreen() == screen) {
+			
+			long before = System.nanoTime();
+			
+			player.play();
+			simulation.step();
+			
+			steps[frames++] = System.nanoTime() - before;
+		}
+		
+		long elapsed = System.nanoTime() - start;
+		long bytes = (allocated < 0) ? -1 : allocations.get() - allocated;
+		
+		String outcome = TIMEOUT;
+		
+		if(game.getScreen() instanceof Lost) {
+			outcome = LOST;
+		} else if(game.getScreen() != screen) {
+			outcome = DEFEATED;
+		}
+		
+		return new Result(outcome, frames, elapsed, bytes, Arrays.copyOf(steps, frames));
+	}
+	
+	/**
+	 * Run the benchmark from the command line.
+	 * 
+	 * @param args Command line arguments
+	 * @throws IOException If Resources cannot be loaded
+	 */
+	public static void main(String[] args) throws IOException {
+		
+		File project = new File((args.length > 0) ? args[0] : ".");
+		int warmups = (args.length > 1) ? Integer.parseInt(args[1]) : 2;
+		int runs = (args.length > 2) ? Integer.parseInt(args[2]) : 5;
+		File sessions = (args.length > 3) ? new File(args[3]) : null;
+		
+		if(sessions != null && !sessions.isDirectory() && !sessions.mkdirs()) {
+			throw new IOException("Cannot create the session directory: "+sessions);
+		}
+		
+		File storage = new File(System.getProperty("java.io.tmpdir"), "EscapeIR");
+		final Logger console = new ConsoleLogger(System.out, false);
+		
+		// Game logs would be measured too: only keep errors
+		HeadlessPlatform platform = new HeadlessPlatform(project, storage, new Logger() {
+			
+			@Override
+			public void log(String tag, String message, Throwable throwable) {
+				if(tag == TAG) {
+					console.log(tag, message, throwable);
+				}
+			}
+			
+			@Override
+			public void error(String tag, String message, Throwable throwable) {
+				console.error(tag, message, throwable);
+			}
+			
+			@Override
+			public void debug(String tag, String message, Throwable throwable) {
+			}
+			
+		});
+		LevelBenchmark benchmark = new LevelBenchmark(platform);
+		
+		String[] scenarios = Simulation.getScenarios();
+		
+		for(int i = 0; i < scenarios.length; i++) {
+			
+			for(int j = 0; j < warmups; j++) {
+				benchmark.run(scenarios[i], null);
+			}
+			
+			for(int j = 0; j < runs; j++) {
+				
+				SessionRecorder recorder = null;
+				
+				if(sessions != null) {
+					File file = new File(sessions, scenarios[i] + "-" + (j + 1) + ".log");
+					recorder = new SessionRecorder(new BufferedOutputStream(new FileOutputStream(file)), scenarios[i]);
+				}
+				
+				Result result = benchmark.run(scenarios[i], recorder);
+				
+				if(recorder != null) {
+					recorder.close();
+				}
+				
+				Engine.log(TAG, scenarios[i] + " #" + (j + 1) + ": " + result);
+			}
+		}
+		
+		System.exit(0);
+	}
+	
+	/**
+	 * <p>
+	 * Measurement of one run.
+	 * 
+	 */
+	public static final class Result {
+		
+		private final String outcome;
+		private final int frames;
+		private final long elapsed;
+		private final long bytes;
+		private final long[] steps;
+		
+		Result(String outcome, int frames, long elapsed, long bytes, long[] steps) {
+			this.outcome = outcome;
+			this.frames = frames;
+			this.elapsed = elapsed;
+			this.bytes = bytes;
+			this.steps = steps;
+			Arrays.sort(this.steps);
+		}
+		
+		/**
+		 * @return How the Level has ended: defeated, lost or timeout
+		 */
+		public String getOutcome() {
+			return outcome;
+		}
+		
+		/**
+		 * @return Number of simulated frames
+		 */
+		public int getFrames() {
+			return frames;
+		}
+		
+		/**
+		 * @return Simulated frames per second of wall time
+		 */
+		public double getFramesPerSecond() {
+			return (frames * 1000000000.0) / Math.max(1, elapsed);
+		}
+		
+		/**
+		 * @return Allocated bytes per frame, or -1 if the JVM cannot tell
+		 */
+		public long getBytesPerFrame() {
+			
+			if(bytes < 0 || frames == 0) {
+				return -1;
+			}
+			
+			return bytes / frames;
+		}
+		
+		/**
+		 * Get a step time percentile.
+		 * 
+		 * @param percentile Percentile between 0 and 100
+		 * @return Step time in nanoseconds
+		 */
+		public long getStepTime(double percentile) {
+			
+			if(steps.length == 0) {
+				return 0;
+			}
+			
+			int index = (int) Math.ceil((percentile / 100.0) * steps.length) - 1;
+			
+			return steps[Math.max(0, Math.min(steps.length - 1, index))];
+		}
+		
+		@Override
+		public String toString() {
+			return String.format("%s after %d frames, %.0f frames/s, %d B/frame, step p50 %.3f ms, p99 %.3f ms, max %.3f ms",
+					outcome, frames, getFramesPerSecond(), getBytesPerFrame(),
+					getStepTime(50) / 1000000.0, getStepTime(99) / 1000000.0, getStepTime(100) / 1000000.0);
+		}
+		
+	}
+	
+	/**
+	 * <p>
+	 * Read the bytes allocated by the current Thread, when the JVM supports it.
+	 * 
+	 */
+	private static final class AllocationCounter {
+		
+		private final ThreadMXBean bean;
+		private final Method method;
+		
+		AllocationCounter() {
+			
+			ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+			Method method = null;
+			
+			try {
+				method = Class.forName("com.sun.management.ThreadMXBean").getMethod("getThreadAllocatedBytes", long.class);
+			} catch(Exception e) {
+				Engine.debug(TAG, "Allocation counter not available", e);
+			}
+			
+			this.bean = bean;
+			this.method = method;
+		}
+		
+		/**
+		 * @return Bytes allocated by the current Thread, or -1 if not available
+		 */
+		long get() {
+			
+			if(method != null) {
+				try {
+					return ((Long) method.invoke(bean, Thread.currentThread().getId())).longValue();
+				} catch(Exception e) {
+					Engine.debug(TAG, "Cannot read allocation counter", e);
+				}
+			}
+			
+			return -1;
+		}
+		
+	}
+
+}
@@ -0,0 +1,138 @@
+/*****************************************************************************
+ * 
+ * Copyright 2012-2013 See AUTHORS file.
+ * 
+ * This file is part of Escape-IR.
+ * 
+ * Escape-IR is free software: you can redistribute it and/or modify
+ * it under the terms of the zlib license. See the COPYING file.
+ * 
+ *****************************************************************************/
+
+package fr.escape.headless;
+
+import java.io.BufferedInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.util.List;
+
+import fr.escape.Objects;
+import fr.escape.app.Engine;
+import fr.escape.app.Input;
+import fr.escape.app.SessionReader;
+
+/**
+ * <p>
+ * Replay a session recorded by {@link fr.escape.app.SessionRecorder} in a {@link Simulation}.
+ * 
+ * <p>
+ * The Simulation is created with the recorded seed and Display size, then every frame
+ * is run with its recorded time and inputs. The replay runs as fast as possible, and the
+ * draw pass can be disabled.
+ * 
+ * <p>
+ * Arguments: <code>project-directory session-log [--no-draw]</code>
+ * 
+ */
+public final class Replay {
+	
+	private static final String TAG = Replay.class.getSimpleName();
+	
+	private final Simulation simulation;
+	private final SessionReader reader;
+	private int frames;
+	
+	/**
+	 * Default Constructor
+	 * 
+	 * @param platform Headless Platform
+	 * @param reader Session to replay
+	 * @throws IOException If Resources cannot be loaded
+	 */
+	public Replay(HeadlessPlatform platform, SessionReader reader) throws IOException {
+		
+		this.reader = Objects.requireNonNull(reader);
+		this.simulation = new Simulation(platform, reader.getWidth(), reader.getHeight(), reader.getSeed(), null);
+		this.frames = 0;
+		
+		simulation.start(reader.getScenario());
+	}
+	
+	/**
+	 * Replay the whole session.
+	 * 
+	 * @return Number of replayed frames
+	 * @throws IOException If the session log is invalid
+	 */
+	public int run() throws IOException {
+		
+		int record;
+		
+		while((record = reader.next()) != SessionReader.END) {
+			
+			if(record == SessionReader.RESTART) {
+				simulation.restart(reader.getDelta());
+				continue;
+			}
+			
+			List<Input> inputs = reader.getInputs();
+			
+			for(int i = 0; i < inputs.size(); i++) {
+				simulation.event(inputs.get(i));
+			}
+			
+			simulation.step(reader.getDelta());
+			frames++;
+		}
+		
+		return frames;
+	}
+	
+	/**
+	 * @return Simulation used for the replay
+	 */
+	public Simulation getSimulation() {
+		return simulation;
+	}
+	
+	/**
+	 * Replay a session from the command line.
+	 * 
+	 * @param args Command line arguments
+	 * @throws IOException If Resources cannot be loaded or the session log is invalid
+	 */
+	public static void main(String[] args) throws IOException {
+		
+		if(args.length < 2) {
+			System.err.println("Usage: Replay project-directory session-log [--no-draw]");
+			System.exit(1);
+		}
+		
+		File project = new File(args[0]);
+		File storage = new File(System.getProperty("java.io.tmpdir"), "EscapeIR");
+		SessionReader reader = new SessionReader(new BufferedInputStream(new FileInputStream(args[1])));
+		
+		try {
+			
+			Replay replay = new Replay(new HeadlessPlatform(project, storage), reader);
+			replay.getSimulation().setDrawing(!(args.length > 2 && "--no-draw".equals(args[2])));
+			
+			long start = System.nanoTime();
+			int frames = replay.run();
+			long elapsed = System.nanoTime() - start;
+			
+			Simulation simulation = replay.getSimulation();
+			
+			Engine.log(TAG, frames + " frames (" + (simulation.getTime() / 1000000L) + " ms of game time) in " +
+					(elapsed / 1000000L) + " ms, ended on " + simulation.getGame().getScreen().getClass().getSimpleName() +
+					": " + simulation.getSurface());
+			
+		} finally {
+			reader.close();
+		}
+		
+		System.exit(0);
+	}
+
+}
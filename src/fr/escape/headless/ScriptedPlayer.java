@@ -0,0 +1,106 @@
+/*****************************************************************************
+ * 
+ * Copyright 2012-2013 See AUTHORS file.
+ * 
+ * This file is part of Escape-IR.
+ * 
+ * Escape-IR is free software: you can redistribute it and/or modify
+ * it under the terms of the zlib license. See the COPYING file.
+ * 
+ *****************************************************************************/
+
+package fr.escape.headless;
+
+import fr.escape.Objects;
+import fr.escape.app.Input;
+import fr.escape.game.Escape;
+import fr.escape.game.entity.CoordinateConverter;
+import fr.escape.game.entity.ships.Ship;
+
+/**
+ * <p>
+ * A Player which fires straight ahead at a fixed rate, while sweeping the screen
+ * from left to right.
+ * 
+ * <p>
+ * The script only depends on the frame number: two runs send the same inputs.
+ * 
+ */
+final class ScriptedPlayer {
+	
+	/**
+	 * Frames between two shots
+	 */
+	private static final int FIRE_PERIOD = 20;
+	
+	/**
+	 * Frames for a whole left-right-left sweep
+	 */
+	private static final int SWEEP_PERIOD = 480;
+	
+	/**
+	 * Swipe length and velocity of a shot
+	 */
+	private static final int SWIPE_LENGTH = 200;
+	private static final float SWIPE_VELOCITY = -5000.0f;
+	
+	private final Simulation simulation;
+	private final Escape game;
+	private int frame;
+	
+	/**
+	 * Default Constructor
+	 * 
+	 * @param simulation Simulation to play
+	 */
+	ScriptedPlayer(Simulation simulation) {
+		this.simulation = Objects.requireNonNull(simulation);
+		this.game = simulation.getGame();
+	}
+	
+	/**
+	 * Send the inputs of the next frame, if any.
+	 */
+	void play() {
+		
+		if((++frame % FIRE_PERIOD) != 0) {
+			return;
+		}
+		
+		Ship ship = game.getUser().getShip();
+		CoordinateConverter converter = simulation.getEngine().getConverter();
+		
+		int x = converter.toPixelX(ship.getX());
+		int y = converter.toPixelY(ship.getY());
+		int target = getSweepX(game.getGraphics().getWidth());
+		
+		// Grab the Ship and drop it on the sweep position
+		simulation.event(new Input(x, y, Input.Action.ACTION_DOWN));
+		simulation.event(new Input(target, y, Input.Action.ACTION_MOVE));
+		simulation.event(new Input(target, y, Input.Action.ACTION_UP));
+		
+		// Fast swipe ahead: fire
+		simulation.event(new Input(target, y, Input.Action.ACTION_DOWN, 0.0f, SWIPE_VELOCITY));
+		simulation.event(new Input(target, y - SWIPE_LENGTH, Input.Action.ACTION_UP, 0.0f, SWIPE_VELOCITY));
+	}
+	
+	/**
+	 * Compute the Ship position in X axis for the current frame.
+	 * 
+	 * @param width Screen width
+	 * @return Position in X axis
+	 */
+	private int getSweepX(int width) {
+		
+		int phase = frame % SWEEP_PERIOD;
+		int half = SWEEP_PERIOD / 2;
+		int margin = width / 8;
+		
+		if(phase > half) {
+			phase = SWEEP_PERIOD - phase;
+		}
+		
+		return margin + (((width - (2 * margin)) * phase) / half);
+	}
+
+}
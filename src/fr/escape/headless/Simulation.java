@@ -0,0 +1,256 @@
+/*****************************************************************************
+ * 
+ * Copyright 2012-2013 See AUTHORS file.
+ * 
+ * This file is part of Escape-IR.
+ * 
+ * Escape-IR is free software: you can redistribute it and/or modify
+ * it under the terms of the zlib license. See the COPYING file.
+ * 
+ *****************************************************************************/
+
+package fr.escape.headless;
+
+import java.io.File;
+import java.io.IOException;
+
+import fr.escape.Objects;
+import fr.escape.app.Engine;
+import fr.escape.app.Graphics;
+import fr.escape.app.Input;
+import fr.escape.app.SessionRecorder;
+import fr.escape.app.VirtualClock;
+import fr.escape.game.Escape;
+
+/**
+ * <p>
+ * Run the {@link Engine} without Threads nor Display, on a virtual clock.
+ * 
+ * <p>
+ * Each {@link Simulation#step()} runs one simulation pass followed by one draw pass
+ * into a {@link HeadlessSurface}: the result only depends on the given inputs.
+ * 
+ */
+public final class Simulation {
+	
+	private static final String TAG = Simulation.class.getSimpleName();
+	
+	/**
+	 * Virtual Screen Width
+	 */
+	public static final int WIDTH = 480;
+	
+	/**
+	 * Virtual Screen Height
+	 */
+	public static final int HEIGHT = 800;
+	
+	/**
+	 * Random seed used when none is given
+	 */
+	public static final long DEFAULT_SEED = 0;
+	
+	/**
+	 * Built-in scenarios and their Level Screen
+	 */
+	private static final String[] SCENARIOS = {
+		"jupiter", "moon", "earth"
+	};
+	
+	private static final int[] LEVELS = {
+		Escape.SCREEN_JUPITER, Escape.SCREEN_MOON, Escape.SCREEN_EARTH
+	};
+	
+	private final Escape game;
+	private final Engine engine;
+	private final HeadlessSurface surface;
+	private final VirtualClock clock;
+	private final long period;
+	private boolean drawing;
+	
+	/**
+	 * Default Constructor
+	 * 
+	 * @param platform Headless Platform
+	 * @param width Virtual Screen Width
+	 * @param height Virtual Screen Height
+	 * @throws IOException If Resources cannot be loaded
+	 */
+	public Simulation(HeadlessPlatform platform, int width, int height) throws IOException {
+		this(platform, width, height, DEFAULT_SEED, null);
+	}
+	
+	/**
+	 * Constructor with a given random seed and a {@link SessionRecorder}.
+	 * 
+	 * @param platform Headless Platform
+	 * @param width Virtual Screen Width
+	 * @param height Virtual Screen Height
+	 * @param seed Engine random seed
+	 * @param recorder Session Recorder, or null
+	 * @throws IOException If Resources cannot be loaded
+	 */
+	public Simulation(HeadlessPlatform platform, int width, int height, long seed, SessionRecorder recorder) throws IOException {
+		
+		Objects.requireNonNull(platform);
+		
+		this.game = new Escape();
+		this.engine = new Engine(platform, game);
+		this.surface = new HeadlessSurface();
+		this.clock = new VirtualClock();
+		this.drawing = true;
+		
+		engine.setClock(clock);
+		engine.setSeed(seed);
+		engine.setRecorder(recorder);
+		
+		Graphics graphics = engine.getGraphics();
+		graphics.createView(new HeadlessDisplay(graphics, surface), width, height);
+		
+		this.period = 1000000000L / graphics.getRequestedFramesPerSecond();
+		
+		engine.getResources().load();
+		engine.initialize(clock.nanoTime());
+	}
+	
+	/**
+	 * Show the Level of a built-in scenario.
+	 * 
+	 * @param scenario Scenario name: jupiter, moon or earth
+	 * @return True if the scenario is known, the Game stays on its entry Screen otherwise.
+	 */
+	public boolean start(String scenario) {
+		
+		for(int i = 0; i < SCENARIOS.length; i++) {
+			if(SCENARIOS[i].equals(scenario)) {
+				game.setScreenID(LEVELS[i]);
+				return true;
+			}
+		}
+		
+		return false;
+	}
+	
+	/**
+	 * Advance the virtual clock by one frame and run it.
+	 */
+	public void step() {
+		step(period);
+	}
+		
+	/**
+	 * Advance the virtual clock by the given time and run one frame.
+	 * 
+	 * @param delta Time elapsed since the last frame in nanoseconds
+	 */
+	public void step(long delta) {
+		
+		engine.update(clock.advance(delta));
+		
+		if(drawing && engine.getGraphics().hasNewFrame()) {
+			engine.getGraphics().render();
+		}
+	}
+	
+	/**
+	 * Advance the virtual clock by the given time and restart the Engine time base.
+	 * 
+	 * @param delta Time elapsed since the last frame in nanoseconds
+	 * @see Engine#restart(long)
+	 */
+	public void restart(long delta) {
+		
+		engine.restart(clock.advance(delta));
+	}
+	
+	/**
+	 * Enable or disable the draw pass: the frames are still recorded, but never replayed
+	 * on the {@link HeadlessSurface}.
+	 * 
+	 * @param drawing True to run the draw pass
+	 */
+	public void setDrawing(boolean drawing) {
+		this.drawing = drawing;
+	}
+	
+	/**
+	 * @return Names of the built-in scenarios
+	 */
+	public static String[] getScenarios() {
+		return SCENARIOS.clone();
+	}
+	
+	/**
+	 * Run the given number of frames.
+	 * 
+	 * @param frames Number of frames
+	 */
+	public void run(int frames) {
+		for(int i = 0; i < frames; i++) {
+			step();
+		}
+	}
+	
+	/**
+	 * Send a User Input, handled on the next {@link Simulation#step()}.
+	 * 
+	 * @param input User Input
+	 */
+	public void event(Input input) {
+		engine.event(input);
+	}
+	
+	/**
+	 * @return Virtual time in nanoseconds
+	 */
+	public long getTime() {
+		return clock.nanoTime();
+	}
+	
+	/**
+	 * @return Headless Engine
+	 */
+	public Engine getEngine() {
+		return engine;
+	}
+	
+	/**
+	 * @return Game run by the Engine
+	 */
+	public Escape getGame() {
+		return game;
+	}
+	
+	/**
+	 * @return Surface used for every frame
+	 */
+	public HeadlessSurface getSurface() {
+		return surface;
+	}
+	
+	/**
+	 * Run a Simulation from the command line.
+	 * 
+	 * <p>
+	 * Arguments: <code>[project directory] [frames]</code>
+	 * 
+	 * @param args Command line arguments
+	 * @throws IOException If Resources cannot be loaded
+	 */
+	public static void main(String[] args) throws IOException {
+		
+		File project = new File((args.length > 0) ? args[0] : ".");
+		int frames = (args.length > 1) ? Integer.parseInt(args[1]) : 600;
+		
+		File storage = new File(System.getProperty("java.io.tmpdir"), "EscapeIR");
+		Simulation simulation = new Simulation(new HeadlessPlatform(project, storage), WIDTH, HEIGHT);
+		
+		long start = System.nanoTime();
+		simulation.run(frames);
+		long elapsed = System.nanoTime() - start;
+		
+		Engine.log(TAG, frames + " frames in " + (elapsed / 1000000L) + " ms: " + simulation.getSurface());
+		System.exit(0);
+	}
+
+}
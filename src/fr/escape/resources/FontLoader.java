@@ -12,7 +12,7 @@
 package fr.escape.resources;
 
 import fr.escape.android.R;
-import android.graphics.Typeface;
+import fr.escape.graphics.Typeface;
 
 /**
  * <p>
@@ -0,0 +1,33 @@
+/*****************************************************************************
+ * 
+ * Copyright 2012-2013 See AUTHORS file.
+ * 
+ * This file is part of Escape-IR.
+ * 
+ * Escape-IR is free software: you can redistribute it and/or modify
+ * it under the terms of the zlib license. See the COPYING file.
+ * 
+ *****************************************************************************/
+
+package fr.escape.resources;
+
+/**
+ * <p>
+ * An interface called by {@link Resources} while they are loaded.
+ * 
+ * <p>
+ * It is called on the Thread which loads the {@link Resources}.
+ * 
+ * @see Resources#setLoadingListener(LoadingListener)
+ */
+public interface LoadingListener {
+	
+	/**
+	 * Some Resources have been loaded.
+	 * 
+	 * @param loaded Number of Resources loaded
+	 * @param total Number of Resources to load
+	 */
+	public void onProgress(int loaded, int total);
+
+}
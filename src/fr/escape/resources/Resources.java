@@ -15,18 +15,28 @@ import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
-
-import android.content.Context;
-import android.graphics.Typeface;
-import android.util.SparseArray;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import fr.escape.Objects;
 import fr.escape.android.R;
+import fr.escape.app.DecodeProfile;
 import fr.escape.app.Engine;
+import fr.escape.app.Platform;
 import fr.escape.game.entity.ships.ShipFactory;
 import fr.escape.game.scenario.Scenario;
+import fr.escape.graphics.Image;
 import fr.escape.graphics.Texture;
+import fr.escape.graphics.Typeface;
 import fr.escape.resources.scenario.ScenarioLoader;
 import fr.escape.resources.scenario.ScenarioParser;
 
@@ -35,14 +45,19 @@ import fr.escape.resources.scenario.ScenarioParser;
  * Create a Index of available Resource and load them in memory if needed.
  * 
  * <p>
- * You cannot unload them after that.
+ * Large Textures are kept in memory within a budget: the least recently used sets are released
+ * when another set is required, and decoded again on their next use.
+ * 
+ * <p>
+ * Drawables and fonts are decoded by a few worker Threads, and registered in order
+ * by the Thread which calls <b>load()</b>.
  * 
  * <p>
  * For loading: simply use <i>get...(...)</i> 
  * 
  * <p>
  * <b>Note:</b> After instantiate this Object; You <b>HAVE TO</b> call <b>load()</b>
- *
+ * 
  */
 public final class Resources {
 	
@@ -51,9 +66,30 @@ public final class Resources {
 	 */
 	static final String TAG = Resources.class.getSimpleName();
 	
-	final SparseArray<Typeface> font;
-	final SparseArray<Texture> texture;
-	final Context context;
+	final Map<Integer, Typeface> font;
+	final Map<Integer, Texture> texture;
+	final Platform platform;
+	
+	/**
+	 * Default memory budget for the pixels of large Textures, in bytes.
+	 */
+	private static final int DEFAULT_TEXTURE_BUDGET = 6 * 1024 * 1024;
+	
+	/**
+	 * Maximum number of worker Threads used by load().
+	 */
+	private static final int MAX_WORKERS = 4;
+	
+	private final TextureResidency residency;
+	private final int budget;
+	
+	/**
+	 * Resources decoding during load(), in registration order.
+	 */
+	private final List<Pending<?>> pending;
+	private ExecutorService workers;
+	
+	private volatile LoadingListener listener;
 	
 	/**
 	 * Is all resources loaded in memory ?
@@ -67,12 +103,29 @@ public final class Resources {
 	 * <p>
 	 * Don't forget to call load() after instantiation.
 	 * 
-	 * @param android Android Native Context Reference
+	 * @param platform Platform which load Resources
 	 */
-	public Resources(Context android) {
-		font = new SparseArray<Typeface>(1);
-		texture = new SparseArray<Texture>(29);
-		context = Objects.requireNonNull(android);
+	public Resources(Platform platform) {
+		this(platform, DEFAULT_TEXTURE_BUDGET);
+	}
+	
+	/**
+	 * <p>
+	 * Constructor for {@link Resources} with a memory budget for large Textures.
+	 * 
+	 * <p>
+	 * Don't forget to call load() after instantiation.
+	 * 
+	 * @param platform Platform which load Resources
+	 * @param budget Memory budget for the pixels of large Textures, in bytes
+	 */
+	public Resources(Platform platform, int budget) {
+		font = new HashMap<Integer, Typeface>();
+		texture = new HashMap<Integer, Texture>();
+		this.platform = Objects.requireNonNull(platform);
+		this.residency = new TextureResidency(platform.getToolkit(), budget);
+		this.budget = budget;
+		this.pending = new ArrayList<Pending<?>>();
 		loaded = false;
 	}
 	
@@ -82,85 +135,146 @@ public final class Resources {
 	 * @throws IOException If an error has occurred during Minimal Configuration.
 	 */
 	public void minimal() throws IOException {
-		textureLoader(TextureLoader.BACKGROUND_SPLASH);
+		textureLoader(TextureLoader.BACKGROUND_SPLASH, DecodeProfile.OPAQUE_SCREEN);
 	}
 	
 	/**
+	 * <p>
 	 * Create and Load Resource
 	 * 
+	 * <p>
+	 * The {@link LoadingListener} is called each time a Resource is registered.
+	 * 
 	 * @throws IOException If an error has occurred during Resources Loading.
 	 */
 	public void load() throws IOException {
 		if(loaded == false) {
 			
+			workers = Executors.newFixedThreadPool(getWorkerCount());
+			
 			// Load Font
 			fontLoader(R.string.font_visitor);
 			
 			// Load Texture
-			textureLoader(TextureLoader.BACKGROUND_ERROR);
-			textureLoader(TextureLoader.BACKGROUND_LOST);
-			textureLoader(TextureLoader.BACKGROUND_MENU);
-			textureLoader(TextureLoader.BACKGROUND_VICTORY);
-			textureLoader(TextureLoader.BACKGROUND_INTRO);
-			textureLoader(TextureLoader.BACKGROUND_JUPITER);
-			textureLoader(TextureLoader.BACKGROUND_MOON);
-			textureLoader(TextureLoader.BACKGROUND_EARTH);
-			textureLoader(TextureLoader.WEAPON_UI_ACTIVATED);
-			textureLoader(TextureLoader.WEAPON_UI_DISABLED);
-			textureLoader(TextureLoader.WEAPON_BLACKHOLE);
-			textureLoader(TextureLoader.WEAPON_FIREBALL);
-			textureLoader(TextureLoader.WEAPON_MISSILE);
-			textureLoader(TextureLoader.WEAPON_SHIBOLEET);
-			textureLoader(TextureLoader.WEAPON_MISSILE_SHOT);
-			textureLoader(TextureLoader.WEAPON_FIREBALL_CORE_SHOT);
-			textureLoader(TextureLoader.WEAPON_FIREBALL_RADIUS_SHOT);
-			textureLoader(TextureLoader.WEAPON_SHIBOLEET_SHOT);
-			textureLoader(TextureLoader.WEAPON_BLACKHOLE_CORE_SHOT);
-			textureLoader(TextureLoader.WEAPON_BLACKHOLE_LEFT_SHOT);
-			textureLoader(TextureLoader.WEAPON_BLACKHOLE_RIGHT_SHOT);
-			textureLoader(TextureLoader.WEAPON_BLACKHOLE_EVENT_HORIZON_SHOT);
-			textureLoader(TextureLoader.BONUS_WEAPON_MISSILE);
-			textureLoader(TextureLoader.BONUS_WEAPON_FIREBALL);
-			textureLoader(TextureLoader.BONUS_WEAPON_SHIBOLEET);
-			textureLoader(TextureLoader.BONUS_WEAPON_BLACKHOLE);
-			
-			textureLoader(TextureLoader.SHIP_RAPTOR);
-			textureLoader(TextureLoader.SHIP_RAPTOR_1);
-			textureLoader(TextureLoader.SHIP_RAPTOR_2);
-			textureLoader(TextureLoader.SHIP_RAPTOR_3);
-			textureLoader(TextureLoader.SHIP_RAPTOR_4);
-			textureLoader(TextureLoader.SHIP_RAPTOR_5);
-			textureLoader(TextureLoader.SHIP_RAPTOR_6);
-			textureLoader(TextureLoader.SHIP_RAPTOR_7);
-			textureLoader(TextureLoader.SHIP_RAPTOR_8);
-			textureLoader(TextureLoader.SHIP_RAPTOR_9);
-			textureLoader(TextureLoader.SHIP_FALCON);
-			textureLoader(TextureLoader.SHIP_VIPER);
-			
-			textureLoader(TextureLoader.BOSS_JUPITER);
-			textureLoader(TextureLoader.BOSS_MOON);
-			textureLoader(TextureLoader.BOSS_MOON_1);
-			textureLoader(TextureLoader.BOSS_EARTH);
-			textureLoader(TextureLoader.BOSS_EARTH_1);
-			textureLoader(TextureLoader.JUPITER_SPECIAL);
-			textureLoader(TextureLoader.MOON_SPECIAL);
-			textureLoader(TextureLoader.EARTH_SPECIAL);
-			
-			textureLoader(TextureLoader.MENU_UI_BUTTON_HISTORY);
-			textureLoader(TextureLoader.MENU_UI_BUTTON_CUSTOM);
-			textureLoader(TextureLoader.MENU_UI_BUTTON_BUILDER);
-			textureLoader(TextureLoader.MENU_UI_LIST_ITEM);
-			textureLoader(TextureLoader.OVERLAY_STAR);
-			
-			textureLoader(TextureLoader.INTRO_JUPITER);
-			textureLoader(TextureLoader.INTRO_MOON);
-			textureLoader(TextureLoader.INTRO_EARTH);
+			textureLoader(TextureLoader.BACKGROUND_ERROR, DecodeProfile.DEFAULT, TextureLoader.SET_ERROR);
+			textureLoader(TextureLoader.BACKGROUND_LOST, DecodeProfile.OPAQUE_SCREEN, TextureLoader.SET_ENDING);
+			textureLoader(TextureLoader.BACKGROUND_VICTORY, DecodeProfile.OPAQUE_SCREEN, TextureLoader.SET_ENDING);
+			textureLoader(TextureLoader.BACKGROUND_INTRO, DecodeProfile.DEFAULT, TextureLoader.SET_COMMON);
+			
+			// Cropped or scrolled in pixels: keep their full resolution
+			textureLoader(TextureLoader.BACKGROUND_MENU, DecodeProfile.OPAQUE, TextureLoader.SET_MENU);
+			textureLoader(TextureLoader.BACKGROUND_JUPITER, DecodeProfile.OPAQUE, TextureLoader.SET_JUPITER);
+			textureLoader(TextureLoader.BACKGROUND_MOON, DecodeProfile.OPAQUE, TextureLoader.SET_MOON);
+			textureLoader(TextureLoader.BACKGROUND_EARTH, DecodeProfile.OPAQUE, TextureLoader.SET_EARTH);
+			
+			// Load Sprites in a Texture Atlas
+			final TextureAtlas atlas = new TextureAtlas(getPlatform().getToolkit());
+			
+			spriteLoader(atlas, TextureLoader.WEAPON_UI_ACTIVATED);
+			spriteLoader(atlas, TextureLoader.WEAPON_UI_DISABLED);
+			spriteLoader(atlas, TextureLoader.WEAPON_BLACKHOLE);
+			spriteLoader(atlas, TextureLoader.WEAPON_FIREBALL);
+			spriteLoader(atlas, TextureLoader.WEAPON_MISSILE);
+			spriteLoader(atlas, TextureLoader.WEAPON_SHIBOLEET);
+			spriteLoader(atlas, TextureLoader.WEAPON_MISSILE_SHOT);
+			spriteLoader(atlas, TextureLoader.WEAPON_FIREBALL_CORE_SHOT);
+			spriteLoader(atlas, TextureLoader.WEAPON_FIREBALL_RADIUS_SHOT);
+			spriteLoader(atlas, TextureLoader.WEAPON_SHIBOLEET_SHOT);
+			spriteLoader(atlas, TextureLoader.WEAPON_BLACKHOLE_CORE_SHOT);
+			spriteLoader(atlas, TextureLoader.WEAPON_BLACKHOLE_LEFT_SHOT);
+			spriteLoader(atlas, TextureLoader.WEAPON_BLACKHOLE_RIGHT_SHOT);
+			spriteLoader(atlas, TextureLoader.WEAPON_BLACKHOLE_EVENT_HORIZON_SHOT);
+			spriteLoader(atlas, TextureLoader.BONUS_WEAPON_MISSILE);
+			spriteLoader(atlas, TextureLoader.BONUS_WEAPON_FIREBALL);
+			spriteLoader(atlas, TextureLoader.BONUS_WEAPON_SHIBOLEET);
+			spriteLoader(atlas, TextureLoader.BONUS_WEAPON_BLACKHOLE);
+			
+			spriteLoader(atlas, TextureLoader.SHIP_RAPTOR);
+			spriteLoader(atlas, TextureLoader.SHIP_RAPTOR_1);
+			spriteLoader(atlas, TextureLoader.SHIP_RAPTOR_2);
+			spriteLoader(atlas, TextureLoader.SHIP_RAPTOR_3);
+			spriteLoader(atlas, TextureLoader.SHIP_RAPTOR_4);
+			spriteLoader(atlas, TextureLoader.SHIP_RAPTOR_5);
+			spriteLoader(atlas, TextureLoader.SHIP_RAPTOR_6);
+			spriteLoader(atlas, TextureLoader.SHIP_RAPTOR_7);
+			spriteLoader(atlas, TextureLoader.SHIP_RAPTOR_8);
+			spriteLoader(atlas, TextureLoader.SHIP_RAPTOR_9);
+			spriteLoader(atlas, TextureLoader.SHIP_FALCON);
+			spriteLoader(atlas, TextureLoader.SHIP_VIPER);
+			
+			spriteLoader(atlas, TextureLoader.BOSS_JUPITER);
+			spriteLoader(atlas, TextureLoader.BOSS_MOON);
+			spriteLoader(atlas, TextureLoader.BOSS_MOON_1);
+			spriteLoader(atlas, TextureLoader.BOSS_EARTH);
+			spriteLoader(atlas, TextureLoader.BOSS_EARTH_1);
+			spriteLoader(atlas, TextureLoader.JUPITER_SPECIAL);
+			spriteLoader(atlas, TextureLoader.MOON_SPECIAL);
+			
+			// Stretched on the whole screen height: keep it out of the Atlas
+			textureLoader(TextureLoader.EARTH_SPECIAL, DecodeProfile.DEFAULT, TextureLoader.SET_COMMON);
+			
+			textureLoader(TextureLoader.MENU_UI_BUTTON_HISTORY, DecodeProfile.DEFAULT, TextureLoader.SET_MENU);
+			textureLoader(TextureLoader.MENU_UI_BUTTON_CUSTOM, DecodeProfile.DEFAULT, TextureLoader.SET_MENU);
+			textureLoader(TextureLoader.MENU_UI_BUTTON_BUILDER, DecodeProfile.DEFAULT, TextureLoader.SET_MENU);
+			textureLoader(TextureLoader.MENU_UI_LIST_ITEM, DecodeProfile.DEFAULT, TextureLoader.SET_MENU);
+			
+			textureLoader(TextureLoader.INTRO_JUPITER, DecodeProfile.OPAQUE, TextureLoader.SET_JUPITER);
+			textureLoader(TextureLoader.INTRO_MOON, DecodeProfile.OPAQUE, TextureLoader.SET_MOON);
+			textureLoader(TextureLoader.INTRO_EARTH, DecodeProfile.OPAQUE, TextureLoader.SET_EARTH);
+			
+			// Decoded in parallel, registered in order
+			await();
+			atlas.pack(texture);
+			
+			// Everything has been decoded once: keep only what fits in the budget
+			residency.trim(budget);
 			
 		}
 		
 		loaded = true;
 	}
 	
+	/**
+	 * Set the {@link LoadingListener} called during load().
+	 * 
+	 * <p>
+	 * <em>This method is Thread-Safe</em>
+	 * 
+	 * @param listener LoadingListener, or null
+	 */
+	public void setLoadingListener(LoadingListener listener) {
+		this.listener = listener;
+	}
+	
+	/**
+	 * <p>
+	 * Load every Texture of the given set, and release the least recently used
+	 * sets if the memory budget is exceeded.
+	 * 
+	 * <p>
+	 * Call it before showing a Screen which uses the set.
+	 * 
+	 * @param set Texture Set from {@link TextureLoader}
+	 * @throws IllegalStateException If the {@link Resources} is not loaded.
+	 */
+	public void require(int set) {
+		checkIfLoaded();
+		residency.require(set);
+	}
+	
+	/**
+	 * Release every large Texture outside of the common set and of the last required set.
+	 * 
+	 * <p>
+	 * They will be decoded again on their next use.
+	 * 
+	 * <p>
+	 * <em>This method is Thread-Safe</em>
+	 */
+	public void release() {
+		residency.trim(0);
+	}
+	
 	/**
 	 * Load and return Typeface from {@link Resources} 
 	 * 
@@ -171,13 +285,7 @@ public final class Resources {
 	 */
 	public Typeface getFont(int name) throws NoSuchElementException {
 		checkIfLoaded();
-		try {
-			return font.get(name);
-		} catch(Exception e) {
-			NoSuchElementException exception = new NoSuchElementException("Cannot load the given Font: "+name);
-			exception.initCause(e);
-			throw exception;
-		}
+		return font.get(Integer.valueOf(name));
 	}
 	
 	/**
@@ -190,13 +298,7 @@ public final class Resources {
 	 */
 	public Texture getTexture(int id) throws NoSuchElementException {
 		checkIfLoaded();
-		try {
-			return texture.get(id);
-		} catch(Exception e) {
-			NoSuchElementException exception = new NoSuchElementException("Cannot load the given Texture: "+id);
-			exception.initCause(e);
-			throw exception;
-		}
+		return texture.get(Integer.valueOf(id));
 	}
 	
 	/**
@@ -242,7 +344,7 @@ public final class Resources {
 					
 					InputStream stream = null;
 					if(history) {
-						stream = getContext().getAssets().open("level/"+scenarioID);
+						stream = getPlatform().getStorage().openAsset("level/"+scenarioID);
 					} else {
 						File path = Engine.getScenarioStorage();
 						stream = new FileInputStream(new File(path,scenarioID));
@@ -262,25 +364,131 @@ public final class Resources {
 	}
 	
 	/**
-	 * Load the Texture with the given ID into memory.
+	 * Load the Texture with the given ID into memory, following the given {@link DecodeProfile}.
 	 * 
 	 * @param textureID Texture ID
+	 * @param profile Decode Profile of the Texture
 	 * @throws IOException If an error has occurred
 	 */
-	private void textureLoader(int textureID) throws IOException {
-		Engine.debug(TAG, "Load Texture ID: "+textureID);
-		texture.put(textureID, new Texture(getContext().getResources(), textureID));
+	private void textureLoader(int textureID, DecodeProfile profile) throws IOException {
+		Engine.debug(TAG, "Load Texture ID: "+textureID+" "+profile);
+		texture.put(Integer.valueOf(textureID), new Texture(getPlatform().getToolkit().loadImage(textureID, profile)));
 	}
 	
 	/**
-	 * Load the Font with the given ID into memory.
+	 * Decode the Texture with the given ID, and manage its pixels in the given set.
+	 * 
+	 * @param textureID Texture ID
+	 * @param profile Decode Profile of the Texture
+	 * @param set Texture Set from {@link TextureLoader}
+	 */
+	private void textureLoader(final int textureID, final DecodeProfile profile, final int set) {
+		submit(new Pending<Image>() {
+			
+			@Override
+			public Image call() throws IOException {
+				Engine.debug(TAG, "Load Texture ID: "+textureID+" "+profile+" in Set: "+set);
+				return getPlatform().getToolkit().loadImage(textureID, profile);
+			}
+			
+			@Override
+			void register(Image image) {
+				texture.put(Integer.valueOf(textureID), new Texture(residency.add(textureID, profile, set, image)));
+			}
+			
+		});
+	}
+	
+	/**
+	 * Decode the sprite with the given ID, for the given {@link TextureAtlas}.
+	 * 
+	 * @param atlas Texture Atlas which will contain the sprite
+	 * @param textureID Texture ID
+	 */
+	private void spriteLoader(final TextureAtlas atlas, final int textureID) {
+		submit(new Pending<Image>() {
+			
+			@Override
+			public Image call() throws IOException {
+				Engine.debug(TAG, "Load Sprite ID: "+textureID);
+				return getPlatform().getToolkit().loadImage(textureID);
+			}
+			
+			@Override
+			void register(Image image) {
+				atlas.add(textureID, image);
+			}
+			
+		});
+	}
+	
+	/**
+	 * Load the Font with the given ID.
 	 * 
 	 * @param fontID Font ID
-	 * @throws IOException If an error has occurred
 	 */
-	private void fontLoader(int fontID) throws IOException {	
-		Engine.debug(TAG, "Load Font ID: "+fontID);
-		font.put(fontID, Typeface.createFromAsset(getContext().getAssets(), getContext().getString(fontID)));
+	private void fontLoader(final int fontID) {
+		submit(new Pending<Typeface>() {
+			
+			@Override
+			public Typeface call() throws IOException {
+				Engine.debug(TAG, "Load Font ID: "+fontID);
+				return getPlatform().getToolkit().loadTypeface(fontID);
+			}
+			
+			@Override
+			void register(Typeface typeface) {
+				font.put(Integer.valueOf(fontID), typeface);
+			}
+			
+		});
+	}
+	
+	/**
+	 * Give a Resource to the worker Threads.
+	 * 
+	 * @param resource Resource to decode
+	 */
+	private void submit(Pending<?> resource) {
+		resource.submit(workers);
+		pending.add(resource);
+	}
+	
+	/**
+	 * Register every submitted Resource in order, as soon as it is decoded, then stop the worker Threads.
+	 * 
+	 * @throws IOException If a Resource cannot be decoded
+	 */
+	private void await() throws IOException {
+		try {
+			
+			int total = pending.size();
+			
+			for(int i = 0; i < total; i++) {
+				
+				pending.get(i).complete();
+				
+				LoadingListener listener = this.listener;
+				
+				if(listener != null) {
+					listener.onProgress(i + 1, total);
+				}
+			}
+			
+		} finally {
+			workers.shutdownNow();
+			workers = null;
+			pending.clear();
+		}
+	}
+	
+	/**
+	 * Number of worker Threads used by load(): one per core, within {@link Resources#MAX_WORKERS}.
+	 * 
+	 * @return Number of worker Threads
+	 */
+	private static int getWorkerCount() {
+		return Math.max(1, Math.min(Runtime.getRuntime().availableProcessors(), MAX_WORKERS));
 	}
 	
 	/**
@@ -308,12 +516,70 @@ public final class Resources {
 	}
 
 	/**
-	 * Retrieve the Android Context.
+	 * Retrieve the Platform.
 	 * 
-	 * @return Android Context
+	 * @return Platform
 	 */
-	public Context getContext() {
-		return context;
+	public Platform getPlatform() {
+		return platform;
 	}
 	
+	/**
+	 * <p>
+	 * A Resource decoded by a worker Thread, then registered by the loading Thread.
+	 * 
+	 * @param <T> Decoded Resource
+	 */
+	private static abstract class Pending<T> implements Callable<T> {
+		
+		private Future<T> future;
+		
+		/**
+		 * Start decoding the Resource.
+		 * 
+		 * @param workers Worker Threads
+		 */
+		void submit(ExecutorService workers) {
+			future = workers.submit(this);
+		}
+
+		/**
+		 * Wait for the Resource and register it.
+		 * 
+		 * @throws IOException If the Resource cannot be decoded
+		 */
+		void complete() throws IOException {
+			
+			T resource;
+			
+			try {
+				resource = future.get();
+			} catch(InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new InterruptedIOException("Interrupted while loading Resources");
+			} catch(ExecutionException e) {
+				
+				if(e.getCause() instanceof IOException) {
+					throw (IOException) e.getCause();
+				}
+				
+				// IOException(String, Throwable) is not available before Android 2.3
+				IOException exception = new IOException("Cannot load a Resource");
+				exception.initCause(e.getCause());
+				
+				throw exception;
+			}
+			
+			register(resource);
+		}
+		
+		/**
+		 * Register the decoded Resource.
+		 * 
+		 * @param resource Decoded Resource
+		 */
+		abstract void register(T resource);
+		
+	}
+
 }
@@ -0,0 +1,189 @@
+/*****************************************************************************
+ * 
+ * Copyright 2012-2013 See AUTHORS file.
+ * 
+ * This file is part of Escape-IR.
+ * 
+ * Escape-IR is free software: you can redistribute it and/or modify
+ * it under the terms of the zlib license. See the COPYING file.
+ * 
+ *****************************************************************************/
+
+package fr.escape.resources;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+import fr.escape.Objects;
+import fr.escape.app.Engine;
+import fr.escape.app.Toolkit;
+import fr.escape.graphics.Image;
+import fr.escape.graphics.Texture;
+
+/**
+ * <p>
+ * Pack small sprites into a few large atlas {@link Image}.
+ * 
+ * <p>
+ * Sprites are sorted by height and placed on shelves, from left to right and top to bottom,
+ * with a transparent padding between them. When a page is full, a new one is started.
+ * Each page is only as high as its content.
+ * 
+ * <p>
+ * Each sprite becomes a {@link Texture} region of its page, registered with its {@link TextureLoader} ID.
+ * 
+ * @see Toolkit#createAtlas(Image[], int[], int[], int, int)
+ */
+final class TextureAtlas {
+	
+	/**
+	 * Atlas Configuration
+	 */
+	static final int PAGE_SIZE = 512;
+	static final int PADDING = 2;
+	
+	private final Toolkit toolkit;
+	private final List<Sprite> sprites;
+	
+	/**
+	 * Default Constructor
+	 * 
+	 * @param toolkit Toolkit which creates the pages
+	 */
+	TextureAtlas(Toolkit toolkit) {
+		this.toolkit = Objects.requireNonNull(toolkit);
+		this.sprites = new ArrayList<Sprite>();
+	}
+	
+	/**
+	 * Add a sprite in the next {@link TextureAtlas#pack(Map)}.
+	 * 
+	 * @param id Texture ID
+	 * @param image Decoded sprite
+	 * @throws IllegalArgumentException If the sprite is larger than a page
+	 */
+	void add(int id, Image image) {
+		
+		Objects.requireNonNull(image);
+		
+		if(image.getWidth() + PADDING > PAGE_SIZE || image.getHeight() + PADDING > PAGE_SIZE) {
+			throw new IllegalArgumentException("Sprite too large for the atlas: "+id);
+		}
+		
+		sprites.add(new Sprite(id, image));
+	}
+	
+	/**
+	 * Pack every added sprite and put their {@link Texture} in the given Map.
+	 * 
+	 * @param textures Texture Map, by Texture ID
+	 * @throws IOException If a page cannot be created
+	 */
+	void pack(Map<Integer, Texture> textures) throws IOException {
+		
+		Collections.sort(sprites, new Comparator<Sprite>() {
+			
+			@Override
+			public int compare(Sprite a, Sprite b) {
+				return b.image.getHeight() - a.image.getHeight();
+			}
+			
+		});
+		
+		int first = 0;
+		int x = 0;
+		int y = 0;
+		int shelf = 0;
+		
+		for(int i = 0; i < sprites.size(); i++) {
+			
+			Sprite sprite = sprites.get(i);
+			int width = sprite.image.getWidth() + PADDING;
+			int height = sprite.image.getHeight() + PADDING;
+			
+			// Next Shelf
+			if(x + width > PAGE_SIZE) {
+				x = 0;
+				y += shelf;
+				shelf = 0;
+			}
+			
+			// Next Page
+			if(y + height > PAGE_SIZE) {
+				createPage(textures, first, i, y + shelf);
+				first = i;
+				x = 0;
+				y = 0;
+				shelf = 0;
+			}
+			
+			sprite.x = x;
+			sprite.y = y;
+			
+			x += width;
+			shelf = Math.max(shelf, height);
+		}
+		
+		if(first < sprites.size()) {
+			createPage(textures, first, sprites.size(), y + shelf);
+		}
+		
+		sprites.clear();
+	}
+	
+	/**
+	 * Create a page with the placed sprites in [from, to[.
+	 * 
+	 * @param textures Texture Map, by Texture ID
+	 * @param from First sprite
+	 * @param to Last sprite (excluded)
+	 * @param height Page height
+	 * @throws IOException If the page cannot be created
+	 */
+	private void createPage(Map<Integer, Texture> textures, int from, int to, int height) throws IOException {
+		
+		int count = to - from;
+		
+		Image[] images = new Image[count];
+		int[] x = new int[count];
+		int[] y = new int[count];
+		
+		for(int i = 0; i < count; i++) {
+			Sprite sprite = sprites.get(from + i);
+			images[i] = sprite.image;
+			x[i] = sprite.x;
+			y[i] = sprite.y;
+		}
+		
+		Image page = toolkit.createAtlas(images, x, y, PAGE_SIZE, height);
+		
+		for(int i = 0; i < count; i++) {
+			Sprite sprite = sprites.get(from + i);
+			textures.put(Integer.valueOf(sprite.id), new Texture(page, x[i], y[i], images[i].getWidth(), images[i].getHeight()));
+		}
+		
+		Engine.debug(Resources.TAG, "Atlas page "+PAGE_SIZE+"x"+height+" with "+count+" sprites");
+	}
+	
+	/**
+	 * A sprite and its position in its page.
+	 */
+	private static final class Sprite {
+		
+		final int id;
+		final Image image;
+		int x;
+		int y;
+		
+		Sprite(int id, Image image) {
+			this.id = id;
+			this.image = image;
+		}
+		
+	}
+
+}
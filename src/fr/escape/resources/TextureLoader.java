@@ -18,9 +18,24 @@ import fr.escape.graphics.Texture;
  * <p>
  * A {@link ResourcesLoader} for {@link Texture}.
  * 
+ * <p>
+ * Large Textures are grouped in sets, loaded together when a Screen which uses them is shown.
+ * 
+ * @see Resources#require(int)
  */
 public abstract class TextureLoader {
 	
+	/**
+	 * Texture Sets: the common set is always in memory.
+	 */
+	public static final int SET_COMMON = 0;
+	public static final int SET_MENU = 1;
+	public static final int SET_JUPITER = 2;
+	public static final int SET_MOON = 3;
+	public static final int SET_EARTH = 4;
+	public static final int SET_ENDING = 5;
+	public static final int SET_ERROR = 6;
+	
 	public static final int BACKGROUND_ERROR = R.drawable.berror;
 	public static final int BACKGROUND_LOST = R.drawable.blost;
 	public static final int BACKGROUND_MENU = R.drawable.bmenu;
@@ -79,7 +94,6 @@ public abstract class TextureLoader {
 	public static final int MENU_UI_BUTTON_CUSTOM = R.drawable.muibcustom;
 	public static final int MENU_UI_BUTTON_BUILDER = R.drawable.muibbuilder;
 	public static final int MENU_UI_LIST_ITEM = R.drawable.muilitem;
-	public static final int OVERLAY_STAR = R.drawable.ostar;
 	
 	public static final int INTRO_JUPITER = R.drawable.ijupiter;
 	public static final int INTRO_MOON = R.drawable.imoon;
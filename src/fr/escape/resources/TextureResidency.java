@@ -0,0 +1,235 @@
+/*****************************************************************************
+ * 
+ * Copyright 2012-2013 See AUTHORS file.
+ * 
+ * This file is part of Escape-IR.
+ * 
+ * Escape-IR is free software: you can redistribute it and/or modify
+ * it under the terms of the zlib license. See the COPYING file.
+ * 
+ *****************************************************************************/
+
+package fr.escape.resources;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import fr.escape.Objects;
+import fr.escape.app.DecodeProfile;
+import fr.escape.app.Engine;
+import fr.escape.app.Toolkit;
+import fr.escape.graphics.Image;
+import fr.escape.graphics.ManagedImage;
+
+/**
+ * <p>
+ * Keep the pixels of large Textures in memory within a budget.
+ * 
+ * <p>
+ * Each Texture belongs to a set, required when a Screen which uses it is shown. When the
+ * resident pixels use more memory than the budget, the least recently used Textures outside
+ * of the common set and of the last required set are released. A released Texture is decoded
+ * again the next time it is drawn.
+ * 
+ * <p>
+ * Textures are used by the Engine Thread, but may be released by any Thread: a Texture already
+ * recorded for drawing keeps its pixels until it is drawn.
+ * 
+ * <p>
+ * <em>This class is Thread-Safe</em>
+ * 
+ * @see TextureLoader#SET_COMMON
+ */
+final class TextureResidency {
+	
+	private final Toolkit toolkit;
+	private final List<Entry> entries;
+	private final int budget;
+	
+	private int size;
+	private int current;
+	private long clock;
+	
+	/**
+	 * Default Constructor
+	 * 
+	 * @param toolkit Toolkit which decodes the Textures
+	 * @param budget Memory budget for resident pixels, in bytes
+	 */
+	TextureResidency(Toolkit toolkit, int budget) {
+		
+		if(budget < 0) {
+			throw new IllegalArgumentException("Budget must be positive");
+		}
+		
+		this.toolkit = Objects.requireNonNull(toolkit);
+		this.entries = new ArrayList<Entry>();
+		this.budget = budget;
+		this.size = 0;
+		this.current = TextureLoader.SET_COMMON;
+		this.clock = 0;
+	}
+	
+	/**
+	 * Manage the pixels of a decoded Texture from now on.
+	 * 
+	 * @param id Texture ID
+	 * @param profile Decode Profile of the Texture
+	 * @param set Set of the Texture
+	 * @param image Pixels decoded with the given profile
+	 * @return Image which pixels are managed
+	 */
+	synchronized ManagedImage add(int id, DecodeProfile profile, int set, Image image) {
+		
+		Entry entry = new Entry(id, profile, set, Objects.requireNonNull(image));
+		
+		entries.add(entry);
+		size += entry.bytes;
+		
+		return entry;
+	}
+	
+	/**
+	 * Load every Texture of the given set, and release the least recently used others
+	 * if the budget is exceeded.
+	 * 
+	 * @param set Set required by the next Screen
+	 */
+	synchronized void require(int set) {
+		
+		current = set;
+		
+		for(int i = 0; i < entries.size(); i++) {
+			
+			Entry entry = entries.get(i);
+			
+			if(entry.set == set) {
+				entry.getPixels();
+			}
+		}
+		
+		trim(budget);
+	}
+	
+	/**
+	 * Release the least recently used Textures until the resident pixels use at most the given
+	 * memory, or only the common set and the last required set are left.
+	 * 
+	 * @param limit Memory limit in bytes
+	 */
+	synchronized void trim(int limit) {
+		
+		while(size > limit) {
+			
+			Entry oldest = null;
+			
+			for(int i = 0; i < entries.size(); i++) {
+				
+				Entry entry = entries.get(i);
+				
+				if(entry.image != null && entry.set != TextureLoader.SET_COMMON && entry.set != current &&
+						(oldest == null || entry.used < oldest.used)) {
+					oldest = entry;
+				}
+			}
+			
+			if(oldest == null) {
+				break;
+			}
+			
+			Engine.debug(Resources.TAG, "Release Texture ID: "+oldest.id);
+			
+			oldest.image = null;
+			size -= oldest.bytes;
+		}
+	}
+	
+	/**
+	 * @return Memory used by the resident pixels, in bytes
+	 */
+	synchronized int getSize() {
+		return size;
+	}
+	
+	/**
+	 * <p>
+	 * A Texture which pixels are managed.
+	 * 
+	 * <p>
+	 * Its memory is estimated from its size and profile: 2 bytes per pixel if opaque, 4 otherwise.
+	 * 
+	 */
+	private final class Entry implements ManagedImage {
+		
+		private final int id;
+		private final DecodeProfile profile;
+		private final int set;
+		private final int width;
+		private final int height;
+		private final int bytes;
+		
+		private Image image;
+		private long used;
+		
+		Entry(int id, DecodeProfile profile, int set, Image image) {
+			this.id = id;
+			this.profile = profile;
+			this.set = set;
+			this.image = image;
+			this.width = image.getWidth();
+			this.height = image.getHeight();
+			this.bytes = width * height * (profile.isOpaque() ? 2 : 4);
+			this.used = ++clock;
+		}
+		
+		@Override
+		public int getWidth() {
+			return width;
+		}
+		
+		@Override
+		public int getHeight() {
+			return height;
+		}
+		
+		@Override
+		public Image getPixels() {
+			
+			synchronized(TextureResidency.this) {
+				
+				if(image == null) {
+					reload();
+				}
+			
+				used = ++clock;
+			
+				return image;
+			}
+		}
+		
+		/**
+		 * Decode the released pixels again.
+		 * 
+		 * @throws IllegalStateException If the Texture cannot be decoded anymore
+		 */
+		private void reload() {
+			
+			Engine.debug(Resources.TAG, "Reload Texture ID: "+id);
+			
+			try {
+				image = toolkit.loadImage(id, profile);
+			} catch(IOException e) {
+				throw new IllegalStateException("Cannot reload Texture ID: "+id, e);
+			}
+			
+			if(image.getWidth() != width || image.getHeight() != height) {
+				Engine.log(Resources.TAG, "Texture ID: "+id+" reloaded with another size");
+			}
+			
+			size += bytes;
+		}
+		
+	}
+
+}